@@ -19,9 +19,11 @@ import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -92,6 +94,7 @@ import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.TextAnnotation;
 import org.flowable.bpmn.model.Transaction;
 import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.flowable.engine.common.api.io.ValidatingXMLStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -107,6 +110,8 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static final String BPMN_XSD = "org/flowable/impl/bpmn/parser/BPMN20.xsd";
     protected static final String DEFAULT_ENCODING = "UTF-8";
 
+    protected static final Map<ClassLoader, Schema> SCHEMA_CACHE = Collections.synchronizedMap(new WeakHashMap<ClassLoader, Schema>());
+
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<String, BaseBpmnXMLConverter>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<Class<? extends BaseElement>, BaseBpmnXMLConverter>();
 
@@ -208,19 +213,33 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
     }
 
     public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
+    /**
+     * Returns the compiled BPMN XSD for the configured classloader. Compiling the schema is expensive and a {@link Schema} is
+     * thread-safe, so it is compiled once per classloader and shared by all converter instances.
+     */
+    protected Schema getSchema() throws SAXException {
+        ClassLoader schemaClassLoader = classloader != null ? classloader : BpmnXMLConverter.class.getClassLoader();
+        Schema schema = SCHEMA_CACHE.get(schemaClassLoader);
+        if (schema == null) {
+            schema = createSchema();
+            SCHEMA_CACHE.put(schemaClassLoader, schema);
+        }
+        return schema;
+    }
+
     protected Schema createSchema() throws SAXException {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = null;
@@ -262,26 +281,18 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
             in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
             XMLStreamReader xtr = xif.createXMLStreamReader(in);
 
-            try {
-                if (validateSchema) {
-
-                    if (!enableSafeBpmnXml) {
-                        validateModel(inputStreamProvider);
-                    } else {
-                        validateModel(xtr);
-                    }
-
-                    // The input stream is closed after schema validation
-                    in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-                    xtr = xif.createXMLStreamReader(in);
-                }
+            if (!validateSchema) {
+                return convertToBpmnModel(xtr);
+            }
 
+            // Validate while converting, so the input is only read once
+            ValidatingXMLStreamReader validatingXtr;
+            try {
+                validatingXtr = new ValidatingXMLStreamReader(xtr, getSchema());
             } catch (Exception e) {
                 throw new XMLException(e.getMessage(), e);
             }
-
-            // XML conversion
-            return convertToBpmnModel(xtr);
+            return validateAndConvertToBpmnModel(validatingXtr);
         } catch (UnsupportedEncodingException e) {
             throw new XMLException("The bpmn 2.0 xml is not UTF8 encoded", e);
         } catch (XMLStreamException e) {
@@ -297,6 +308,28 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         }
     }
 
+    protected BpmnModel validateAndConvertToBpmnModel(ValidatingXMLStreamReader xtr) {
+        BpmnModel model = null;
+        try {
+            model = convertToBpmnModel(xtr);
+        } catch (XMLException e) {
+            // schema errors take precedence, as they are the likely cause of any conversion error
+            xtr.finishValidation();
+            throwIfInvalid(xtr);
+            throw e;
+        }
+        xtr.finishValidation();
+        throwIfInvalid(xtr);
+        return model;
+    }
+
+    protected void throwIfInvalid(ValidatingXMLStreamReader xtr) {
+        SAXException validationException = xtr.getValidationException();
+        if (validationException != null) {
+            throw new XMLException(validationException.getMessage(), validationException);
+        }
+    }
+
     public BpmnModel convertToBpmnModel(XMLStreamReader xtr) {
         BpmnModel model = new BpmnModel();
         model.setStartEventFormTypes(startEventFormTypes);
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class SchemaValidationConverterTest {
+
+    @Test
+    public void testValidModel() {
+        BpmnModel bpmnModel = new BpmnXMLConverter().convertToBpmnModel(getInputStreamProvider("validation/valid.bpmn"), true, false);
+        assertNotNull(bpmnModel.getMainProcess().getFlowElement("serviceTask"));
+    }
+
+    @Test
+    public void testInvalidModel() throws Exception {
+        assertValidationError("validation/invalid.bpmn");
+    }
+
+    @Test
+    public void testInvalidModelWithConversionError() throws Exception {
+        // the schema error comes before the invalid mapException and is reported instead of the conversion error
+        assertValidationError("validation/invalidWithConversionError.bpmn");
+    }
+
+    @Test
+    public void testInvalidModelAfterConversionError() throws Exception {
+        // the conversion stops at the invalid mapException, the schema error in the remainder of the document is still found
+        assertValidationError("validation/invalidAfterConversionError.bpmn");
+    }
+
+    @Test
+    public void testConversionErrorWithoutValidation() {
+        try {
+            new BpmnXMLConverter().convertToBpmnModel(getInputStreamProvider("validation/invalidAfterConversionError.bpmn"), false, false);
+            fail("Expected xml exception");
+        } catch (XMLException e) {
+            assertTrue(e.getMessage().contains("is not valid boolean"));
+        }
+    }
+
+    @Test
+    public void testSchemaSharedBetweenConverters() throws Exception {
+        Schema schema = new TestBpmnXMLConverter().getSchema();
+        assertNotNull(schema);
+        assertSame(schema, new TestBpmnXMLConverter().getSchema());
+    }
+
+    protected void assertValidationError(String resource) throws Exception {
+        String expectedMessage = null;
+        try {
+            new BpmnXMLConverter().validateModel(getInputStreamProvider(resource));
+            fail("Expected validation error");
+        } catch (SAXException e) {
+            expectedMessage = e.getMessage();
+            assertTrue(expectedMessage.contains("invalidElement"));
+        }
+
+        try {
+            new BpmnXMLConverter().convertToBpmnModel(getInputStreamProvider(resource), true, false);
+            fail("Expected xml exception");
+        } catch (XMLException e) {
+            assertEquals(expectedMessage, e.getMessage());
+        }
+    }
+
+    protected InputStreamProvider getInputStreamProvider(final String resource) {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return SchemaValidationConverterTest.class.getClassLoader().getResourceAsStream(resource);
+            }
+        };
+    }
+
+    protected static class TestBpmnXMLConverter extends BpmnXMLConverter {
+
+        @Override
+        public Schema getSchema() throws SAXException {
+            return super.getSchema();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.flowable.engine.common.api.io.ValidatingXMLStreamReader;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ValidatingXMLStreamReaderTest {
+
+    protected static final String SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+            + "<xs:element name=\"root\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"value\" type=\"xs:int\" maxOccurs=\"unbounded\"/>"
+            + "</xs:sequence></xs:complexType></xs:element>"
+            + "</xs:schema>";
+
+    protected Schema schema;
+
+    @Before
+    public void createSchema() throws Exception {
+        schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(new StringReader(SCHEMA)));
+    }
+
+    @Test
+    public void testValidDocument() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root><value>1</value><value>2</value></root>");
+        while (reader.hasNext()) {
+            reader.next();
+        }
+        assertNull(reader.getValidationException());
+    }
+
+    @Test
+    public void testInvalidDocument() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root><value>1</value><other/></root>");
+        try {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            fail("Expected validation error");
+        } catch (XMLStreamException e) {
+            assertNotNull(reader.getValidationException());
+            assertSame(reader.getValidationException(), e.getNestedException());
+            assertTrue(e.getMessage().contains("other"));
+        }
+    }
+
+    @Test
+    public void testFinishValidation() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root><value>1</value><value>2</value><value>three</value></root>");
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("root", reader.getLocalName());
+        assertNull(reader.getValidationException());
+
+        // the invalid value is only found when reading the remainder of the document
+        reader.finishValidation();
+        assertNotNull(reader.getValidationException());
+        assertTrue(reader.getValidationException().getMessage().contains("three"));
+    }
+
+    @Test
+    public void testFinishValidationOfValidDocument() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root><value>1</value><value>2</value></root>");
+        reader.nextTag();
+
+        reader.finishValidation();
+        assertNull(reader.getValidationException());
+        assertEquals(XMLStreamConstants.END_DOCUMENT, reader.getEventType());
+    }
+
+    @Test
+    public void testNextTagIsValidated() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root>\n  <other/>\n</root>");
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        try {
+            reader.nextTag();
+            fail("Expected validation error");
+        } catch (XMLStreamException e) {
+            assertNotNull(reader.getValidationException());
+            assertTrue(e.getMessage().contains("other"));
+        }
+    }
+
+    @Test
+    public void testGetElementTextIsValidated() throws Exception {
+        ValidatingXMLStreamReader reader = createReader("<root>\n  <value>1</value>\n  <value>three</value>\n</root>");
+        reader.nextTag();
+        reader.nextTag();
+        assertEquals("1", reader.getElementText());
+        assertEquals(XMLStreamConstants.END_ELEMENT, reader.getEventType());
+        assertNull(reader.getValidationException());
+
+        reader.nextTag();
+        try {
+            reader.getElementText();
+            fail("Expected validation error");
+        } catch (XMLStreamException e) {
+            assertNotNull(reader.getValidationException());
+            assertTrue(e.getMessage().contains("three"));
+        }
+    }
+
+    protected ValidatingXMLStreamReader createReader(String xml) throws Exception {
+        return new ValidatingXMLStreamReader(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)), schema);
+    }
+}
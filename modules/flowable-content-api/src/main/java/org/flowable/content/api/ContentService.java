@@ -27,6 +27,16 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * Reads a range of the data of a content item. When the content storage supports it, the bytes in front of the range are not read.
+     * 
+     * @param offset
+     *            position of the first byte to read
+     * @param length
+     *            maximum number of bytes to read, a negative value reads up to the end of the content
+     */
+    InputStream getContentItemData(String contentItemId, long offset, long length);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
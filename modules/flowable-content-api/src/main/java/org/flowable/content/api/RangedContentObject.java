@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.api;
+
+import java.io.InputStream;
+
+/**
+ * {@link ContentObject} that can serve a part of its content without reading the bytes in front of it.
+ */
+public interface RangedContentObject extends ContentObject {
+
+    /**
+     * @param offset
+     *            position of the first byte to read
+     * @param length
+     *            maximum number of bytes to read, a negative value reads up to the end of the content
+     * @return a new {@link InputStream} for the requested range. Caller should close the inputstream after usage.
+     */
+    InputStream getContent(long offset, long length);
+}
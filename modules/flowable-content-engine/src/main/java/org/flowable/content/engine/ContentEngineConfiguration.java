@@ -39,6 +39,7 @@ import org.flowable.content.engine.impl.cfg.StandaloneInMemContentEngineConfigur
 import org.flowable.content.engine.impl.cfg.TransactionListener;
 import org.flowable.content.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.content.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.content.engine.impl.fs.ShardedFileSystemContentStorage;
 import org.flowable.content.engine.impl.fs.SimpleFileSystemContentStorage;
 import org.flowable.content.engine.impl.interceptor.CommandContext;
 import org.flowable.content.engine.impl.interceptor.CommandContextFactory;
@@ -112,6 +113,12 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration {
     protected String contentRootFolder;
     protected boolean createContentRootFolder = true;
 
+    /**
+     * When set to a value between 1 and 4, a {@link ShardedFileSystemContentStorage} with this number of folder levels is used instead of the {@link SimpleFileSystemContentStorage}. Note that content
+     * stored by one of these storages can't be read by the other one.
+     */
+    protected int contentStorageShardDepth = -1;
+
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected ContentItemEntityManager contentItemEntityManager;
     protected TableDataManager tableDataManager;
@@ -230,7 +237,11 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration {
                 logger.info("Content file system root : {}", contentRootFile.getAbsolutePath());
             }
 
-            contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            if (contentStorageShardDepth > 0) {
+                contentStorage = new ShardedFileSystemContentStorage(contentRootFile, contentStorageShardDepth);
+            } else {
+                contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            }
         }
     }
 
@@ -642,6 +653,15 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public int getContentStorageShardDepth() {
+        return contentStorageShardDepth;
+    }
+
+    public ContentEngineConfiguration setContentStorageShardDepth(int contentStorageShardDepth) {
+        this.contentStorageShardDepth = contentStorageShardDepth;
+        return this;
+    }
+
     public CommandContextFactory getCommandContextFactory() {
         return commandContextFactory;
     }
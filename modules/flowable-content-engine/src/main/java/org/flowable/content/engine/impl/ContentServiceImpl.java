@@ -44,6 +44,10 @@ public class ContentServiceImpl extends ServiceImpl implements ContentService {
         return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId));
     }
 
+    public InputStream getContentItemData(String contentItemId, long offset, long length) {
+        return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId, offset, length));
+    }
+
     public void deleteContentItem(String contentItemId) {
         commandExecutor.execute(new DeleteContentItemCmd(contentItemId));
     }
@@ -12,12 +12,17 @@
  */
 package org.flowable.content.engine.impl.cmd;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.api.RangedContentObject;
 import org.flowable.content.engine.impl.interceptor.Command;
 import org.flowable.content.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
@@ -31,15 +36,26 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
     private static final long serialVersionUID = 1L;
 
     protected String contentItemId;
+    protected long offset;
+    protected long length = -1;
 
     public GetContentItemStreamCmd(String contentItemId) {
         this.contentItemId = contentItemId;
     }
 
+    public GetContentItemStreamCmd(String contentItemId, long offset, long length) {
+        this.contentItemId = contentItemId;
+        this.offset = offset;
+        this.length = length;
+    }
+
     public InputStream execute(CommandContext commandContext) {
         if (contentItemId == null) {
             throw new FlowableIllegalArgumentException("contentItemId is null");
         }
+        if (offset < 0) {
+            throw new FlowableIllegalArgumentException("offset is negative");
+        }
 
         ContentItem contentItem = commandContext.getContentItemEntityManager().findById(contentItemId);
         if (contentItem == null) {
@@ -48,7 +64,23 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
 
         ContentStorage contentStorage = commandContext.getContentEngineConfiguration().getContentStorage();
         ContentObject contentObject = contentStorage.getContentObject(contentItem.getContentStoreId());
-        return contentObject.getContent();
+        if (offset == 0 && length < 0) {
+            return contentObject.getContent();
+        }
+
+        if (contentObject instanceof RangedContentObject) {
+            return ((RangedContentObject) contentObject).getContent(offset, length);
+        }
+
+        // Storage can't read ranges, skip the bytes in front of the range instead
+        InputStream contentStream = contentObject.getContent();
+        try {
+            IOUtils.skipFully(contentStream, offset);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(contentStream);
+            throw new ContentStorageException("Error while skipping to offset " + offset + " of content item " + contentItemId, e);
+        }
+        return length >= 0 ? new BoundedInputStream(contentStream, length) : contentStream;
     }
 
 }
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.api.RangedContentObject;
+
+/**
+ * {@link FileSystemContentObject} that reads its file through a {@link FileChannel}, allowing ranges of the content to be read without copying the bytes in front of them.
+ */
+public class NioFileSystemContentObject extends FileSystemContentObject implements RangedContentObject {
+
+    protected Path path;
+
+    public NioFileSystemContentObject(Path path, String id) {
+        super(path.toFile(), id);
+        this.path = path;
+    }
+
+    public NioFileSystemContentObject(Path path, String id, Long length) {
+        super(path.toFile(), id, length);
+        this.path = path;
+    }
+
+    @Override
+    public InputStream getContent(long offset, long length) {
+        FileChannel channel = openChannel();
+        try {
+            channel.position(offset);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new ContentStorageException("Error while positioning file channel of " + path, e);
+        }
+
+        InputStream inputStream = Channels.newInputStream(channel);
+        if (length >= 0) {
+            return new BoundedInputStream(inputStream, length);
+        }
+        return inputStream;
+    }
+
+    protected FileChannel openChannel() {
+        try {
+            return FileChannel.open(path, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found (path: " + path + ")");
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while opening file channel of " + path, e);
+        }
+    }
+
+    protected void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing to do, the channel was only read from
+        }
+    }
+
+}
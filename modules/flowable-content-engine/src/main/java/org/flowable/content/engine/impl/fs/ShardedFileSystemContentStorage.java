@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+
+import com.fasterxml.uuid.EthernetAddress;
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedGenerator;
+
+/**
+ * {@link ContentStorage} that spreads content over a fixed fan-out of folders, derived from a hash of the content id, so no single folder grows with the number of tasks or process instances.
+ * 
+ * Content is written through a {@link FileChannel} into a temporary file next to its target and atomically moved in place once complete, so readers never see partially written content. The returned
+ * {@link ContentObject}s support reading ranges of the content.
+ * 
+ * The passed metadata is not used to determine the location of the content.
+ */
+public class ShardedFileSystemContentStorage implements ContentStorage {
+
+    private static TimeBasedGenerator UUID_GENERATOR = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Maximum number of bytes handed to a single {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} call.
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    protected Path rootFolder;
+    protected int shardDepth;
+
+    /**
+     * @param contentFolderRoot
+     *            root folder where all content will be stored in
+     * @param shardDepth
+     *            number of nested folder levels, each level fans out into 256 folders. Must be between 1 and 4.
+     */
+    public ShardedFileSystemContentStorage(File contentFolderRoot, int shardDepth) {
+        if (shardDepth < 1 || shardDepth > 4) {
+            throw new IllegalArgumentException("Shard depth should be between 1 and 4: " + shardDepth);
+        }
+        this.rootFolder = contentFolderRoot.toPath();
+        this.shardDepth = shardDepth;
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        String id = UUID_GENERATOR.generate().toString();
+        Path contentPath = getContentPath(id);
+        long length = writeContent(contentPath, contentStream);
+        return new NioFileSystemContentObject(contentPath, id, length);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        Path contentPath = getExistingContentPath(id);
+        long length = writeContent(contentPath, contentStream);
+        return new NioFileSystemContentObject(contentPath, id, length);
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        return new NioFileSystemContentObject(getExistingContentPath(id), id);
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // This implementation doesn't support metadata
+        return null;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        try {
+            Files.delete(getContentPath(id));
+        } catch (NoSuchFileException e) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found");
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while deleting content with id: " + id, e);
+        }
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return "file";
+    }
+
+    /**
+     * Writes the stream to a temporary file in the target folder and moves it over the target once all content is written.
+     * 
+     * @return the number of bytes written
+     */
+    protected long writeContent(Path contentPath, InputStream contentStream) {
+        Path tempPath = null;
+        try {
+            Path folder = contentPath.getParent();
+            Files.createDirectories(folder);
+            tempPath = Files.createTempFile(folder, contentPath.getFileName().toString(), TEMP_SUFFIX);
+
+            long length;
+            try (FileChannel target = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                length = transferFrom(contentStream, target);
+            }
+
+            moveInPlace(tempPath, contentPath);
+            tempPath = null;
+            return length;
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing content to file: " + contentPath, e);
+
+        } finally {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException e) {
+                    // No need to throw, shouldn't cause an error if the temp file cannot be deleted
+                }
+            }
+        }
+    }
+
+    protected long transferFrom(InputStream contentStream, FileChannel target) throws IOException {
+        // A file stream exposes its own channel, allowing the operating system to copy between the files directly
+        ReadableByteChannel source = contentStream instanceof FileInputStream ? ((FileInputStream) contentStream).getChannel() : Channels.newChannel(contentStream);
+
+        long position = 0;
+        long transferred;
+        do {
+            transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE);
+            position += transferred;
+        } while (transferred > 0);
+        return position;
+    }
+
+    protected void moveInPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    protected Path getExistingContentPath(String id) {
+        Path contentPath = getContentPath(id);
+        if (!Files.exists(contentPath)) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found (path: " + contentPath + ")");
+        }
+        return contentPath;
+    }
+
+    protected Path getContentPath(String id) {
+        if (id == null || id.isEmpty() || id.indexOf('/') >= 0 || id.indexOf('\\') >= 0 || id.startsWith(".")) {
+            throw new ContentStorageException("Illegal content id: " + id);
+        }
+
+        int hash = id.hashCode();
+        Path folder = rootFolder;
+        for (int level = 0; level < shardDepth; level++) {
+            folder = folder.resolve(String.format("%02x", (hash >>> (level * 8)) & 0xff));
+        }
+        return folder.resolve(id);
+    }
+
+    public int getShardDepth() {
+        return shardDepth;
+    }
+
+}
@@ -73,4 +73,22 @@ public class ContentItemTest extends AbstractFlowableContentTest {
             fail("Expected not found exception, not " + e);
         }
     }
+
+    @Test
+    public void readContentItemDataRange() throws Exception {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setTaskId("123456");
+        contentService.saveContentItem(contentItem, this.getClass().getClassLoader().getResourceAsStream("test.txt"));
+
+        InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 1, 3);
+        assertEquals("ell", IOUtils.toString(contentStream));
+        contentStream.close();
+
+        contentStream = contentService.getContentItemData(contentItem.getId(), 2, -1);
+        assertEquals("llo", IOUtils.toString(contentStream));
+        contentStream.close();
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
 }
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.engine.impl.fs.NioFileSystemContentObject;
+import org.flowable.content.engine.impl.fs.ShardedFileSystemContentStorage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ShardedFileSystemContentStorageTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    protected ShardedFileSystemContentStorage contentStorage;
+
+    @Before
+    public void createContentStorage() {
+        contentStorage = new ShardedFileSystemContentStorage(temporaryFolder.getRoot(), 2);
+    }
+
+    @Test
+    public void createUpdateAndDeleteContent() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("hello"), Collections.<String, Object> emptyMap());
+        assertEquals(5, contentObject.getContentLength());
+        assertEquals("hello", read(contentStorage.getContentObject(contentObject.getId()).getContent()));
+
+        File contentFile = findContentFile(temporaryFolder.getRoot(), contentObject.getId());
+        assertEquals(2, depth(contentFile));
+
+        ContentObject updatedObject = contentStorage.updateContentObject(contentObject.getId(), stream("hello world"), Collections.<String, Object> emptyMap());
+        assertEquals(contentObject.getId(), updatedObject.getId());
+        assertEquals(11, updatedObject.getContentLength());
+        assertEquals("hello world", read(contentStorage.getContentObject(contentObject.getId()).getContent()));
+
+        // Only the content file remains, the temporary file has been moved in place
+        assertEquals(1, contentFile.getParentFile().listFiles().length);
+
+        contentStorage.deleteContentObject(contentObject.getId());
+        assertFalse(contentFile.exists());
+
+        try {
+            contentStorage.getContentObject(contentObject.getId());
+            fail("Expected not found exception");
+        } catch (ContentNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void readContentRange() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("0123456789"), Collections.<String, Object> emptyMap());
+        NioFileSystemContentObject storedObject = (NioFileSystemContentObject) contentStorage.getContentObject(contentObject.getId());
+
+        assertEquals("345", read(storedObject.getContent(3, 3)));
+        assertEquals("789", read(storedObject.getContent(7, -1)));
+        assertEquals("89", read(storedObject.getContent(8, 10)));
+    }
+
+    @Test
+    public void rejectIllegalIds() {
+        try {
+            contentStorage.getContentObject("../outside");
+            fail("Expected exception for illegal id");
+        } catch (ContentNotFoundException e) {
+            fail("Expected exception for illegal id");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("Illegal content id"));
+        }
+    }
+
+    protected InputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes());
+    }
+
+    protected String read(InputStream inputStream) throws Exception {
+        try {
+            return IOUtils.toString(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    protected File findContentFile(File folder, String id) {
+        for (File file : folder.listFiles()) {
+            if (file.isDirectory()) {
+                File found = findContentFile(file, id);
+                if (found != null) {
+                    return found;
+                }
+            } else if (file.getName().equals(id)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    protected int depth(File file) {
+        int depth = 0;
+        File parent = file.getParentFile();
+        while (!parent.equals(temporaryFolder.getRoot())) {
+            depth++;
+            parent = parent.getParentFile();
+        }
+        return depth;
+    }
+}
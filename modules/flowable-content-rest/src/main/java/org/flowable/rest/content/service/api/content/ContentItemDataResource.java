@@ -14,6 +14,7 @@
 package org.flowable.rest.content.service.api.content;
 
 import java.io.InputStream;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -27,9 +28,9 @@ import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.rest.content.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -54,46 +55,106 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {
-            "Content item" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            "Content item" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested using the Range header, in which case only that part of the content is returned.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item doesn’t have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item doesn’t have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is not within the content of the content item.")
     })
     @RequestMapping(value = "/content-service/content-items/{contentItemId}/data", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
-        InputStream dataStream = contentService.getContentItemData(contentItemId);
-        if (dataStream == null) {
-            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
-        }
-
-        HttpHeaders responseHeaders = new HttpHeaders();
-        MediaType mediaType = null;
+        String contentType = "application/octet-stream";
         if (contentItem.getMimeType() != null) {
             try {
-                mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
+                MediaType.valueOf(contentItem.getMimeType());
+                contentType = contentItem.getMimeType();
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+        HttpRange range = getRequestedRange(request, contentItem);
+        Long contentSize = contentItem.getContentSize();
+
+        InputStream dataStream = null;
+        if (range != null) {
+            long rangeStart = 0;
+            long rangeEnd = 0;
+            try {
+                rangeStart = range.getRangeStart(contentSize);
+                rangeEnd = range.getRangeEnd(contentSize);
+            } catch (IllegalArgumentException e) {
+                rangeStart = contentSize;
+            }
+
+            if (rangeStart >= contentSize || rangeEnd < rangeStart) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentSize);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+
+            long rangeLength = rangeEnd - rangeStart + 1;
+            dataStream = contentService.getContentItemData(contentItemId, rangeStart, rangeLength);
+            if (dataStream != null) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + rangeStart + "-" + rangeEnd + "/" + contentSize);
+                response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(rangeLength));
+            }
+
+        } else {
+            dataStream = contentService.getContentItemData(contentItemId);
+            if (dataStream != null && contentSize != null) {
+                response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentSize));
+            }
+        }
+
+        if (dataStream == null) {
+            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
         }
 
+        response.setContentType(contentType);
+        if (contentSize != null) {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+
+        // Stream the content, to avoid holding large content in memory
         try {
-            return new ResponseEntity<byte[]>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
+            IOUtils.copyLarge(dataStream, response.getOutputStream());
         } catch (Exception e) {
             throw new FlowableException("Error getting content item data " + contentItemId, e);
+        } finally {
+            IOUtils.closeQuietly(dataStream);
         }
     }
 
+    /**
+     * @return the single range requested in the Range header, or null when the whole content should be returned. Multiple ranges are not supported and result in the whole content being returned.
+     */
+    protected HttpRange getRequestedRange(HttpServletRequest request, ContentItem contentItem) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || contentItem.getContentSize() == null) {
+            return null;
+        }
+
+        List<HttpRange> ranges = null;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // An invalid range header is ignored
+            return null;
+        }
+
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "## Save the content item data with an attached file\n\n"
             + "The request should be of type multipart/form-data. There should be a single file-part included with the binary value of the content item.")
     @ApiResponses(value = {
@@ -16,6 +16,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -84,6 +85,9 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
 
             // Check response headers
             assertEquals("application/pdf", response.getEntity().getContentType().getValue());
+            assertEquals("22", response.getFirstHeader(HttpHeaders.CONTENT_LENGTH).getValue());
+            assertEquals("bytes", response.getFirstHeader(HttpHeaders.ACCEPT_RANGES).getValue());
+            assertNull(response.getFirstHeader(HttpHeaders.CONTENT_RANGE));
             assertEquals("This is binary content", IOUtils.toString(response.getEntity().getContent()));
             closeResponse(response);
 
@@ -92,6 +96,56 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null, "12345", null, "test", "test2", binaryContent);
+
+        try {
+            // First and last byte position
+            assertContentItemDataRange(contentItemId, "bytes=0-3", "bytes 0-3/22", "This");
+
+            // Last byte position beyond the content
+            assertContentItemDataRange(contentItemId, "bytes=15-100", "bytes 15-21/22", "content");
+
+            // Suffix range
+            assertContentItemDataRange(contentItemId, "bytes=-7", "bytes 15-21/22", "content");
+
+            // Open-ended range
+            assertContentItemDataRange(contentItemId, "bytes=8-", "bytes 8-21/22", "binary content");
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
+    public void testGetContentItemDataUnsatisfiableRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null, "12345", null, "test", "test2", binaryContent);
+
+        try {
+            HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            httpGet.addHeader(HttpHeaders.RANGE, "bytes=30-40");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertEquals("bytes */22", response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue());
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
+    protected void assertContentItemDataRange(String contentItemId, String range, String expectedContentRange, String expectedContent) throws Exception {
+        HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+        httpGet.addHeader(HttpHeaders.RANGE, range);
+        CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+
+        assertEquals(expectedContentRange, response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue());
+        assertEquals(String.valueOf(expectedContent.length()), response.getFirstHeader(HttpHeaders.CONTENT_LENGTH).getValue());
+        assertEquals("bytes", response.getFirstHeader(HttpHeaders.ACCEPT_RANGES).getValue());
+        assertEquals(expectedContent, IOUtils.toString(response.getEntity().getContent()));
+        closeResponse(response);
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null, "12345", null, "test", "test2");
 
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+/**
+ * Builder for executing one decision for many sets of input variables.
+ * 
+ * A builder instance can be obtained through {@link DmnRuleService#createDecisionBatchExecution()}.
+ * 
+ * The decision is looked up only once for the complete batch, after which it is evaluated for each added map of input variables.
+ */
+public interface DecisionBatchExecutionBuilder {
+
+    /**
+     * The key of the decision to execute, cannot be null.
+     */
+    DecisionBatchExecutionBuilder decisionKey(String decisionKey);
+
+    /**
+     * Only execute the decision of the given parent deployment.
+     */
+    DecisionBatchExecutionBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Only execute the decision of the given tenant.
+     */
+    DecisionBatchExecutionBuilder tenantId(String tenantId);
+
+    /**
+     * Adds one map of input variables to the batch.
+     */
+    DecisionBatchExecutionBuilder addInputVariables(Map<String, Object> inputVariables);
+
+    /**
+     * Adds all given maps of input variables to the batch.
+     */
+    DecisionBatchExecutionBuilder inputVariables(Collection<Map<String, Object>> inputVariables);
+
+    /**
+     * Spreads the evaluations over the given executor service. When a {@link java.util.concurrent.ForkJoinPool} is given, the batch is split up in fork/join
+     * tasks. By default, all evaluations are done on the calling thread.
+     */
+    DecisionBatchExecutionBuilder executorService(ExecutorService executorService);
+
+    /**
+     * The amount of audit information to collect for every evaluation. By default, the audit level of the DMN engine configuration is used.
+     */
+    DecisionBatchExecutionBuilder auditLevel(DecisionExecutionAuditLevel auditLevel);
+
+    /**
+     * Executes the decision for all added input variables.
+     * 
+     * @return one {@link RuleEngineExecutionResult} for every added map of input variables, in the same order
+     * @throws FlowableObjectNotFoundException
+     *             when the decision does not exist.
+     * @throws FlowableException
+     *             when an error occurs while executing the decision.
+     */
+    List<RuleEngineExecutionResult> execute();
+
+}
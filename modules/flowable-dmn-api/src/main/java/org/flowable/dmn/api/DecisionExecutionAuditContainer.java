@@ -37,6 +37,7 @@ public class DecisionExecutionAuditContainer {
     protected Map<String, String> inputVariableTypes;
     protected Map<String, Object> outputVariables;
     protected List<RuleExecutionAuditContainer> ruleExecutions = new ArrayList<RuleExecutionAuditContainer>();
+    protected Map<Integer, RuleExecutionAuditContainer> ruleExecutionsByIndex = new HashMap<Integer, RuleExecutionAuditContainer>();
     protected Boolean failed = Boolean.FALSE;
     protected String exceptionMessage;
 
@@ -90,27 +91,33 @@ public class DecisionExecutionAuditContainer {
     }
 
     public void addRuleEntry() {
-        ruleExecutions.add(new RuleExecutionAuditContainer());
+        addRuleEntry(ruleExecutions.size());
+    }
+
+    public void addRuleEntry(int ruleRowIndex) {
+        RuleExecutionAuditContainer ruleExecution = new RuleExecutionAuditContainer(ruleRowIndex);
+        ruleExecutions.add(ruleExecution);
+        ruleExecutionsByIndex.put(ruleRowIndex, ruleExecution);
     }
 
     public void markRuleEnd(int ruleRowIndex) {
-        ruleExecutions.get(ruleRowIndex).markRuleEnd();
+        getRuleExecution(ruleRowIndex).markRuleEnd();
     }
 
     public void addInputEntry(int ruleRowIndex, String inputEntryId, Boolean executionResult) {
-        ruleExecutions.get(ruleRowIndex).addConditionResult(new ExpressionExecution(inputEntryId, executionResult));
+        getRuleExecution(ruleRowIndex).addConditionResult(new ExpressionExecution(inputEntryId, executionResult));
     }
 
     public void addInputEntry(int ruleRowIndex, String inputEntryId, String exceptionMessage, Boolean executionResult) {
-        ruleExecutions.get(ruleRowIndex).addConditionResult(new ExpressionExecution(inputEntryId, exceptionMessage, executionResult));
+        getRuleExecution(ruleRowIndex).addConditionResult(new ExpressionExecution(inputEntryId, exceptionMessage, executionResult));
     }
 
     public void addOutputEntry(int ruleRowIndex, String outputEntryId, Object executionResult) {
-        ruleExecutions.get(ruleRowIndex).addConclusionResult(new ExpressionExecution(outputEntryId, executionResult));
+        getRuleExecution(ruleRowIndex).addConclusionResult(new ExpressionExecution(outputEntryId, executionResult));
     }
 
     public void addOutputEntry(int ruleRowIndex, String outputEntryId, String exceptionMessage, Object executionResult) {
-        ruleExecutions.get(ruleRowIndex).addConclusionResult(new ExpressionExecution(outputEntryId, exceptionMessage, executionResult));
+        getRuleExecution(ruleRowIndex).addConclusionResult(new ExpressionExecution(outputEntryId, exceptionMessage, executionResult));
     }
 
     public String getDecisionKey() {
@@ -145,6 +152,14 @@ public class DecisionExecutionAuditContainer {
         return ruleExecutions;
     }
 
+    /**
+     * @return the audit of the rule at the given index of the decision table, or null if that rule wasn't audited,
+     *         for example because the rule was skipped by the decision table index.
+     */
+    public RuleExecutionAuditContainer getRuleExecution(int ruleRowIndex) {
+        return ruleExecutionsByIndex.get(ruleRowIndex);
+    }
+
     public String getDmnDeploymentId() {
         return dmnDeploymentId;
     }
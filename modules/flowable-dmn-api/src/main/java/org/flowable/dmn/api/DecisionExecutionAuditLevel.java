@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+/**
+ * The amount of audit information that is collected while executing a decision.
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * No audit trail is created, {@link RuleEngineExecutionResult#getAuditTrail()} returns null. A failed execution is then only logged.
+     */
+    NONE,
+
+    /**
+     * The audit trail contains the input and output variables, the failure state and the rules that matched, without the results of the individual input
+     * and output entries.
+     */
+    SUMMARY,
+
+    /**
+     * The audit trail contains every evaluated rule together with the results of its input and output entries.
+     */
+    FULL
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+/**
+ * Builder for executing a decision.
+ * 
+ * A builder instance can be obtained through {@link DmnRuleService#createDecisionExecution()}.
+ */
+public interface DecisionExecutionBuilder {
+
+    /**
+     * The key of the decision to execute, cannot be null.
+     */
+    DecisionExecutionBuilder decisionKey(String decisionKey);
+
+    /**
+     * Only execute the decision of the given parent deployment.
+     */
+    DecisionExecutionBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Only execute the decision of the given tenant.
+     */
+    DecisionExecutionBuilder tenantId(String tenantId);
+
+    /**
+     * The input variables of the decision.
+     */
+    DecisionExecutionBuilder inputVariables(Map<String, Object> inputVariables);
+
+    /**
+     * The amount of audit information to collect for this execution. By default, the audit level of the DMN engine configuration is used.
+     */
+    DecisionExecutionBuilder auditLevel(DecisionExecutionAuditLevel auditLevel);
+
+    /**
+     * Executes the decision.
+     * 
+     * @return the {@link RuleEngineExecutionResult} for this execution
+     * @throws FlowableObjectNotFoundException
+     *             when the decision does not exist.
+     * @throws FlowableException
+     *             when an error occurs while executing the decision.
+     */
+    RuleEngineExecutionResult execute();
+
+}
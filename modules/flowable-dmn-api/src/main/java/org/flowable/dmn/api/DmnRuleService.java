@@ -92,4 +92,14 @@ public interface DmnRuleService {
      *             when an error occurs while executing the decision.
      */
     RuleEngineExecutionResult executeDecisionByKeyParentDeploymentIdAndTenantId(String decisionKey, String parentDeploymentId, Map<String, Object> inputVariables, String tenantId);
+
+    /**
+     * Create a builder to execute a decision, which allows to set the audit level of the execution.
+     */
+    DecisionExecutionBuilder createDecisionExecution();
+
+    /**
+     * Create a builder to execute a decision for a batch of input variables.
+     */
+    DecisionBatchExecutionBuilder createDecisionBatchExecution();
 }
@@ -21,6 +21,7 @@ import java.util.List;
  */
 public class RuleExecutionAuditContainer {
 
+    protected int ruleIndex;
     protected Date startTime;
     protected Date endTime;
 
@@ -31,6 +32,11 @@ public class RuleExecutionAuditContainer {
         this.startTime = new Date();
     }
 
+    public RuleExecutionAuditContainer(int ruleIndex) {
+        this();
+        this.ruleIndex = ruleIndex;
+    }
+
     public void addConditionResult(ExpressionExecution expressionExecution) {
         conditionResults.add(expressionExecution);
     }
@@ -43,6 +49,14 @@ public class RuleExecutionAuditContainer {
         endTime = new Date();
     }
 
+    public int getRuleIndex() {
+        return ruleIndex;
+    }
+
+    public void setRuleIndex(int ruleIndex) {
+        this.ruleIndex = ruleIndex;
+    }
+
     public Date getStartTime() {
         return startTime;
     }
@@ -26,6 +26,7 @@ import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.DmnManagementService;
 import org.flowable.dmn.api.DmnRepositoryService;
 import org.flowable.dmn.api.DmnRuleService;
@@ -53,9 +54,13 @@ import org.flowable.dmn.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.dmn.engine.impl.interceptor.CommandInvoker;
 import org.flowable.dmn.engine.impl.interceptor.LogInterceptor;
 import org.flowable.dmn.engine.impl.interceptor.TransactionContextInterceptor;
+import org.flowable.dmn.engine.impl.mvel.MvelExecutionContextBuilder;
+import org.flowable.dmn.engine.impl.mvel.MvelParserContextTemplate;
 import org.flowable.dmn.engine.impl.mvel.config.DefaultCustomExpressionFunctionRegistry;
 import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
+import org.flowable.dmn.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntryWeigher;
 import org.flowable.dmn.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
@@ -157,6 +162,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
     protected DeploymentManager deploymentManager;
 
     protected int decisionCacheLimit = -1; // By default, no limit
+    protected long decisionCacheMaxWeight = -1L; // When set, bounds the cache by the estimated weight of the decision tables instead, using a ConcurrentDeploymentCache
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
     // CUSTOM EXPRESSION FUNCTIONS
@@ -165,6 +171,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
     protected CustomExpressionFunctionRegistry postCustomExpressionFunctionRegistry;
     protected Map<String, Method> customExpressionFunctions = new HashMap<String, Method>();
     protected Map<Class<?>, PropertyHandler> customPropertyHandlers = new HashMap<Class<?>, PropertyHandler>();
+    protected MvelParserContextTemplate mvelParserContextTemplate;
 
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
@@ -174,6 +181,19 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
      */
     protected boolean enableSafeDmnXml;
 
+    /**
+     * Set this to true to build hash and interval indexes for the simple input entries (==, &lt;, &lt;=, &gt;, &gt;=) of decision tables at deployment time.
+     * When evaluating a decision table with hit policy FIRST, UNIQUE or ANY, the rules that can't match the input variables are then skipped instead of
+     * being evaluated one by one. Skipped rules are not part of the audit trail.
+     */
+    protected boolean enableDecisionTableIndexing;
+
+    /**
+     * The amount of audit information that is collected when executing a decision, unless another audit level is requested for the execution itself. With
+     * {@link DecisionExecutionAuditLevel#NONE} no audit trail is created at all, which saves the allocations for every evaluated rule and entry.
+     */
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -234,6 +254,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         initDeployers();
         initClock();
         initCustomExpressionFunctions();
+        initCustomPropertyHandlers();
     }
 
     // services
@@ -446,7 +467,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
 
         // Decision cache
         if (decisionCache == null) {
-            if (decisionCacheLimit <= 0) {
+            if (decisionCacheMaxWeight > 0) {
+                decisionCache = new ConcurrentDeploymentCache<DecisionTableCacheEntry>(decisionCacheMaxWeight, new DecisionTableCacheEntryWeigher());
+            } else if (decisionCacheLimit <= 0) {
                 decisionCache = new DefaultDeploymentCache<DecisionTableCacheEntry>();
             } else {
                 decisionCache = new DefaultDeploymentCache<DecisionTableCacheEntry>(decisionCacheLimit);
@@ -522,6 +545,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         if (postCustomExpressionFunctionRegistry != null) {
             customExpressionFunctions.putAll(postCustomExpressionFunctionRegistry.getCustomExpressionMethods());
         }
+
+        if (mvelParserContextTemplate == null) {
+            mvelParserContextTemplate = new MvelParserContextTemplate(customExpressionFunctions);
+        }
+    }
+
+    protected void initCustomPropertyHandlers() {
+        MvelExecutionContextBuilder.registerPropertyHandlers(customPropertyHandlers);
     }
 
     // myBatis SqlSessionFactory
@@ -753,6 +784,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public long getDecisionCacheMaxWeight() {
+        return decisionCacheMaxWeight;
+    }
+
+    public DmnEngineConfiguration setDecisionCacheMaxWeight(long decisionCacheMaxWeight) {
+        this.decisionCacheMaxWeight = decisionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<DecisionTableCacheEntry> getDecisionCache() {
         return decisionCache;
     }
@@ -916,6 +956,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableDecisionTableIndexing() {
+        return enableDecisionTableIndexing;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableIndexing(boolean enableDecisionTableIndexing) {
+        this.enableDecisionTableIndexing = enableDecisionTableIndexing;
+        return this;
+    }
+
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
         return this;
@@ -948,6 +1006,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public MvelParserContextTemplate getMvelParserContextTemplate() {
+        return mvelParserContextTemplate;
+    }
+
+    public DmnEngineConfiguration setMvelParserContextTemplate(MvelParserContextTemplate mvelParserContextTemplate) {
+        this.mvelParserContextTemplate = mvelParserContextTemplate;
+        return this;
+    }
+
     public Map<Class<?>, PropertyHandler> getCustomPropertyHandlers() {
         return customPropertyHandlers;
     }
@@ -15,7 +15,10 @@ package org.flowable.dmn.engine;
 import java.lang.reflect.Method;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.mvel.MvelParserContextTemplate;
 import org.flowable.dmn.model.Decision;
 import org.mvel2.integration.PropertyHandler;
 
@@ -26,4 +29,7 @@ public interface RuleEngineExecutor {
 
     RuleEngineExecutionResult execute(Decision decision, Map<String, Object> inputVariables,
             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers);
+
+    RuleEngineExecutionResult execute(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables,
+            MvelParserContextTemplate parserContextTemplate, DecisionExecutionAuditLevel auditLevel);
 }
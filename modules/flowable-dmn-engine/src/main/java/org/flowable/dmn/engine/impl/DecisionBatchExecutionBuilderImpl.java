@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.flowable.dmn.api.DecisionBatchExecutionBuilder;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+public class DecisionBatchExecutionBuilderImpl implements DecisionBatchExecutionBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected List<Map<String, Object>> inputVariables = new ArrayList<Map<String, Object>>();
+    protected ExecutorService executorService;
+    protected DecisionExecutionAuditLevel auditLevel;
+
+    public DecisionBatchExecutionBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder addInputVariables(Map<String, Object> inputVariables) {
+        this.inputVariables.add(inputVariables);
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder inputVariables(Collection<Map<String, Object>> inputVariables) {
+        if (inputVariables == null) {
+            throw new FlowableIllegalArgumentException("inputVariables is null");
+        }
+        this.inputVariables.addAll(inputVariables);
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder executorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder auditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+        return this;
+    }
+
+    @Override
+    public List<RuleEngineExecutionResult> execute() {
+        return ruleService.executeDecisionBatch(this);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public List<Map<String, Object>> getInputVariables() {
+        return inputVariables;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DecisionExecutionBuilder;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+
+public class DecisionExecutionBuilderImpl implements DecisionExecutionBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected Map<String, Object> inputVariables;
+    protected DecisionExecutionAuditLevel auditLevel;
+
+    public DecisionExecutionBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public DecisionExecutionBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public DecisionExecutionBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public DecisionExecutionBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public DecisionExecutionBuilder inputVariables(Map<String, Object> inputVariables) {
+        this.inputVariables = inputVariables;
+        return this;
+    }
+
+    @Override
+    public DecisionExecutionBuilder auditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+        return this;
+    }
+
+    @Override
+    public RuleEngineExecutionResult execute() {
+        return ruleService.executeDecision(this);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Map<String, Object> getInputVariables() {
+        return inputVariables;
+    }
+
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+}
@@ -12,11 +12,15 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.List;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionBatchExecutionBuilder;
+import org.flowable.dmn.api.DecisionExecutionBuilder;
 import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 
 /**
@@ -47,4 +51,22 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
 
         return commandExecutor.execute(new ExecuteDecisionCmd(decisionKey, parentDeploymentId, variables, tenantId));
     }
-}
\ No newline at end of file
+
+    @Override
+    public DecisionExecutionBuilder createDecisionExecution() {
+        return new DecisionExecutionBuilderImpl(this);
+    }
+
+    public RuleEngineExecutionResult executeDecision(DecisionExecutionBuilderImpl decisionExecutionBuilder) {
+        return commandExecutor.execute(new ExecuteDecisionCmd(decisionExecutionBuilder));
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder createDecisionBatchExecution() {
+        return new DecisionBatchExecutionBuilderImpl(this);
+    }
+
+    public List<RuleEngineExecutionResult> executeDecisionBatch(DecisionBatchExecutionBuilderImpl decisionBatchExecutionBuilder) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(decisionBatchExecutionBuilder));
+    }
+}
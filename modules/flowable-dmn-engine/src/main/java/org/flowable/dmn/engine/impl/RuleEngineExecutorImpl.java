@@ -12,20 +12,25 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.FlowableDmnExpressionException;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.mvel.ExecutionVariableFactory;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContext;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.mvel.MvelExpressionExecutor;
+import org.flowable.dmn.engine.impl.mvel.MvelParserContextTemplate;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -46,6 +51,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(RuleEngineExecutorImpl.class);
 
+    /**
+     * The property handlers last registered in MVEL by {@link #execute(Decision, Map, Map, Map)}. Callers pass the same map on every execution,
+     * so it's only registered again when a different map is passed.
+     */
+    protected volatile Map<Class<?>, PropertyHandler> registeredPropertyHandlers;
+
     /**
      * Executes the given decision table and creates the outcome results
      *
@@ -59,6 +70,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     public RuleEngineExecutionResult execute(Decision decision, Map<String, Object> inputVariables,
             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
 
+        registerPropertyHandlers(propertyHandlers);
+        return execute(decision, null, inputVariables, new MvelParserContextTemplate(customExpressionFunctions), DecisionExecutionAuditLevel.FULL);
+    }
+
+    /**
+     * Executes the given decision table and creates the outcome results
+     *
+     * @param decision
+     *            the DMN decision
+     * @param compiledDecisionTable
+     *            the precompiled expressions of the decision table, can be null
+     * @param inputVariables
+     *            map with input variables
+     * @param parserContextTemplate
+     *            the MVEL parser configuration of the engine, used for expressions that are not precompiled
+     * @param auditLevel
+     *            the amount of audit information to collect
+     * @return updated execution variables map
+     */
+    @Override
+    public RuleEngineExecutionResult execute(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables,
+            MvelParserContextTemplate parserContextTemplate, DecisionExecutionAuditLevel auditLevel) {
+
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
         }
@@ -70,14 +104,16 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         DecisionTable currentDecisionTable = (DecisionTable) decision.getExpression();
 
         // create execution context and audit trail
-        MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, inputVariables,
-                customExpressionFunctions, propertyHandlers);
+        MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, inputVariables, parserContextTemplate, auditLevel);
+        executionContext.setCompiledDecisionTable(compiledDecisionTable);
 
         // evaluate decision table
         Map<String, Object> resultVariables = evaluateDecisionTable(currentDecisionTable, executionContext);
 
         // end audit trail
-        executionContext.getAuditContainer().stopAudit(resultVariables);
+        if (executionContext.isAuditEnabled()) {
+            executionContext.getAuditContainer().stopAudit(resultVariables);
+        }
 
         // create result container
         RuleEngineExecutionResult executionResult = new RuleEngineExecutionResult(resultVariables, executionContext.getAuditContainer());
@@ -85,6 +121,17 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionResult;
     }
 
+    protected void registerPropertyHandlers(Map<Class<?>, PropertyHandler> propertyHandlers) {
+        if (propertyHandlers != null && propertyHandlers != registeredPropertyHandlers) {
+            synchronized (this) {
+                if (propertyHandlers != registeredPropertyHandlers) {
+                    MvelExecutionContextBuilder.registerPropertyHandlers(propertyHandlers);
+                    registeredPropertyHandlers = propertyHandlers;
+                }
+            }
+        }
+    }
+
     protected Map<String, Object> evaluateDecisionTable(DecisionTable decisionTable, MvelExecutionContext executionContext) {
 
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
@@ -105,22 +152,40 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         int ruleRowCounter = 0;
 
         try {
-            // evaluate rule conditions
-            for (DecisionRule rule : decisionTable.getRules()) {
+            // only evaluate the rules that can match the input variables when the decision table is indexed
+            BitSet candidateRules = findCandidateRules(executionContext);
+
+            if (candidateRules != null) {
+                List<DecisionRule> rules = decisionTable.getRules();
+                for (int ruleIndex = candidateRules.nextSetBit(0); ruleIndex >= 0; ruleIndex = candidateRules.nextSetBit(ruleIndex + 1)) {
 
-                Boolean ruleResult = executeRule(ruleRowCounter, rule, executionContext, validConclusionsStack);
+                    Boolean ruleResult = executeRule(ruleIndex, rules.get(ruleIndex), executionContext, validConclusionsStack);
 
-                if (!shouldContinueEvaluating(decisionTable.getHitPolicy(), ruleResult)) {
-                    break;
+                    if (!shouldContinueEvaluating(decisionTable.getHitPolicy(), ruleResult)) {
+                        break;
+                    }
                 }
 
-                ruleRowCounter++;
+            } else {
+                // evaluate rule conditions
+                for (DecisionRule rule : decisionTable.getRules()) {
+
+                    Boolean ruleResult = executeRule(ruleRowCounter, rule, executionContext, validConclusionsStack);
+
+                    if (!shouldContinueEvaluating(decisionTable.getHitPolicy(), ruleResult)) {
+                        break;
+                    }
+
+                    ruleRowCounter++;
+                }
             }
 
         } catch (FlowableException ade) {
             logger.error("decision table execution failed", ade);
-            executionContext.getAuditContainer().setFailed();
-            executionContext.getAuditContainer().setExceptionMessage(getExceptionMessage(ade));
+            if (executionContext.isAuditEnabled()) {
+                executionContext.getAuditContainer().setFailed();
+                executionContext.getAuditContainer().setExceptionMessage(getExceptionMessage(ade));
+            }
         }
 
         logger.debug("End table evaluation: {}", decisionTable.getId());
@@ -128,6 +193,19 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getResultVariables();
     }
 
+    protected BitSet findCandidateRules(MvelExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable == null || compiledDecisionTable.getDecisionTableIndex() == null) {
+            return null;
+        }
+
+        BitSet candidateRules = compiledDecisionTable.getDecisionTableIndex().findCandidateRules(executionContext.getStackVariables());
+        if (candidateRules != null) {
+            logger.debug("Evaluating {} candidate rules", candidateRules.cardinality());
+        }
+        return candidateRules;
+    }
+
     protected Boolean shouldContinueEvaluating(HitPolicy hitPolicy, Boolean ruleResult) {
 
         Boolean shouldContinue = Boolean.TRUE;
@@ -150,12 +228,17 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         logger.debug("Start rule evaluation");
 
         // add audit entry
-        executionContext.getAuditContainer().addRuleEntry();
+        boolean fullAudit = executionContext.isFullAuditEnabled();
+        if (fullAudit) {
+            executionContext.getAuditContainer().addRuleEntry(ruleRowIndex);
+        }
 
         Boolean conditionResult = Boolean.FALSE;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int inputEntryIndex = 0; inputEntryIndex < inputEntries.size(); inputEntryIndex++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(inputEntryIndex);
 
             // resetting value
             conditionResult = Boolean.FALSE;
@@ -166,34 +249,44 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(conditionContainer.getInputEntry().getText())) {
                     conditionResult = Boolean.TRUE;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    conditionResult = executeInputExpressionEvaluation(ruleRowIndex, inputEntryIndex, conditionContainer, executionContext);
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(), conditionResult);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(), conditionResult);
+                }
 
-                logger.debug("input entry {} ( {} {} ): {} ", conditionContainer.getInputEntry().getId(),
-                        conditionContainer.getInputClause().getInputExpression().getText(),
-                        conditionContainer.getInputEntry().getText(), conditionResult);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("input entry {} ( {} {} ): {} ", conditionContainer.getInputEntry().getId(),
+                            conditionContainer.getInputClause().getInputExpression().getText(),
+                            conditionContainer.getInputEntry().getText(), conditionResult);
+                }
 
             } catch (FlowableDmnExpressionException adee) {
 
                 // add failed audit entry
-                executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
-                        getExceptionMessage(adee), conditionResult);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
+                            getExceptionMessage(adee), conditionResult);
+                }
 
             } catch (FlowableException ade) {
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
-                        getExceptionMessage(ade), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
+                            getExceptionMessage(ade), null);
+                }
                 throw ade;
 
             } catch (Exception e) {
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
-                        getExceptionMessage(e), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(ruleRowIndex, conditionContainer.getInputEntry().getId(),
+                            getExceptionMessage(e), null);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -205,11 +298,18 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         // execute conclusion if condition was evaluated true
         if (conditionResult) {
+            // the summary audit trail only contains the matched rules
+            if (executionContext.isAuditEnabled() && !fullAudit) {
+                executionContext.getAuditContainer().addRuleEntry(ruleRowIndex);
+            }
+
             executeOutputEntryAction(ruleRowIndex, rule.getOutputEntries(), executionContext);
         }
 
         // mark rule end
-        executionContext.getAuditContainer().markRuleEnd(ruleRowIndex);
+        if (fullAudit || (conditionResult && executionContext.isAuditEnabled())) {
+            executionContext.getAuditContainer().markRuleEnd(ruleRowIndex);
+        }
 
         logger.debug("End rule evaluation");
         return conditionResult;
@@ -220,15 +320,26 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return MvelExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), executionContext);
     }
 
+    protected Boolean executeInputExpressionEvaluation(int ruleRowIndex, int inputEntryIndex, RuleInputClauseContainer ruleContainer, MvelExecutionContext executionContext) {
+
+        Serializable compiledExpression = null;
+        if (executionContext.getCompiledDecisionTable() != null) {
+            compiledExpression = executionContext.getCompiledDecisionTable().getInputEntryExpression(ruleRowIndex, inputEntryIndex);
+        }
+
+        return MvelExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), compiledExpression, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleRowIndex, List<RuleOutputClauseContainer> ruleOutputContainers, MvelExecutionContext executionContext) {
 
         logger.debug("Start conclusion processing");
 
-        for (RuleOutputClauseContainer clauseContainer : ruleOutputContainers) {
+        for (int outputEntryIndex = 0; outputEntryIndex < ruleOutputContainers.size(); outputEntryIndex++) {
+            RuleOutputClauseContainer clauseContainer = ruleOutputContainers.get(outputEntryIndex);
 
             // skip empty output entries
             if (StringUtils.isNotEmpty(clauseContainer.getOutputEntry().getText())) {
-                composeOutputEntryResult(ruleRowIndex, clauseContainer, executionContext);
+                composeOutputEntryResult(ruleRowIndex, outputEntryIndex, clauseContainer, executionContext);
             }
         }
 
@@ -236,15 +347,25 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected void composeOutputEntryResult(int ruleRowIndex, RuleOutputClauseContainer ruleClauseContainer, MvelExecutionContext executionContext) {
+        composeOutputEntryResult(ruleRowIndex, -1, ruleClauseContainer, executionContext);
+    }
+
+    protected void composeOutputEntryResult(int ruleRowIndex, int outputEntryIndex, RuleOutputClauseContainer ruleClauseContainer, MvelExecutionContext executionContext) {
 
         String outputVariableId = ruleClauseContainer.getOutputClause().getName();
         String outputVariableType = ruleClauseContainer.getOutputClause().getTypeRef();
 
         LiteralExpression outputEntryExpression = ruleClauseContainer.getOutputEntry();
 
+        Serializable compiledExpression = null;
+        if (outputEntryIndex >= 0 && executionContext.getCompiledDecisionTable() != null) {
+            compiledExpression = executionContext.getCompiledDecisionTable().getOutputEntryExpression(ruleRowIndex, outputEntryIndex);
+        }
+
         Object executionVariable = null;
         try {
-            Object resultVariable = MvelExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, executionContext);
+            Object resultVariable = MvelExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression,
+                    compiledExpression, executionContext);
             executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultVariable);
 
             // update execution context
@@ -255,7 +376,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             executionContext.getResultVariables().put(outputVariableId, executionVariable);
 
             // add audit entry
-            executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), executionVariable);
+            if (executionContext.isFullAuditEnabled()) {
+                executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), executionVariable);
+            }
 
             if (executionVariable != null) {
                 logger.debug("Created conclusion result: {} of type: {} with value {} ", outputVariableId, resultVariable.getClass(), resultVariable.toString());
@@ -265,13 +388,17 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         } catch (FlowableException ade) {
 
             // add failed audit entry and rethrow
-            executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+            if (executionContext.isFullAuditEnabled()) {
+                executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+            }
             throw ade;
 
         } catch (Exception e) {
 
             // add failed audit entry and rethrow
-            executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+            if (executionContext.isFullAuditEnabled()) {
+                executionContext.getAuditContainer().addOutputEntry(ruleRowIndex, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+            }
             throw new FlowableException(getExceptionMessage(e), e);
         }
     }
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+/**
+ * Base class for the commands that execute the latest version of a decision, identified by its key and optionally a parent deployment id and tenant id.
+ */
+public abstract class AbstractExecuteDecisionCmd implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+
+    public AbstractExecuteDecisionCmd(String decisionKey, String parentDeploymentId, String tenantId) {
+        this.decisionKey = decisionKey;
+        this.parentDeploymentId = parentDeploymentId;
+        this.tenantId = tenantId;
+    }
+
+    protected DecisionExecutionAuditLevel getAuditLevel(DmnEngineConfiguration dmnEngineConfiguration, DecisionExecutionAuditLevel auditLevel) {
+        if (auditLevel != null) {
+            return auditLevel;
+        }
+        return dmnEngineConfiguration.getDecisionExecutionAuditLevel();
+    }
+
+    protected DmnDecisionTable findDecisionTable(DeploymentManager deploymentManager) {
+        DmnDecisionTable decisionTable = null;
+
+        if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(parentDeploymentId) && StringUtils.isNotEmpty(tenantId)) {
+            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyParentDeploymentIdAndTenantId(decisionKey, parentDeploymentId, tenantId);
+            if (decisionTable == null) {
+                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
+                        ", parent deployment id " + parentDeploymentId + " and tenant id: " + tenantId);
+            }
+
+        } else if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(parentDeploymentId)) {
+            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyAndParentDeploymentId(decisionKey, parentDeploymentId);
+            if (decisionTable == null) {
+                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
+                        " and parent deployment id " + parentDeploymentId);
+            }
+
+        } else if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(tenantId)) {
+            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
+            if (decisionTable == null) {
+                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
+                        " and tenant id " + tenantId);
+            }
+
+        } else if (StringUtils.isNotEmpty(decisionKey)) {
+            decisionTable = deploymentManager.findDeployedLatestDecisionByKey(decisionKey);
+            if (decisionTable == null) {
+                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey);
+            }
+
+        } else {
+            throw new IllegalArgumentException("decisionKey is null");
+        }
+
+        return decisionTable;
+    }
+}
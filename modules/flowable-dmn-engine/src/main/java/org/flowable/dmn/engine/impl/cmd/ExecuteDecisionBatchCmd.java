@@ -0,0 +1,189 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DecisionBatchExecutionBuilderImpl;
+import org.flowable.dmn.engine.impl.interceptor.Command;
+import org.flowable.dmn.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+/**
+ * Executes one decision for a batch of input variables. The decision is resolved once, after which it is evaluated for every map of input variables,
+ * optionally spread over an {@link ExecutorService}.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<RuleEngineExecutionResult>> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The minimum number of evaluations done by one task when the batch is spread over an executor service */
+    protected static final int MIN_EVALUATIONS_PER_TASK = 16;
+
+    protected List<Map<String, Object>> inputVariables;
+    protected transient ExecutorService executorService;
+    protected DecisionExecutionAuditLevel auditLevel;
+
+    public ExecuteDecisionBatchCmd(DecisionBatchExecutionBuilderImpl decisionBatchExecutionBuilder) {
+        super(decisionBatchExecutionBuilder.getDecisionKey(), decisionBatchExecutionBuilder.getParentDeploymentId(),
+                decisionBatchExecutionBuilder.getTenantId());
+        this.inputVariables = decisionBatchExecutionBuilder.getInputVariables();
+        this.executorService = decisionBatchExecutionBuilder.getExecutorService();
+        this.auditLevel = decisionBatchExecutionBuilder.getAuditLevel();
+    }
+
+    public List<RuleEngineExecutionResult> execute(CommandContext commandContext) {
+        if (decisionKey == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
+        DeploymentManager deploymentManager = dmnEngineConfiguration.getDeploymentManager();
+        DmnDecisionTable decisionTable = findDecisionTable(deploymentManager);
+        DecisionTableCacheEntry decisionTableCacheEntry = deploymentManager.resolveDecisionTable(decisionTable);
+
+        DecisionEvaluator decisionEvaluator = new DecisionEvaluator(dmnEngineConfiguration, decisionTableCacheEntry, decisionTable.getDeploymentId(),
+                inputVariables, getAuditLevel(dmnEngineConfiguration, auditLevel));
+
+        if (executorService == null || inputVariables.size() <= MIN_EVALUATIONS_PER_TASK) {
+            decisionEvaluator.evaluate(0, inputVariables.size());
+
+        } else if (executorService instanceof ForkJoinPool) {
+            ((ForkJoinPool) executorService).invoke(new EvaluateDecisionTask(decisionEvaluator, 0, inputVariables.size()));
+
+        } else {
+            evaluateWithExecutorService(decisionEvaluator);
+        }
+
+        return decisionEvaluator.getResults();
+    }
+
+    protected void evaluateWithExecutorService(final DecisionEvaluator decisionEvaluator) {
+        int taskCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, inputVariables.size() / MIN_EVALUATIONS_PER_TASK));
+        int evaluationsPerTask = (inputVariables.size() + taskCount - 1) / taskCount;
+
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(taskCount);
+        for (int fromIndex = 0; fromIndex < inputVariables.size(); fromIndex += evaluationsPerTask) {
+            final int from = fromIndex;
+            final int to = Math.min(fromIndex + evaluationsPerTask, inputVariables.size());
+            tasks.add(new Callable<Void>() {
+
+                @Override
+                public Void call() throws Exception {
+                    decisionEvaluator.evaluate(from, to);
+                    return null;
+                }
+            });
+        }
+
+        try {
+            for (Future<Void> future : executorService.invokeAll(tasks)) {
+                future.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while executing decision batch for " + decisionKey, e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error while executing decision batch for " + decisionKey, e.getCause());
+        }
+    }
+
+    /**
+     * Evaluates the resolved decision for a range of the input variables. Shared by all threads of the batch: every thread writes the results of its own
+     * range only.
+     */
+    protected static class DecisionEvaluator {
+
+        protected DmnEngineConfiguration dmnEngineConfiguration;
+        protected DecisionTableCacheEntry decisionTableCacheEntry;
+        protected String deploymentId;
+        protected List<Map<String, Object>> inputVariables;
+        protected DecisionExecutionAuditLevel auditLevel;
+        protected RuleEngineExecutionResult[] results;
+
+        public DecisionEvaluator(DmnEngineConfiguration dmnEngineConfiguration, DecisionTableCacheEntry decisionTableCacheEntry, String deploymentId,
+                List<Map<String, Object>> inputVariables, DecisionExecutionAuditLevel auditLevel) {
+
+            this.dmnEngineConfiguration = dmnEngineConfiguration;
+            this.decisionTableCacheEntry = decisionTableCacheEntry;
+            this.deploymentId = deploymentId;
+            this.inputVariables = inputVariables;
+            this.auditLevel = auditLevel;
+            this.results = new RuleEngineExecutionResult[inputVariables.size()];
+        }
+
+        public void evaluate(int fromIndex, int toIndex) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decisionTableCacheEntry.getDecision(),
+                        decisionTableCacheEntry.getCompiledDecisionTable(), inputVariables.get(i),
+                        dmnEngineConfiguration.getMvelParserContextTemplate(), auditLevel);
+
+                if (executionResult != null && executionResult.getAuditTrail() != null) {
+                    executionResult.getAuditTrail().setDmnDeploymentId(deploymentId);
+                }
+
+                results[i] = executionResult;
+            }
+        }
+
+        public List<RuleEngineExecutionResult> getResults() {
+            return Arrays.asList(results);
+        }
+    }
+
+    protected static class EvaluateDecisionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        protected DecisionEvaluator decisionEvaluator;
+        protected int fromIndex;
+        protected int toIndex;
+
+        public EvaluateDecisionTask(DecisionEvaluator decisionEvaluator, int fromIndex, int toIndex) {
+            this.decisionEvaluator = decisionEvaluator;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= MIN_EVALUATIONS_PER_TASK) {
+                decisionEvaluator.evaluate(fromIndex, toIndex);
+            } else {
+                int middle = (fromIndex + toIndex) >>> 1;
+                invokeAll(new EvaluateDecisionTask(decisionEvaluator, fromIndex, middle), new EvaluateDecisionTask(decisionEvaluator, middle, toIndex));
+            }
+        }
+    }
+}
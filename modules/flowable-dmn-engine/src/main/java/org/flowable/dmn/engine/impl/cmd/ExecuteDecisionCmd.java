@@ -12,46 +12,47 @@
  */
 package org.flowable.dmn.engine.impl.cmd;
 
-import java.io.Serializable;
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DecisionExecutionBuilderImpl;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.dmn.model.Decision;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
-import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 
 /**
  * @author Tijs Rademakers
  */
-public class ExecuteDecisionCmd implements Command<RuleEngineExecutionResult>, Serializable {
+public class ExecuteDecisionCmd extends AbstractExecuteDecisionCmd implements Command<RuleEngineExecutionResult> {
 
     private static final long serialVersionUID = 1L;
 
-    protected String decisionKey;
-    protected String parentDeploymentId;
     protected Map<String, Object> variables;
-    protected String tenantId;
+    protected DecisionExecutionAuditLevel auditLevel;
 
     public ExecuteDecisionCmd(String decisionKey, Map<String, Object> variables) {
-        this.decisionKey = decisionKey;
-        this.variables = variables;
+        this(decisionKey, null, variables, null);
     }
 
     public ExecuteDecisionCmd(String decisionKey, String parentDeploymentId, Map<String, Object> variables) {
-        this(decisionKey, variables);
-        this.parentDeploymentId = parentDeploymentId;
+        this(decisionKey, parentDeploymentId, variables, null);
     }
 
     public ExecuteDecisionCmd(String decisionKey, String parentDeploymentId, Map<String, Object> variables, String tenantId) {
-        this(decisionKey, parentDeploymentId, variables);
-        this.tenantId = tenantId;
+        super(decisionKey, parentDeploymentId, tenantId);
+        this.variables = variables;
+    }
+
+    public ExecuteDecisionCmd(DecisionExecutionBuilderImpl decisionExecutionBuilder) {
+        this(decisionExecutionBuilder.getDecisionKey(), decisionExecutionBuilder.getParentDeploymentId(), decisionExecutionBuilder.getInputVariables(),
+                decisionExecutionBuilder.getTenantId());
+        this.auditLevel = decisionExecutionBuilder.getAuditLevel();
     }
 
     public RuleEngineExecutionResult execute(CommandContext commandContext) {
@@ -61,44 +62,14 @@ public class ExecuteDecisionCmd implements Command<RuleEngineExecutionResult>, S
 
         DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
         DeploymentManager deploymentManager = dmnEngineConfiguration.getDeploymentManager();
-        DmnDecisionTable decisionTable = null;
-
-        if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(parentDeploymentId) && StringUtils.isNotEmpty(tenantId)) {
-            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyParentDeploymentIdAndTenantId(decisionKey, parentDeploymentId, tenantId);
-            if (decisionTable == null) {
-                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
-                        ", parent deployment id " + parentDeploymentId + " and tenant id: " + tenantId);
-            }
-
-        } else if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(parentDeploymentId)) {
-            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyAndParentDeploymentId(decisionKey, parentDeploymentId);
-            if (decisionTable == null) {
-                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
-                        " and parent deployment id " + parentDeploymentId);
-            }
-
-        } else if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(tenantId)) {
-            decisionTable = deploymentManager.findDeployedLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
-            if (decisionTable == null) {
-                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
-                        " and tenant id " + tenantId);
-            }
-
-        } else if (StringUtils.isNotEmpty(decisionKey)) {
-            decisionTable = deploymentManager.findDeployedLatestDecisionByKey(decisionKey);
-            if (decisionTable == null) {
-                throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey);
-            }
-
-        } else {
-            throw new IllegalArgumentException("decisionKey is null");
-        }
+        DmnDecisionTable decisionTable = findDecisionTable(deploymentManager);
 
         DecisionTableCacheEntry decisionTableCacheEntry = deploymentManager.resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
 
-        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variables,
-                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision,
+                decisionTableCacheEntry.getCompiledDecisionTable(), variables,
+                dmnEngineConfiguration.getMvelParserContextTemplate(), getAuditLevel(dmnEngineConfiguration, auditLevel));
 
         if (executionResult != null && executionResult.getAuditTrail() != null) {
             executionResult.getAuditTrail().setDmnDeploymentId(decisionTable.getDeploymentId());
@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.context.Context;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTableBuilder;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
@@ -37,7 +39,9 @@ public class CachingAndArtifactsManager {
         for (DecisionTableEntity decisionTable : parsedDeployment.getAllDecisionTables()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
-            DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            CompiledDecisionTable compiledDecisionTable = CompiledDecisionTableBuilder.build(decision, dmnEngineConfiguration.getMvelParserContextTemplate(),
+                    dmnEngineConfiguration.isEnableDecisionTableIndexing());
+            DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision, compiledDecisionTable);
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.io.Serializable;
+
+/**
+ * Holds the pre-parsed and MVEL compiled input and output entry expressions of a decision table, indexed by rule row and entry position.
+ * 
+ * An instance is created once per deployed decision table and stored in the decision cache, so it is shared by all executions of that decision table.
+ * A <code>null</code> expression means the entry is empty or could not be compiled upfront; in that case the expression is compiled at execution time.
+ */
+public class CompiledDecisionTable {
+
+    protected Serializable[][] inputEntryExpressions;
+    protected Serializable[][] outputEntryExpressions;
+    protected DecisionTableIndex decisionTableIndex;
+
+    public CompiledDecisionTable(Serializable[][] inputEntryExpressions, Serializable[][] outputEntryExpressions) {
+        this.inputEntryExpressions = inputEntryExpressions;
+        this.outputEntryExpressions = outputEntryExpressions;
+    }
+
+    public CompiledDecisionTable(Serializable[][] inputEntryExpressions, Serializable[][] outputEntryExpressions, DecisionTableIndex decisionTableIndex) {
+        this(inputEntryExpressions, outputEntryExpressions);
+        this.decisionTableIndex = decisionTableIndex;
+    }
+
+    public Serializable getInputEntryExpression(int ruleIndex, int inputEntryIndex) {
+        return getExpression(inputEntryExpressions, ruleIndex, inputEntryIndex);
+    }
+
+    public Serializable getOutputEntryExpression(int ruleIndex, int outputEntryIndex) {
+        return getExpression(outputEntryExpressions, ruleIndex, outputEntryIndex);
+    }
+
+    /**
+     * Returns the index of the input entries, or null when indexed evaluation is not enabled or not possible for this decision table.
+     */
+    public DecisionTableIndex getDecisionTableIndex() {
+        return decisionTableIndex;
+    }
+
+    protected Serializable getExpression(Serializable[][] expressions, int ruleIndex, int entryIndex) {
+        if (expressions == null || ruleIndex >= expressions.length) {
+            return null;
+        }
+
+        Serializable[] ruleExpressions = expressions[ruleIndex];
+        if (ruleExpressions == null || entryIndex >= ruleExpressions.length) {
+            return null;
+        }
+
+        return ruleExpressions[entryIndex];
+    }
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.mvel2.ParserContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pre-parses and compiles all input and output entries of a decision table at deployment time.
+ */
+public class CompiledDecisionTableBuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledDecisionTableBuilder.class);
+
+    public static CompiledDecisionTable build(Decision decision, Map<String, Method> customExpressionFunctions) {
+        return build(decision, new MvelParserContextTemplate(customExpressionFunctions), false);
+    }
+
+    public static CompiledDecisionTable build(Decision decision, MvelParserContextTemplate parserContextTemplate, boolean buildIndex) {
+        if (decision == null || !(decision.getExpression() instanceof DecisionTable)) {
+            return null;
+        }
+
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        ParserContext parserContext = parserContextTemplate.createParserContext();
+
+        List<DecisionRule> rules = decisionTable.getRules();
+        Serializable[][] inputEntryExpressions = new Serializable[rules.size()][];
+        Serializable[][] outputEntryExpressions = new Serializable[rules.size()][];
+        boolean allInputEntriesCompiled = true;
+
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            DecisionRule rule = rules.get(ruleIndex);
+
+            List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+            inputEntryExpressions[ruleIndex] = new Serializable[inputEntries.size()];
+            for (int inputEntryIndex = 0; inputEntryIndex < inputEntries.size(); inputEntryIndex++) {
+                RuleInputClauseContainer inputEntry = inputEntries.get(inputEntryIndex);
+                inputEntryExpressions[ruleIndex][inputEntryIndex] = compileInputEntry(inputEntry, parserContext);
+                if (inputEntryExpressions[ruleIndex][inputEntryIndex] == null && inputEntry.getInputEntry() != null
+                        && StringUtils.isNotEmpty(inputEntry.getInputEntry().getText())) {
+                    allInputEntriesCompiled = false;
+                }
+            }
+
+            List<RuleOutputClauseContainer> outputEntries = rule.getOutputEntries();
+            outputEntryExpressions[ruleIndex] = new Serializable[outputEntries.size()];
+            for (int outputEntryIndex = 0; outputEntryIndex < outputEntries.size(); outputEntryIndex++) {
+                outputEntryExpressions[ruleIndex][outputEntryIndex] = compileOutputEntry(outputEntries.get(outputEntryIndex), parserContext);
+            }
+        }
+
+        // skipping rules is only safe when no input entry fails on compilation, as that would fail the complete evaluation
+        DecisionTableIndex decisionTableIndex = null;
+        if (buildIndex && allInputEntriesCompiled) {
+            decisionTableIndex = DecisionTableIndex.build(decisionTable);
+        }
+
+        logger.debug("Compiled decision table {}, indexed: {}", decisionTable.getId(), decisionTableIndex != null);
+
+        return new CompiledDecisionTable(inputEntryExpressions, outputEntryExpressions, decisionTableIndex);
+    }
+
+    protected static Serializable compileInputEntry(RuleInputClauseContainer inputContainer, ParserContext parserContext) {
+        if (inputContainer.getInputEntry() == null || StringUtils.isEmpty(inputContainer.getInputEntry().getText())
+                || inputContainer.getInputClause() == null || inputContainer.getInputClause().getInputExpression() == null) {
+            return null;
+        }
+
+        try {
+            return MvelExpressionExecutor.compileInputExpression(inputContainer.getInputClause(), inputContainer.getInputEntry(), parserContext);
+        } catch (Exception e) {
+            // the expression will be compiled again on execution, where the error is added to the audit trail
+            logger.debug("Could not precompile input entry {}", inputContainer.getInputEntry().getId(), e);
+            return null;
+        }
+    }
+
+    protected static Serializable compileOutputEntry(RuleOutputClauseContainer outputContainer, ParserContext parserContext) {
+        if (outputContainer.getOutputEntry() == null || StringUtils.isEmpty(outputContainer.getOutputEntry().getText())) {
+            return null;
+        }
+
+        try {
+            return MvelExpressionExecutor.compileOutputExpression(outputContainer.getOutputEntry(), parserContext);
+        } catch (Exception e) {
+            // the expression will be compiled again on execution, where the error is added to the audit trail
+            logger.debug("Could not precompile output entry {}", outputContainer.getOutputEntry().getId(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.HitPolicy;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.OutputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Per input column hash and interval indexes of a decision table, used to skip the rules that cannot match the input variables.
+ *
+ * Only simple unary tests on a plain input variable are indexed: <code>== number</code>, <code>== 'string'</code> and the <code>&lt;</code>,
+ * <code>&lt;=</code>, <code>&gt;</code> and <code>&gt;=</code> comparisons with a number. All other input entries are kept as candidates for every
+ * evaluation. The candidate rules are still evaluated with MVEL, so the index only narrows down the rules that are looked at.
+ */
+public class DecisionTableIndex {
+
+    protected static final Pattern VARIABLE_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    protected static final Pattern NUMBER_TEST_PATTERN = Pattern.compile("(==|<=|>=|<|>)\\s*(-?\\d+(?:\\.\\d+)?)");
+    protected static final Pattern STRING_TEST_PATTERN = Pattern.compile("==\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")");
+
+    protected int ruleCount;
+    protected Set<String> requiredVariables;
+    protected List<ColumnIndex> columnIndexes;
+
+    protected DecisionTableIndex(int ruleCount, Set<String> requiredVariables, List<ColumnIndex> columnIndexes) {
+        this.ruleCount = ruleCount;
+        this.requiredVariables = requiredVariables;
+        this.columnIndexes = columnIndexes;
+    }
+
+    /**
+     * Builds the index for the given decision table, or returns null when the decision table cannot be (usefully) indexed.
+     */
+    public static DecisionTableIndex build(DecisionTable decisionTable) {
+        if (decisionTable == null || decisionTable.getRules().isEmpty() || !isSupportedHitPolicy(decisionTable.getHitPolicy())) {
+            return null;
+        }
+
+        Set<String> outputNames = new HashSet<String>();
+        for (OutputClause outputClause : decisionTable.getOutputs()) {
+            outputNames.add(outputClause.getName());
+        }
+
+        Set<String> requiredVariables = new HashSet<String>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            if (inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+                return null;
+            }
+
+            String rootVariable = getRootVariable(inputClause.getInputExpression().getText());
+
+            // outputs are written to the variable stack during evaluation, which could change the outcome of input entries of later rules
+            if (outputNames.contains(rootVariable)) {
+                return null;
+            }
+
+            requiredVariables.add(rootVariable);
+        }
+
+        List<ColumnIndex> columnIndexes = new ArrayList<ColumnIndex>();
+        List<DecisionRule> rules = decisionTable.getRules();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            String variableName = inputClause.getInputExpression().getText().trim();
+            if (!VARIABLE_PATTERN.matcher(variableName).matches()) {
+                continue;
+            }
+
+            ColumnIndex columnIndex = new ColumnIndex(variableName);
+            for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+                columnIndex.addRule(ruleIndex, findInputEntryText(rules.get(ruleIndex), inputClause));
+            }
+
+            if (columnIndex.isSelective()) {
+                columnIndex.sortRanges();
+                columnIndexes.add(columnIndex);
+            }
+        }
+
+        if (columnIndexes.isEmpty()) {
+            return null;
+        }
+
+        return new DecisionTableIndex(rules.size(), requiredVariables, columnIndexes);
+    }
+
+    /**
+     * Returns the rules that can match the given variables, in rule order, or null when the index cannot be used for these variables and all rules
+     * need to be evaluated.
+     */
+    public BitSet findCandidateRules(Map<String, Object> variables) {
+        if (variables == null) {
+            return null;
+        }
+
+        // a missing variable fails the evaluation, which is left to the regular rule evaluation
+        for (String requiredVariable : requiredVariables) {
+            if (!variables.containsKey(requiredVariable)) {
+                return null;
+            }
+        }
+
+        BitSet candidateRules = new BitSet(ruleCount);
+        candidateRules.set(0, ruleCount);
+        for (ColumnIndex columnIndex : columnIndexes) {
+            BitSet columnCandidateRules = columnIndex.findCandidateRules(variables.get(columnIndex.variableName));
+            if (columnCandidateRules != null) {
+                candidateRules.and(columnCandidateRules);
+            }
+        }
+
+        return candidateRules;
+    }
+
+    protected static boolean isSupportedHitPolicy(HitPolicy hitPolicy) {
+        return hitPolicy == HitPolicy.FIRST || hitPolicy == HitPolicy.UNIQUE || hitPolicy == HitPolicy.ANY;
+    }
+
+    protected static String getRootVariable(String inputExpression) {
+        String variable = inputExpression.trim();
+        if (variable.contains(".")) {
+            variable = variable.substring(0, variable.indexOf("."));
+        }
+        return variable;
+    }
+
+    protected static String findInputEntryText(DecisionRule rule, InputClause inputClause) {
+        for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+            if (inputContainer.getInputClause() == inputClause && inputContainer.getInputEntry() != null) {
+                return inputContainer.getInputEntry().getText();
+            }
+        }
+        return null;
+    }
+
+    protected static BigDecimal toNumber(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return null;
+            }
+            return BigDecimal.valueOf(doubleValue);
+        }
+        return null;
+    }
+
+    protected static BigDecimal normalize(BigDecimal number) {
+        if (number.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return number.stripTrailingZeros();
+    }
+
+    protected static class ColumnIndex {
+
+        protected String variableName;
+
+        // rules that always need to be evaluated for this column
+        protected BitSet unindexedRules = new BitSet();
+
+        protected BitSet numberRules = new BitSet();
+        protected Map<BigDecimal, BitSet> numberEqualsIndex = new HashMap<BigDecimal, BitSet>();
+        protected RangeIndex greaterThanIndex = new RangeIndex();
+        protected RangeIndex greaterThanOrEqualIndex = new RangeIndex();
+        protected RangeIndex lessThanIndex = new RangeIndex();
+        protected RangeIndex lessThanOrEqualIndex = new RangeIndex();
+
+        protected BitSet stringRules = new BitSet();
+        protected Map<String, BitSet> stringEqualsIndex = new HashMap<String, BitSet>();
+
+        public ColumnIndex(String variableName) {
+            this.variableName = variableName;
+        }
+
+        public void addRule(int ruleIndex, String inputEntryText) {
+            if (StringUtils.isEmpty(inputEntryText)) {
+                unindexedRules.set(ruleIndex);
+                return;
+            }
+
+            String text = inputEntryText.trim();
+            Matcher numberMatcher = NUMBER_TEST_PATTERN.matcher(text);
+            if (numberMatcher.matches()) {
+                String operator = numberMatcher.group(1);
+                BigDecimal bound = new BigDecimal(numberMatcher.group(2));
+                numberRules.set(ruleIndex);
+
+                if ("==".equals(operator)) {
+                    getOrCreate(numberEqualsIndex, normalize(bound)).set(ruleIndex);
+                } else if (">".equals(operator)) {
+                    greaterThanIndex.add(bound, ruleIndex);
+                } else if (">=".equals(operator)) {
+                    greaterThanOrEqualIndex.add(bound, ruleIndex);
+                } else if ("<".equals(operator)) {
+                    lessThanIndex.add(bound, ruleIndex);
+                } else {
+                    lessThanOrEqualIndex.add(bound, ruleIndex);
+                }
+                return;
+            }
+
+            Matcher stringMatcher = STRING_TEST_PATTERN.matcher(text);
+            if (stringMatcher.matches()) {
+                String value = stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+                stringRules.set(ruleIndex);
+                getOrCreate(stringEqualsIndex, value).set(ruleIndex);
+                return;
+            }
+
+            unindexedRules.set(ruleIndex);
+        }
+
+        public boolean isSelective() {
+            return !numberRules.isEmpty() || !stringRules.isEmpty();
+        }
+
+        public void sortRanges() {
+            greaterThanIndex.sort();
+            greaterThanOrEqualIndex.sort();
+            lessThanIndex.sort();
+            lessThanOrEqualIndex.sort();
+        }
+
+        public BitSet findCandidateRules(Object value) {
+            BitSet candidateRules = (BitSet) unindexedRules.clone();
+
+            if (value instanceof String) {
+                BitSet equalRules = stringEqualsIndex.get(value);
+                if (equalRules != null) {
+                    candidateRules.or(equalRules);
+                }
+
+                // MVEL might coerce the string to a number, so these rules can't be skipped
+                candidateRules.or(numberRules);
+                return candidateRules;
+            }
+
+            BigDecimal number = toNumber(value);
+            if (number == null) {
+                // no index for null values or other types, every rule is a candidate for this column
+                return null;
+            }
+
+            BitSet equalRules = numberEqualsIndex.get(normalize(number));
+            if (equalRules != null) {
+                candidateRules.or(equalRules);
+            }
+
+            // input > bound
+            greaterThanIndex.setRules(candidateRules, 0, greaterThanIndex.countBoundsLessThan(number));
+            // input >= bound
+            greaterThanOrEqualIndex.setRules(candidateRules, 0, greaterThanOrEqualIndex.countBoundsLessThanOrEqual(number));
+            // input < bound
+            lessThanIndex.setRules(candidateRules, lessThanIndex.countBoundsLessThanOrEqual(number), lessThanIndex.size());
+            // input <= bound
+            lessThanOrEqualIndex.setRules(candidateRules, lessThanOrEqualIndex.countBoundsLessThan(number), lessThanOrEqualIndex.size());
+
+            // MVEL might coerce the number to a string, so these rules can't be skipped
+            candidateRules.or(stringRules);
+            return candidateRules;
+        }
+
+        protected static <K> BitSet getOrCreate(Map<K, BitSet> index, K key) {
+            BitSet rules = index.get(key);
+            if (rules == null) {
+                rules = new BitSet();
+                index.put(key, rules);
+            }
+            return rules;
+        }
+    }
+
+    /**
+     * Rules with a comparison against a numeric bound, sorted on the bound.
+     */
+    protected static class RangeIndex {
+
+        protected List<RangeEntry> entries = new ArrayList<RangeEntry>();
+        protected BigDecimal[] bounds;
+        protected int[] rules;
+
+        public void add(BigDecimal bound, int ruleIndex) {
+            entries.add(new RangeEntry(bound, ruleIndex));
+        }
+
+        public void sort() {
+            Collections.sort(entries, new Comparator<RangeEntry>() {
+
+                @Override
+                public int compare(RangeEntry entry1, RangeEntry entry2) {
+                    return entry1.bound.compareTo(entry2.bound);
+                }
+            });
+
+            bounds = new BigDecimal[entries.size()];
+            rules = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                bounds[i] = entries.get(i).bound;
+                rules[i] = entries.get(i).ruleIndex;
+            }
+            entries = null;
+        }
+
+        public int size() {
+            return bounds.length;
+        }
+
+        public int countBoundsLessThan(BigDecimal value) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (bounds[middle].compareTo(value) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        public int countBoundsLessThanOrEqual(BigDecimal value) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (bounds[middle].compareTo(value) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        public void setRules(BitSet candidateRules, int fromIndex, int toIndex) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                candidateRules.set(rules[i]);
+            }
+        }
+    }
+
+    protected static class RangeEntry {
+
+        protected BigDecimal bound;
+        protected int ruleIndex;
+
+        public RangeEntry(BigDecimal bound, int ruleIndex) {
+            this.bound = bound;
+            this.ruleIndex = ruleIndex;
+        }
+    }
+}
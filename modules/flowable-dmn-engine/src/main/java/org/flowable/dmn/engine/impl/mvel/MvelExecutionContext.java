@@ -17,6 +17,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.engine.common.api.FlowableException;
 import org.mvel2.ParserContext;
 import org.mvel2.integration.PropertyHandler;
@@ -29,8 +30,11 @@ public class MvelExecutionContext {
     protected Map<String, Object> resultVariables = new HashMap<String, Object>();
     protected Map<String, Object> stackVariables;
     protected ParserContext parserContext;
+    protected MvelParserContextTemplate parserContextTemplate;
     protected Map<Class<?>, PropertyHandler> propertyHandlers = new HashMap<Class<?>, PropertyHandler>();
     protected DecisionExecutionAuditContainer auditContainer;
+    protected DecisionExecutionAuditLevel auditLevel = DecisionExecutionAuditLevel.FULL;
+    protected CompiledDecisionTable compiledDecisionTable;
 
     public void checkExecutionContext(String variableId) {
 
@@ -70,6 +74,10 @@ public class MvelExecutionContext {
     }
 
     public ParserContext getParserContext() {
+        // only needed when an expression was not precompiled, so created on first use
+        if (parserContext == null) {
+            parserContext = parserContextTemplate != null ? parserContextTemplate.createParserContext() : new ParserContext();
+        }
         return parserContext;
     }
 
@@ -77,6 +85,14 @@ public class MvelExecutionContext {
         this.parserContext = parserContext;
     }
 
+    public MvelParserContextTemplate getParserContextTemplate() {
+        return parserContextTemplate;
+    }
+
+    public void setParserContextTemplate(MvelParserContextTemplate parserContextTemplate) {
+        this.parserContextTemplate = parserContextTemplate;
+    }
+
     public Map<Class<?>, PropertyHandler> getPropertyHandlers() {
         return propertyHandlers;
     }
@@ -92,4 +108,28 @@ public class MvelExecutionContext {
     public void setAuditContainer(DecisionExecutionAuditContainer auditContainer) {
         this.auditContainer = auditContainer;
     }
+
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+
+    public boolean isAuditEnabled() {
+        return auditContainer != null;
+    }
+
+    public boolean isFullAuditEnabled() {
+        return auditContainer != null && auditLevel == DecisionExecutionAuditLevel.FULL;
+    }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
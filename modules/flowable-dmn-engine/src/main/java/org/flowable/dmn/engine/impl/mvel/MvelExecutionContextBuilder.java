@@ -17,14 +17,15 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.dmn.model.InputClause;
 import org.flowable.dmn.model.OutputClause;
-import org.mvel2.ParserContext;
 import org.mvel2.integration.PropertyHandler;
+import org.mvel2.integration.PropertyHandlerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,21 +39,8 @@ public class MvelExecutionContextBuilder {
     public static MvelExecutionContext build(Decision decision, Map<String, Object> inputVariables,
             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
 
-        MvelExecutionContext executionContext = new MvelExecutionContext();
-
-        // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
-
-        ParserContext parserContext = new ParserContext();
-
-        // add custom functions to context
-        if (customExpressionFunctions != null && !customExpressionFunctions.isEmpty()) {
-            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
-                parserContext.addImport(config.getKey(), config.getValue());
-            }
-        }
-
-        executionContext.setParserContext(parserContext);
+        MvelExecutionContext executionContext = build(decision, inputVariables, new MvelParserContextTemplate(customExpressionFunctions),
+                DecisionExecutionAuditLevel.FULL);
 
         if (propertyHandlers != null) {
             for (Class<?> variableClass : propertyHandlers.keySet()) {
@@ -60,6 +48,22 @@ public class MvelExecutionContextBuilder {
             }
         }
 
+        return executionContext;
+    }
+
+    public static MvelExecutionContext build(Decision decision, Map<String, Object> inputVariables,
+            MvelParserContextTemplate parserContextTemplate, DecisionExecutionAuditLevel auditLevel) {
+
+        MvelExecutionContext executionContext = new MvelExecutionContext();
+
+        // initialize audit trail
+        executionContext.setAuditLevel(auditLevel);
+        if (auditLevel != DecisionExecutionAuditLevel.NONE) {
+            executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
+        }
+
+        executionContext.setParserContextTemplate(parserContextTemplate);
+
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
         preProcessInputVariables(decisionTable, inputVariables);
@@ -71,6 +75,18 @@ public class MvelExecutionContextBuilder {
         return executionContext;
     }
 
+    /**
+     * Registers the property handlers in the global MVEL {@link PropertyHandlerFactory}. MVEL doesn't support property handlers per parser context, so this
+     * is done once when the engine is built instead of for every evaluation.
+     */
+    public static void registerPropertyHandlers(Map<Class<?>, PropertyHandler> propertyHandlers) {
+        if (propertyHandlers != null) {
+            for (Map.Entry<Class<?>, PropertyHandler> propertyHandler : propertyHandlers.entrySet()) {
+                PropertyHandlerFactory.registerPropertyHandler(propertyHandler.getKey(), propertyHandler.getValue());
+            }
+        }
+    }
+
     protected static void preProcessInputVariables(DecisionTable decisionTable, Map<String, Object> inputVariables) {
 
         if (inputVariables == null) {
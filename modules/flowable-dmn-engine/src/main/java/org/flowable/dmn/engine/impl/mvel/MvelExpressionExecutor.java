@@ -20,7 +20,7 @@ import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.OutputClause;
 import org.flowable.dmn.model.UnaryTests;
 import org.mvel2.MVEL;
-import org.mvel2.integration.PropertyHandlerFactory;
+import org.mvel2.ParserContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,7 +31,24 @@ public class MvelExpressionExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(MvelExpressionExecutor.class);
 
+    public static Serializable compileInputExpression(InputClause inputClause, UnaryTests inputEntry, ParserContext parserContext) {
+
+        // pre parse expression
+        String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
+
+        // compile MVEL expression
+        return MVEL.compileExpression(parsedExpression, parserContext);
+    }
+
+    public static Serializable compileOutputExpression(LiteralExpression outputEntry, ParserContext parserContext) {
+        return MVEL.compileExpression(outputEntry.getText(), parserContext);
+    }
+
     public static Boolean executeInputExpression(InputClause inputClause, UnaryTests inputEntry, MvelExecutionContext executionContext) {
+        return executeInputExpression(inputClause, inputEntry, null, executionContext);
+    }
+
+    public static Boolean executeInputExpression(InputClause inputClause, UnaryTests inputEntry, Serializable compiledExpression, MvelExecutionContext executionContext) {
 
         if (inputClause == null) {
             throw new IllegalArgumentException("input clause is required");
@@ -43,18 +60,13 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("input entry is required");
         }
 
-        for (Class<?> variableClass : executionContext.getPropertyHandlers().keySet()) {
-            PropertyHandlerFactory.registerPropertyHandler(variableClass, executionContext.getPropertyHandlers().get(variableClass));
-        }
-
         // check if variable is present MVEL execution context
         executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
 
-        // pre parse expression
-        String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
-
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        // use the precompiled expression of the decision table when available
+        if (compiledExpression == null) {
+            compiledExpression = compileInputExpression(inputClause, inputEntry, executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Boolean result;
@@ -62,6 +74,7 @@ public class MvelExpressionExecutor {
         try {
             result = MVEL.executeExpression(compiledExpression, executionContext.getStackVariables(), Boolean.class);
         } catch (Exception ex) {
+            String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
             logger.warn("Error while executing input entry: {}", parsedExpression, ex);
             throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
         }
@@ -70,6 +83,10 @@ public class MvelExpressionExecutor {
     }
 
     public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, MvelExecutionContext executionContext) {
+        return executeOutputExpression(outputClause, outputEntry, null, executionContext);
+    }
+
+    public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, Serializable compiledExpression, MvelExecutionContext executionContext) {
 
         if (outputClause == null) {
             throw new IllegalArgumentException("output clause is required");
@@ -78,8 +95,10 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("output entry is required");
         }
 
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        // use the precompiled expression of the decision table when available
+        if (compiledExpression == null) {
+            compiledExpression = compileOutputExpression(outputEntry, executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Object result = null;
@@ -93,4 +112,4 @@ public class MvelExpressionExecutor {
 
         return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.mvel2.ParserConfiguration;
+import org.mvel2.ParserContext;
+
+/**
+ * Holds the MVEL parser configuration of a DMN engine, with the imports of all custom expression functions.
+ * 
+ * The parser configuration is set up once and only read afterwards, so it can be shared by all threads. Every compilation gets its own {@link ParserContext}
+ * on top of it, as a parser context keeps state while compiling.
+ */
+public class MvelParserContextTemplate {
+
+    protected final ParserConfiguration parserConfiguration;
+
+    public MvelParserContextTemplate(Map<String, Method> customExpressionFunctions) {
+        parserConfiguration = new ParserConfiguration();
+
+        // add custom functions to the configuration
+        if (customExpressionFunctions != null) {
+            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
+                parserConfiguration.addImport(config.getKey(), config.getValue());
+            }
+        }
+    }
+
+    public ParserContext createParserContext() {
+        return new ParserContext(parserConfiguration);
+    }
+}
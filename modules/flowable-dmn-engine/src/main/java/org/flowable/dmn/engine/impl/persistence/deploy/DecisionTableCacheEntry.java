@@ -14,6 +14,7 @@ package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
 
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DmnDefinition;
@@ -28,6 +29,7 @@ public class DecisionTableCacheEntry implements Serializable {
     protected DecisionTableEntity decisionTableEntity;
     protected DmnDefinition dmnDefinition;
     protected Decision decision;
+    protected transient CompiledDecisionTable compiledDecisionTable;
 
     public DecisionTableCacheEntry(DecisionTableEntity decisionTableEntity, DmnDefinition dmnDefinition, Decision decision) {
         this.decisionTableEntity = decisionTableEntity;
@@ -35,6 +37,12 @@ public class DecisionTableCacheEntry implements Serializable {
         this.decision = decision;
     }
 
+    public DecisionTableCacheEntry(DecisionTableEntity decisionTableEntity, DmnDefinition dmnDefinition, Decision decision,
+            CompiledDecisionTable compiledDecisionTable) {
+        this(decisionTableEntity, dmnDefinition, decision);
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
+
     public DecisionTableEntity getDecisionTableEntity() {
         return decisionTableEntity;
     }
@@ -58,4 +66,12 @@ public class DecisionTableCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+
+/**
+ * Estimates the weight of a decision table cache entry as the number of cells (rules times input and output clauses) of the decision table.
+ */
+public class DecisionTableCacheEntryWeigher implements CacheWeigher<DecisionTableCacheEntry> {
+
+    public long weigh(String id, DecisionTableCacheEntry cacheEntry) {
+        long weight = 1L;
+        Decision decision = cacheEntry.getDecision();
+        if (decision != null && decision.getExpression() instanceof DecisionTable) {
+            DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+            weight += (long) decisionTable.getRules().size() * (decisionTable.getInputs().size() + decisionTable.getOutputs().size());
+        }
+        return weight;
+    }
+
+}
@@ -12,10 +12,20 @@
  */
 package org.flowable.dmn.engine.test.runtime;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
 import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
 import org.joda.time.LocalDate;
@@ -42,6 +52,180 @@ public class RuntimeTest extends AbstractFlowableDmnTest {
         Assert.assertEquals(3D, result.getResultVariables().get("output2"));
     }
 
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecision_precompiled_expressions() {
+        DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().decisionTableKey("decision").singleResult();
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+        Assert.assertNotNull(cacheEntry);
+
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+        Assert.assertNotNull(compiledDecisionTable);
+        Assert.assertNotNull(compiledDecisionTable.getInputEntryExpression(0, 0));
+        Assert.assertNotNull(compiledDecisionTable.getOutputEntryExpression(2, 1));
+
+        // the precompiled expressions are reused for every execution
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> processVariablesInput = new HashMap<String, Object>();
+            processVariablesInput.put("input1", 9 + i);
+            RuleEngineExecutionResult result = ruleService.executeDecisionByKey("decision", processVariablesInput);
+            Assert.assertEquals(new String[] { "test2", "test3", "test" }[i], result.getResultVariables().get("output1"));
+        }
+
+        Assert.assertSame(compiledDecisionTable, dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).getCompiledDecisionTable());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecision_batch() {
+        List<Map<String, Object>> batchInput = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> processVariablesInput = new HashMap<String, Object>();
+            processVariablesInput.put("input1", 9 + (i % 3));
+            batchInput.add(processVariablesInput);
+        }
+
+        assertBatchResults(ruleService.createDecisionBatchExecution()
+                .decisionKey("decision")
+                .inputVariables(batchInput)
+                .execute(), true);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            assertBatchResults(ruleService.createDecisionBatchExecution()
+                    .decisionKey("decision")
+                    .inputVariables(batchInput)
+                    .executorService(executorService)
+                    .execute(), true);
+        } finally {
+            executorService.shutdown();
+        }
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            assertBatchResults(ruleService.createDecisionBatchExecution()
+                    .decisionKey("decision")
+                    .inputVariables(batchInput)
+                    .executorService(forkJoinPool)
+                    .auditLevel(DecisionExecutionAuditLevel.NONE)
+                    .execute(), false);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecision_audit_levels() {
+        Map<String, Object> processVariablesInput = new HashMap<String, Object>();
+        processVariablesInput.put("input1", 10);
+
+        RuleEngineExecutionResult result = ruleService.createDecisionExecution()
+                .decisionKey("decision")
+                .inputVariables(processVariablesInput)
+                .execute();
+        Assert.assertEquals("test3", result.getResultVariables().get("output1"));
+        Assert.assertEquals(3, result.getAuditTrail().getRuleExecutions().size());
+        Assert.assertEquals(2, result.getAuditTrail().getRuleExecutions().get(2).getRuleIndex());
+        Assert.assertEquals(1, result.getAuditTrail().getRuleExecutions().get(2).getConditionResults().size());
+        Assert.assertEquals(2, result.getAuditTrail().getRuleExecutions().get(2).getConclusionResults().size());
+
+        result = ruleService.createDecisionExecution()
+                .decisionKey("decision")
+                .inputVariables(processVariablesInput)
+                .auditLevel(DecisionExecutionAuditLevel.SUMMARY)
+                .execute();
+        Assert.assertEquals("test3", result.getResultVariables().get("output1"));
+        Assert.assertFalse(result.getAuditTrail().isFailed());
+        Assert.assertEquals("test3", result.getAuditTrail().getOutputVariables().get("output1"));
+        Assert.assertEquals(1, result.getAuditTrail().getRuleExecutions().size());
+        Assert.assertEquals(2, result.getAuditTrail().getRuleExecutions().get(0).getRuleIndex());
+        Assert.assertNotNull(result.getAuditTrail().getRuleExecutions().get(0).getEndTime());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().get(0).getConditionResults().isEmpty());
+        Assert.assertSame(result.getAuditTrail().getRuleExecutions().get(0), result.getAuditTrail().getRuleExecution(2));
+
+        result = ruleService.createDecisionExecution()
+                .decisionKey("decision")
+                .inputVariables(processVariablesInput)
+                .auditLevel(DecisionExecutionAuditLevel.NONE)
+                .execute();
+        Assert.assertEquals("test3", result.getResultVariables().get("output1"));
+        Assert.assertNull(result.getAuditTrail());
+
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+        try {
+            result = ruleService.executeDecisionByKey("decision", processVariablesInput);
+            Assert.assertEquals("test3", result.getResultVariables().get("output1"));
+            Assert.assertNull(result.getAuditTrail());
+        } finally {
+            dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        }
+    }
+
+    protected void assertBatchResults(List<RuleEngineExecutionResult> results, boolean auditEnabled) {
+        Assert.assertEquals(100, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            RuleEngineExecutionResult result = results.get(i);
+            Assert.assertEquals(new String[] { "test2", "test3", "test" }[i % 3], result.getResultVariables().get("output1"));
+            if (auditEnabled) {
+                Assert.assertNotNull(result.getAuditTrail());
+                Assert.assertFalse(result.getAuditTrail().isFailed());
+                Assert.assertNotNull(result.getAuditTrail().getDmnDeploymentId());
+            } else {
+                Assert.assertNull(result.getAuditTrail());
+            }
+        }
+    }
+
+    @Test
+    public void executeDecision_indexed_rules() {
+        dmnEngineConfiguration.setEnableDecisionTableIndexing(true);
+        DmnDeployment deployment = null;
+        try {
+            deployment = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/dmn/engine/test/deployment/indexed_rules.dmn")
+                    .deploy();
+
+            DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().deploymentId(deployment.getId()).singleResult();
+            DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+            Assert.assertNotNull(cacheEntry.getCompiledDecisionTable().getDecisionTableIndex());
+
+            assertIndexedResult(10, "gold", "junior gold");
+            assertIndexedResult(10, "silver", "junior");
+            assertIndexedResult(65, "gold", "retiring gold");
+            assertIndexedResult(65L, "bronze", "senior");
+            assertIndexedResult(40, "silver", "adult silver");
+            assertIndexedResult(25.0D, "gold", "young adult gold");
+            assertIndexedResult(25, "bronze", "other");
+            assertIndexedResult(40.0D, "gold", "other");
+
+            // only the candidate rules are evaluated
+            Map<String, Object> processVariablesInput = new HashMap<String, Object>();
+            processVariablesInput.put("age", 70);
+            processVariablesInput.put("category", "bronze");
+            RuleEngineExecutionResult result = ruleService.executeDecisionByKey("decision", processVariablesInput);
+            Assert.assertEquals("senior", result.getResultVariables().get("output1"));
+            Assert.assertEquals(1, result.getAuditTrail().getRuleExecutions().size());
+            Assert.assertEquals(3, result.getAuditTrail().getRuleExecutions().get(0).getRuleIndex());
+            Assert.assertNull(result.getAuditTrail().getRuleExecution(0));
+
+        } finally {
+            dmnEngineConfiguration.setEnableDecisionTableIndexing(false);
+            if (deployment != null) {
+                repositoryService.deleteDeployment(deployment.getId());
+            }
+        }
+    }
+
+    protected void assertIndexedResult(Object age, String category, String expectedOutput) {
+        Map<String, Object> processVariablesInput = new HashMap<String, Object>();
+        processVariablesInput.put("age", age);
+        processVariablesInput.put("category", category);
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKey("decision", processVariablesInput);
+        Assert.assertFalse(result.getAuditTrail().isFailed());
+        Assert.assertEquals(expectedOutput, result.getResultVariables().get("output1"));
+    }
+
     @Test
     @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/dates_1.dmn")
     public void executeDecision_static_dates() {
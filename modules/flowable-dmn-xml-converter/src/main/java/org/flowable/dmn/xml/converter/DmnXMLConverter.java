@@ -17,8 +17,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -49,6 +51,7 @@ import org.flowable.dmn.model.RuleOutputClauseContainer;
 import org.flowable.dmn.xml.constants.DmnXMLConstants;
 import org.flowable.dmn.xml.exception.DmnXMLException;
 import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.flowable.engine.common.api.io.ValidatingXMLStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -65,6 +68,8 @@ public class DmnXMLConverter implements DmnXMLConstants {
     protected static final String DMN_XSD = "org/flowable/impl/dmn/parser/dmn.xsd";
     protected static final String DEFAULT_ENCODING = "UTF-8";
 
+    protected static final Map<ClassLoader, Schema> SCHEMA_CACHE = Collections.synchronizedMap(new WeakHashMap<ClassLoader, Schema>());
+
     protected static Map<String, BaseDmnXMLConverter> convertersToDmnMap = new HashMap<String, BaseDmnXMLConverter>();
     protected static Map<Class<? extends DmnElement>, BaseDmnXMLConverter> convertersToXMLMap = new HashMap<Class<? extends DmnElement>, BaseDmnXMLConverter>();
 
@@ -89,19 +94,33 @@ public class DmnXMLConverter implements DmnXMLConstants {
     }
 
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
     }
 
     public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
+    /**
+     * Returns the compiled DMN XSD for the configured classloader. Compiling the schema is expensive and a {@link Schema} is
+     * thread-safe, so it is compiled once per classloader and shared by all converter instances.
+     */
+    protected Schema getSchema() throws SAXException {
+        ClassLoader schemaClassLoader = classloader != null ? classloader : DmnXMLConverter.class.getClassLoader();
+        Schema schema = SCHEMA_CACHE.get(schemaClassLoader);
+        if (schema == null) {
+            schema = createSchema();
+            SCHEMA_CACHE.put(schemaClassLoader, schema);
+        }
+        return schema;
+    }
+
     protected Schema createSchema() throws SAXException {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = null;
@@ -143,26 +162,18 @@ public class DmnXMLConverter implements DmnXMLConstants {
             in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
             XMLStreamReader xtr = xif.createXMLStreamReader(in);
 
-            try {
-                if (validateSchema) {
-
-                    if (!enableSafeBpmnXml) {
-                        validateModel(inputStreamProvider);
-                    } else {
-                        validateModel(xtr);
-                    }
-
-                    // The input stream is closed after schema validation
-                    in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-                    xtr = xif.createXMLStreamReader(in);
-                }
+            if (!validateSchema) {
+                return convertToDmnModel(xtr);
+            }
 
+            // Validate while converting, so the input is only read once
+            ValidatingXMLStreamReader validatingXtr;
+            try {
+                validatingXtr = new ValidatingXMLStreamReader(xtr, getSchema());
             } catch (Exception e) {
                 throw new DmnXMLException(e.getMessage(), e);
             }
-
-            // XML conversion
-            return convertToDmnModel(xtr);
+            return validateAndConvertToDmnModel(validatingXtr);
 
         } catch (UnsupportedEncodingException e) {
             throw new DmnXMLException("The dmn xml is not UTF8 encoded", e);
@@ -179,6 +190,28 @@ public class DmnXMLConverter implements DmnXMLConstants {
         }
     }
 
+    protected DmnDefinition validateAndConvertToDmnModel(ValidatingXMLStreamReader xtr) {
+        DmnDefinition model = null;
+        try {
+            model = convertToDmnModel(xtr);
+        } catch (DmnXMLException e) {
+            // schema errors take precedence, as they are the likely cause of any conversion error
+            xtr.finishValidation();
+            throwIfInvalid(xtr);
+            throw e;
+        }
+        xtr.finishValidation();
+        throwIfInvalid(xtr);
+        return model;
+    }
+
+    protected void throwIfInvalid(ValidatingXMLStreamReader xtr) {
+        SAXException validationException = xtr.getValidationException();
+        if (validationException != null) {
+            throw new DmnXMLException(validationException.getMessage(), validationException);
+        }
+    }
+
     public DmnDefinition convertToDmnModel(XMLStreamReader xtr) {
         DmnDefinition model = new DmnDefinition();
         DmnElement parentElement = null;
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.xml.converter.DmnXMLConverter;
+import org.flowable.dmn.xml.exception.DmnXMLException;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class SchemaValidationConverterTest {
+
+    @Test
+    public void testValidModel() {
+        DmnDefinition definition = new DmnXMLConverter().convertToDmnModel(getInputStreamProvider("validation/valid.dmn"), true, false);
+        assertNotNull(definition.getDecisionById("decision"));
+    }
+
+    @Test
+    public void testInvalidModel() throws Exception {
+        String expectedMessage = null;
+        try {
+            new DmnXMLConverter().validateModel(getInputStreamProvider("validation/invalid.dmn"));
+            fail("Expected validation error");
+        } catch (SAXException e) {
+            expectedMessage = e.getMessage();
+            assertTrue(expectedMessage.contains("invalidElement"));
+        }
+
+        try {
+            new DmnXMLConverter().convertToDmnModel(getInputStreamProvider("validation/invalid.dmn"), true, false);
+            fail("Expected dmn xml exception");
+        } catch (DmnXMLException e) {
+            assertEquals(expectedMessage, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSchemaSharedBetweenConverters() throws Exception {
+        Schema schema = new TestDmnXMLConverter().getSchema();
+        assertNotNull(schema);
+        assertSame(schema, new TestDmnXMLConverter().getSchema());
+    }
+
+    protected InputStreamProvider getInputStreamProvider(final String resource) {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return SchemaValidationConverterTest.class.getClassLoader().getResourceAsStream(resource);
+            }
+        };
+    }
+
+    protected static class TestDmnXMLConverter extends DmnXMLConverter {
+
+        @Override
+        public Schema getSchema() throws SAXException {
+            return super.getSchema();
+        }
+    }
+}
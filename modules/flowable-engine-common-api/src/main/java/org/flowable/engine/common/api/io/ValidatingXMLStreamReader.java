@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.io;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * {@link XMLStreamReader} that validates the document against a {@link Schema} while it is being read, so a model can be
+ * validated and converted in a single pass over the input.
+ *
+ * Every event pulled from the reader is passed on to a {@link ValidatorHandler}. The first validation error is thrown from
+ * the call to {@link #next()} that encountered it and is kept available through {@link #getValidationException()}, so
+ * callers can still report it when the error was swallowed by the code consuming the events.
+ */
+public class ValidatingXMLStreamReader extends StreamReaderDelegate {
+
+    protected ValidatorHandler validatorHandler;
+    protected AttributesImpl attributes = new AttributesImpl();
+    protected boolean documentStarted;
+    protected boolean readFailed;
+    protected SAXException validationException;
+
+    public ValidatingXMLStreamReader(XMLStreamReader reader, Schema schema) {
+        super(reader);
+        this.validatorHandler = schema.newValidatorHandler();
+        this.validatorHandler.setDocumentLocator(new StreamReaderLocator());
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event;
+        try {
+            event = super.next();
+        } catch (XMLStreamException e) {
+            readFailed = true;
+            throw e;
+        } catch (RuntimeException e) {
+            readFailed = true;
+            throw e;
+        }
+        if (validationException == null) {
+            try {
+                validate(event);
+            } catch (SAXException e) {
+                validationException = e;
+                throw new XMLStreamException(e.getMessage(), getLocation(), e);
+            }
+        }
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        // the delegate would bypass next() and with it the validation
+        int event = next();
+        while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace()) || (event == XMLStreamConstants.CDATA && isWhiteSpace())
+                || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.PROCESSING_INSTRUCTION || event == XMLStreamConstants.COMMENT) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("Parser must be on START_ELEMENT to read next text", getLocation());
+        }
+        StringBuilder text = new StringBuilder();
+        int event = next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE
+                    || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                text.append(getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                throw new XMLStreamException("Element text content may not contain START_ELEMENT", getLocation());
+            } else if (event == XMLStreamConstants.END_DOCUMENT) {
+                throw new XMLStreamException("Unexpected end of document when reading element text content", getLocation());
+            }
+            event = next();
+        }
+        return text.toString();
+    }
+
+    /**
+     * Reads the remainder of the document, so that errors in the part the consumer did not get to are detected as well.
+     * Nothing is read once the underlying reader failed, the consumer is expected to have reported that error already.
+     */
+    public void finishValidation() {
+        try {
+            while (validationException == null && !readFailed && hasNext()) {
+                next();
+            }
+        } catch (XMLStreamException e) {
+            // either a validation error, which is available through getValidationException(), or a read error
+        } catch (RuntimeException e) {
+            // read error of the underlying reader
+        }
+    }
+
+    /**
+     * @return the first validation error of the document read so far, or null if it is valid.
+     */
+    public SAXException getValidationException() {
+        return validationException;
+    }
+
+    protected void validate(int event) throws SAXException {
+        if (!documentStarted) {
+            validatorHandler.startDocument();
+            documentStarted = true;
+        }
+
+        switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+            for (int i = 0; i < getNamespaceCount(); i++) {
+                validatorHandler.startPrefixMapping(nullToEmpty(getNamespacePrefix(i)), nullToEmpty(getNamespaceURI(i)));
+            }
+            attributes.clear();
+            for (int i = 0; i < getAttributeCount(); i++) {
+                QName attributeName = getAttributeName(i);
+                String type = getAttributeType(i);
+                attributes.addAttribute(nullToEmpty(attributeName.getNamespaceURI()), attributeName.getLocalPart(),
+                        qualifiedName(attributeName), type != null ? type : "CDATA", getAttributeValue(i));
+            }
+            validatorHandler.startElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getName()), attributes);
+            break;
+
+        case XMLStreamConstants.END_ELEMENT:
+            validatorHandler.endElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getName()));
+            for (int i = 0; i < getNamespaceCount(); i++) {
+                validatorHandler.endPrefixMapping(nullToEmpty(getNamespacePrefix(i)));
+            }
+            break;
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+            validatorHandler.characters(getTextCharacters(), getTextStart(), getTextLength());
+            break;
+
+        case XMLStreamConstants.ENTITY_REFERENCE:
+            String text = getText();
+            if (text != null) {
+                validatorHandler.characters(text.toCharArray(), 0, text.length());
+            }
+            break;
+
+        case XMLStreamConstants.END_DOCUMENT:
+            validatorHandler.endDocument();
+            break;
+
+        default:
+            // comments and processing instructions are not relevant for validation
+        }
+    }
+
+    protected String qualifiedName(QName name) {
+        String prefix = name.getPrefix();
+        if (prefix == null || XMLConstants.DEFAULT_NS_PREFIX.equals(prefix)) {
+            return name.getLocalPart();
+        }
+        return prefix + ":" + name.getLocalPart();
+    }
+
+    protected String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Reports the position of the underlying reader, so validation errors point to the offending line.
+     */
+    protected class StreamReaderLocator implements Locator {
+
+        @Override
+        public String getPublicId() {
+            Location location = getLocation();
+            return location != null ? location.getPublicId() : null;
+        }
+
+        @Override
+        public String getSystemId() {
+            Location location = getLocation();
+            return location != null ? location.getSystemId() : null;
+        }
+
+        @Override
+        public int getLineNumber() {
+            Location location = getLocation();
+            return location != null ? location.getLineNumber() : -1;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            Location location = getLocation();
+            return location != null ? location.getColumnNumber() : -1;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache on top of a {@link ConcurrentHashMap}: reads don't take a lock. Optionally bounded by the total weight of the cached objects,
+ * as estimated by a {@link CacheWeigher} (by default each object weighs 1, making the bound an entry count).
+ * 
+ * When the bound is exceeded after an add, the least recently accessed objects are evicted (approximate LRU: the access time is only
+ * updated when the previous access was longer than a millisecond ago) until the weight is 10% below the bound, so the entries only need to be
+ * sorted once for a batch of adds. Reads don't update any shared counter; only evictions are counted, for monitoring.
+ */
+public class ConcurrentWeightedCache<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentWeightedCache.class);
+
+    protected static final long ACCESS_TIME_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(1);
+
+    protected ConcurrentMap<String, CacheNode<T>> cache = new ConcurrentHashMap<String, CacheNode<T>>();
+    protected long maxWeight;
+    protected CacheWeigher<T> weigher;
+
+    protected AtomicLong weight = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+
+    /** Cache with no limit */
+    public ConcurrentWeightedCache() {
+        this(-1L, null);
+    }
+
+    /**
+     * Cache in which the total weight of the objects doesn't exceed the given maximum (when larger than 0).
+     */
+    public ConcurrentWeightedCache(long maxWeight, CacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public T get(String id) {
+        CacheNode<T> node = cache.get(id);
+        if (node == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (now - node.accessTime > ACCESS_TIME_RESOLUTION) {
+            node.accessTime = now;
+        }
+        return node.value;
+    }
+
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    public void add(String id, T object) {
+        CacheNode<T> node = new CacheNode<T>(object, weigher != null ? weigher.weigh(id, object) : 1L, System.nanoTime());
+        CacheNode<T> previousNode = cache.put(id, node);
+        weight.addAndGet(previousNode != null ? node.weight - previousNode.weight : node.weight);
+
+        if (maxWeight > 0 && weight.get() > maxWeight) {
+            evict(id);
+        }
+    }
+
+    public void remove(String id) {
+        CacheNode<T> node = cache.remove(id);
+        if (node != null) {
+            weight.addAndGet(-node.weight);
+        }
+    }
+
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    protected void evict(String addedId) {
+        // When another thread is already evicting, that thread brings the weight down, also for the object added by this thread
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (weight.get() <= maxWeight) {
+                return;
+            }
+
+            // The access times are copied before sorting: get() keeps updating them, which would break the ordering while sorting
+            List<EvictionCandidate<T>> candidates = new ArrayList<EvictionCandidate<T>>(cache.size());
+            for (Map.Entry<String, CacheNode<T>> entry : cache.entrySet()) {
+                candidates.add(new EvictionCandidate<T>(entry.getKey(), entry.getValue()));
+            }
+            Collections.sort(candidates);
+
+            long targetWeight = getEvictionTargetWeight();
+            for (EvictionCandidate<T> candidate : candidates) {
+                if (weight.get() <= targetWeight) {
+                    break;
+                }
+
+                // The object that was just added is always kept, also when it exceeds the maximum weight on its own
+                if (!candidate.id.equals(addedId) && cache.remove(candidate.id, candidate.node)) {
+                    weight.addAndGet(-candidate.node.weight);
+                    evictionCount.incrementAndGet();
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Cache weight limit is reached, {} is evicted", candidate.id);
+                    }
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the weight down to which objects are evicted once the maximum weight is exceeded.
+     */
+    protected long getEvictionTargetWeight() {
+        return maxWeight - Math.max(1L, maxWeight / 10L);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    protected static class CacheNode<T> {
+
+        protected final T value;
+        protected final long weight;
+        protected volatile long accessTime;
+
+        public CacheNode(T value, long weight, long accessTime) {
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = accessTime;
+        }
+    }
+
+    protected static class EvictionCandidate<T> implements Comparable<EvictionCandidate<T>> {
+
+        protected final String id;
+        protected final CacheNode<T> node;
+        protected final long accessTime;
+
+        public EvictionCandidate(String id, CacheNode<T> node) {
+            this.id = id;
+            this.node = node;
+            this.accessTime = node.accessTime;
+        }
+
+        @Override
+        public int compareTo(EvictionCandidate<T> other) {
+            long difference = accessTime - other.accessTime;
+            return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+        }
+    }
+
+}
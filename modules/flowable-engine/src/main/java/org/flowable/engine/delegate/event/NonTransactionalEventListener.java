@@ -0,0 +1,24 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+
+/**
+ * Marker for event listeners that do not take part in the transaction of the command dispatching the event. They don't use the command context and their failures never roll back the command.
+ * 
+ * When asynchronous listener delivery is enabled on the process engine configuration, these listeners are notified on a separate thread, after the dispatching thread has moved on.
+ */
+public interface NonTransactionalEventListener extends FlowableEventListener {
+
+}
@@ -12,6 +12,18 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
@@ -24,6 +36,8 @@ import org.flowable.engine.impl.delegate.event.FlowableEngineEvent;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Class capable of dispatching events.
@@ -32,9 +46,19 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FlowableEventDispatcherImpl.class);
+
     protected FlowableEventSupport eventSupport;
     protected boolean enabled = true;
 
+    /**
+     * Event types for which a process definition has registered listeners. Only ever grows, as process definitions can be cached anywhere.
+     */
+    protected Set<FlowableEventType> processDefinitionListenerTypes = Collections.newSetFromMap(new ConcurrentHashMap<FlowableEventType, Boolean>());
+    protected volatile boolean processDefinitionListenersForAllTypes;
+
+    protected ExecutorService asyncListenerExecutorService;
+
     public FlowableEventDispatcherImpl() {
         eventSupport = new FlowableEventSupport();
     }
@@ -62,6 +86,67 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         eventSupport.removeEventListener(listenerToRemove);
     }
 
+    /**
+     * Allows callers to skip building an event that nobody would receive.
+     * 
+     * @return true, if the dispatcher is enabled and an event of the given type could reach at least one listener.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return enabled && (eventSupport.hasListeners(type) || processDefinitionListenersForAllTypes || processDefinitionListenerTypes.contains(type));
+    }
+
+    /**
+     * Checks {@link #hasListeners(FlowableEventType)} when the given dispatcher is a {@link FlowableEventDispatcherImpl}. Other dispatchers can't tell
+     * whether anyone listens to a type, so for them this returns true whenever they are enabled.
+     */
+    public static boolean hasListeners(FlowableEventDispatcher eventDispatcher, FlowableEventType type) {
+        if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            return ((FlowableEventDispatcherImpl) eventDispatcher).hasListeners(type);
+        }
+        return eventDispatcher != null && eventDispatcher.isEnabled();
+    }
+
+    /**
+     * Registers that a process definition has listeners for the given types, so {@link #hasListeners(FlowableEventType)} doesn't report those types as unobserved.
+     * 
+     * @param types
+     *            the types, null or empty when the listeners receive all events
+     */
+    public void addProcessDefinitionListenerTypes(FlowableEventType... types) {
+        if (types == null || types.length == 0) {
+            processDefinitionListenersForAllTypes = true;
+        } else {
+            for (FlowableEventType type : types) {
+                processDefinitionListenerTypes.add(type);
+            }
+        }
+    }
+
+    /**
+     * Notifies {@link org.flowable.engine.delegate.event.NonTransactionalEventListener}s on a single background thread from now on. Notifications are delivered in the order in which the events
+     * were dispatched. They are queued in a bounded buffer; when it is full, the dispatching thread waits until there is room again. The only exception are events dispatched by a listener running
+     * on the delivery thread itself, which are delivered right away, as waiting for the delivery thread would never end.
+     */
+    public synchronized void enableAsyncListenerDelivery(int queueSize) {
+        if (asyncListenerExecutorService == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-event-listener-thread-%d").daemon(true).build();
+            AsyncListenerDeliveryPolicy deliveryPolicy = new AsyncListenerDeliveryPolicy(threadFactory);
+            asyncListenerExecutorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueSize), deliveryPolicy, deliveryPolicy);
+            eventSupport.setAsyncListenerExecutor(asyncListenerExecutorService);
+        }
+    }
+
+    /**
+     * Stops asynchronous listener delivery. Notifications already queued are still delivered.
+     */
+    public synchronized void shutdownAsyncListenerDelivery() {
+        if (asyncListenerExecutorService != null) {
+            eventSupport.setAsyncListenerExecutor(null);
+            asyncListenerExecutorService.shutdown();
+            asyncListenerExecutorService = null;
+        }
+    }
+
     @Override
     public void dispatchEvent(FlowableEvent event) {
         if (enabled) {
@@ -112,4 +197,51 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         return result;
     }
 
+    /**
+     * Keeps asynchronous listener notifications in order when the queue is full, by making the dispatching thread wait for room instead of notifying the listener itself.
+     */
+    protected static class AsyncListenerDeliveryPolicy implements ThreadFactory, RejectedExecutionHandler {
+
+        protected final ThreadFactory threadFactory;
+        protected volatile Thread deliveryThread;
+
+        public AsyncListenerDeliveryPolicy(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = threadFactory.newThread(runnable);
+            deliveryThread = thread;
+            return thread;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable notification, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                // The dispatcher notifies the listener itself once asynchronous delivery has been shut down
+                throw new RejectedExecutionException("Asynchronous listener delivery has been shut down");
+            }
+
+            if (Thread.currentThread() == deliveryThread) {
+                // A listener dispatched an event itself: waiting for room in the queue would block the only thread emptying it
+                notification.run();
+                return;
+            }
+
+            try {
+                executor.getQueue().put(notification);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted while waiting for room in the asynchronous event listener queue, notification was dropped");
+                return;
+            }
+
+            if (executor.isShutdown() && executor.getQueue().remove(notification)) {
+                // Shut down while waiting, the remaining notifications might never be picked up
+                throw new RejectedExecutionException("Asynchronous listener delivery has been shut down");
+            }
+        }
+    }
+
 }
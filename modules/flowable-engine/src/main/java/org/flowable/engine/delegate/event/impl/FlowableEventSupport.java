@@ -12,42 +12,72 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.delegate.event.NonTransactionalEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  * 
+ * Dispatching reads an immutable table holding, per event type, the listeners to notify. The table is rebuilt whenever a listener is added or removed, so dispatching never takes a lock.
+ * 
  * @author Frederik Heremans
  */
 public class FlowableEventSupport {
 
     private static final Logger LOG = LoggerFactory.getLogger(FlowableEventSupport.class);
 
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
+
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    protected volatile DispatchTable dispatchTable = new DispatchTable(NO_LISTENERS, Collections.<FlowableEventType, FlowableEventListener[]> emptyMap());
+
+    /**
+     * When set, {@link NonTransactionalEventListener}s are notified through this executor instead of on the dispatching thread.
+     */
+    protected volatile Executor asyncListenerExecutor;
+
+    /**
+     * The engine dispatcher to tell about the types listened to, when this instance holds the listeners of a process definition.
+     */
+    protected FlowableEventDispatcherImpl processEngineDispatcher;
+
     public FlowableEventSupport() {
-        eventListeners = new CopyOnWriteArrayList<FlowableEventListener>();
+        eventListeners = new ArrayList<FlowableEventListener>();
         typedListeners = new HashMap<FlowableEventType, List<FlowableEventListener>>();
     }
 
+    public FlowableEventSupport(FlowableEventDispatcherImpl processEngineDispatcher) {
+        this();
+        this.processEngineDispatcher = processEngineDispatcher;
+    }
+
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
         if (listenerToAdd == null) {
             throw new FlowableIllegalArgumentException("Listener cannot be null.");
         }
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
+            rebuildDispatchTable();
+        }
+        if (processEngineDispatcher != null) {
+            processEngineDispatcher.addProcessDefinitionListenerTypes();
         }
     }
 
@@ -63,15 +93,27 @@ public class FlowableEventSupport {
             for (FlowableEventType type : types) {
                 addTypedEventListener(listenerToAdd, type);
             }
+            rebuildDispatchTable();
+            if (processEngineDispatcher != null) {
+                processEngineDispatcher.addProcessDefinitionListenerTypes(types);
+            }
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+        rebuildDispatchTable();
+    }
+
+    /**
+     * @return true, if dispatching an event of the given type would notify at least one listener.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return dispatchTable.getListeners(type).length > 0;
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -83,23 +125,19 @@ public class FlowableEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
-        // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
-        }
-
-        // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
-            }
+        // Global listeners first, followed by the listeners registered for the event type
+        for (FlowableEventListener listener : dispatchTable.getListeners(event.getType())) {
+            dispatchEvent(event, listener);
         }
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
+        Executor executor = asyncListenerExecutor;
+        if (executor != null && listener instanceof NonTransactionalEventListener) {
+            dispatchEventAsync(executor, event, listener);
+            return;
+        }
+
         try {
             listener.onEvent(event);
         } catch (Throwable t) {
@@ -113,11 +151,33 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchEventAsync(Executor executor, final FlowableEvent event, final FlowableEventListener listener) {
+        Runnable notification = new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    listener.onEvent(event);
+                } catch (Throwable t) {
+                    // There is no transaction left to fail
+                    LOG.warn("Exception while executing asynchronous event-listener, which was ignored", t);
+                }
+            }
+        };
+
+        try {
+            executor.execute(notification);
+        } catch (RejectedExecutionException e) {
+            // Asynchronous delivery has been shut down
+            notification.run();
+        }
+    }
+
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
         List<FlowableEventListener> listeners = typedListeners.get(type);
         if (listeners == null) {
             // Add an empty list of listeners for this type
-            listeners = new CopyOnWriteArrayList<FlowableEventListener>();
+            listeners = new ArrayList<FlowableEventListener>();
             typedListeners.put(type, listeners);
         }
 
@@ -125,4 +185,50 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    protected void rebuildDispatchTable() {
+        FlowableEventListener[] globalListeners = eventListeners.toArray(new FlowableEventListener[eventListeners.size()]);
+
+        Map<FlowableEventType, FlowableEventListener[]> listenersByType = new HashMap<FlowableEventType, FlowableEventListener[]>();
+        for (Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            List<FlowableEventListener> typed = entry.getValue();
+            if (!typed.isEmpty()) {
+                FlowableEventListener[] listeners = new FlowableEventListener[globalListeners.length + typed.size()];
+                System.arraycopy(globalListeners, 0, listeners, 0, globalListeners.length);
+                for (int i = 0; i < typed.size(); i++) {
+                    listeners[globalListeners.length + i] = typed.get(i);
+                }
+                listenersByType.put(entry.getKey(), listeners);
+            }
+        }
+
+        dispatchTable = new DispatchTable(globalListeners, listenersByType);
+    }
+
+    public Executor getAsyncListenerExecutor() {
+        return asyncListenerExecutor;
+    }
+
+    public void setAsyncListenerExecutor(Executor asyncListenerExecutor) {
+        this.asyncListenerExecutor = asyncListenerExecutor;
+    }
+
+    /**
+     * Immutable snapshot of the registered listeners, indexed by event type.
+     */
+    protected static class DispatchTable {
+
+        protected final FlowableEventListener[] globalListeners;
+        protected final Map<FlowableEventType, FlowableEventListener[]> listenersByType;
+
+        public DispatchTable(FlowableEventListener[] globalListeners, Map<FlowableEventType, FlowableEventListener[]> listenersByType) {
+            this.globalListeners = globalListeners;
+            this.listenersByType = listenersByType;
+        }
+
+        public FlowableEventListener[] getListeners(FlowableEventType type) {
+            FlowableEventListener[] listeners = listenersByType.get(type);
+            return listeners != null ? listeners : globalListeners;
+        }
+    }
 }
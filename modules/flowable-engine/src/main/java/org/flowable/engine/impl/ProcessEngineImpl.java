@@ -31,6 +31,7 @@ import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.TransactionListener;
@@ -95,6 +96,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationsProcessEngineBuild());
         }
 
+        if (processEngineConfiguration.getProcessDefinitionCacheWarmUpParallelism() > 0) {
+            processEngineConfiguration.getDeploymentManager().warmUpProcessDefinitionCache(processEngineConfiguration.getProcessDefinitionCacheWarmUpParallelism());
+        }
+
         if (name == null) {
             log.info("default ProcessEngine created");
         } else {
@@ -120,6 +125,11 @@ public class ProcessEngineImpl implements ProcessEngine {
             asyncExecutor.shutdown();
         }
 
+        // Write the pending event log entries while the database is still there
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+        }
+
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
             closeRunnable.run();
@@ -130,6 +140,10 @@ public class ProcessEngineImpl implements ProcessEngine {
         }
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getEventDispatcher() instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).shutdownAsyncListenerDelivery();
+        }
     }
 
     // getters and setters
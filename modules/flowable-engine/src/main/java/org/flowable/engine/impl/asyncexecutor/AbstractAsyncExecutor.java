@@ -35,6 +35,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
 
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
+    protected AsyncJobAcquisitionController asyncJobAcquisitionController;
 
     protected boolean isAutoActivate;
     protected boolean isActive;
@@ -44,6 +45,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int maxAsyncJobsDuePerAcquisition = 1;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
+    protected int maxAsyncJobAcquireWaitTimeInMillis = 60 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
     protected String lockOwner = UUID.randomUUID().toString();
@@ -248,6 +250,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultAsyncJobAcquireWaitTimeInMillis = defaultAsyncJobAcquireWaitTimeInMillis;
     }
 
+    public int getMaxAsyncJobAcquireWaitTimeInMillis() {
+        return maxAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMaxAsyncJobAcquireWaitTimeInMillis(int maxAsyncJobAcquireWaitTimeInMillis) {
+        this.maxAsyncJobAcquireWaitTimeInMillis = maxAsyncJobAcquireWaitTimeInMillis;
+    }
+
     public void setTimerJobRunnable(AcquireTimerJobsRunnable timerJobRunnable) {
         this.timerJobRunnable = timerJobRunnable;
     }
@@ -292,6 +302,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    public AsyncJobAcquisitionController getAsyncJobAcquisitionController() {
+        return asyncJobAcquisitionController;
+    }
+
+    public void setAsyncJobAcquisitionController(AsyncJobAcquisitionController asyncJobAcquisitionController) {
+        this.asyncJobAcquisitionController = asyncJobAcquisitionController;
+    }
+
     public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
         return executeAsyncRunnableFactory;
     }
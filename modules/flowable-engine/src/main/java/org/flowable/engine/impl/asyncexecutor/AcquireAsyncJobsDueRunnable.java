@@ -18,6 +18,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.slf4j.Logger;
@@ -27,7 +29,7 @@ import org.slf4j.LoggerFactory;
  * 
  * @author Tijs Rademakers
  */
-public class AcquireAsyncJobsDueRunnable implements Runnable {
+public class AcquireAsyncJobsDueRunnable implements Runnable, JobAvailabilityListener {
 
     private static Logger log = LoggerFactory.getLogger(AcquireAsyncJobsDueRunnable.class);
 
@@ -37,6 +39,15 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    /** Set when a {@link JobAvailabilityNotifier} notified new jobs, so the next wait is skipped */
+    protected boolean isJobAvailable;
+
+    /** The wait time after the last acquisition that didn't find any job, doubled for every next one when notifications are used */
+    protected long idleWaitTime;
+
+    /** The thread running this runnable, notifications done by that thread itself (like for unacquired jobs) don't skip its next wait */
+    protected Thread acquisitionThread;
+
     public AcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
     }
@@ -47,6 +58,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
         CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
 
+        acquisitionThread = Thread.currentThread();
+        JobAvailabilityNotifier jobAvailabilityNotifier = asyncExecutor.getProcessEngineConfiguration().getAsyncExecutorJobAvailabilityNotifier();
+        if (jobAvailabilityNotifier != null) {
+            jobAvailabilityNotifier.addJobAvailabilityListener(this);
+        }
+
         while (!isInterrupted) {
             final long millisToWait;
 
@@ -69,24 +86,46 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 sleep(millisToWait);
             }
         }
+
+        if (jobAvailabilityNotifier != null) {
+            jobAvailabilityNotifier.removeJobAvailabilityListener(this);
+        }
         log.info("stopped async job due acquisition");
     }
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity));
+            AsyncJobAcquisitionController acquisitionController = asyncExecutor.getAsyncJobAcquisitionController();
+            int acquireSize = remainingCapacity;
+            int expectedNrOfJobs = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+            if (acquisitionController != null) {
+                acquireSize = acquisitionController.determineAcquireSize(remainingCapacity);
+                if (acquisitionController.isAdaptive()) {
+                    expectedNrOfJobs = acquireSize;
+                }
+            }
+
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, acquireSize));
 
             List<JobEntity> rejectedJobs = offerJobs(acquiredJobs);
+            if (acquisitionController != null) {
+                acquisitionController.jobsAcquired(acquiredJobs.size(), rejectedJobs.size());
+            }
 
             log.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
             if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
-            if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
+            if (acquiredJobs.size() >= expectedNrOfJobs) {
                 // the maximum amount of jobs were acquired, so we can expect more.
+                idleWaitTime = 0L;
                 return 0L;
             }
+            if (acquiredJobs.size() == 0) {
+                return getIdleWaitTime();
+            }
+            idleWaitTime = 0L;
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             if (log.isDebugEnabled()) {
@@ -103,17 +142,81 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    /**
+     * Without a {@link JobAvailabilityNotifier}, the default wait time is used. With a notifier, new jobs wake up the acquisition anyway,
+     * so the wait time doubles for every acquisition without jobs, up to the max wait time. This lowers the load on the database of idle engines.
+     */
+    protected long getIdleWaitTime() {
+        long defaultWaitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        if (asyncExecutor.getProcessEngineConfiguration().getAsyncExecutorJobAvailabilityNotifier() == null) {
+            return defaultWaitTime;
+        }
+
+        if (idleWaitTime == 0L) {
+            idleWaitTime = defaultWaitTime;
+        } else {
+            idleWaitTime = Math.max(defaultWaitTime, Math.min(idleWaitTime * 2, asyncExecutor.getMaxAsyncJobAcquireWaitTimeInMillis()));
+        }
+        return idleWaitTime;
+    }
+
+    @Override
+    public void jobAvailable() {
+        if (Thread.currentThread() == acquisitionThread) {
+            // The jobs were made available by this thread, e.g. unacquired because the queue is full, so it must keep backing off
+            return;
+        }
+
+        synchronized (MONITOR) {
+            isJobAvailable = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     protected List<JobEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobEntity> rejected = new ArrayList<JobEntity>();
+        List<JobEntity> notOffered = new ArrayList<JobEntity>();
         for (JobEntity job : acquiredJobs.getJobs()) {
+            if (!rejected.isEmpty()) {
+                // Once the queue is full, the other jobs would be rejected too
+                notOffered.add(job);
+                continue;
+            }
+
             boolean jobSuccessFullyOffered = asyncExecutor.executeAsyncJob(job);
             if (!jobSuccessFullyOffered) {
                 rejected.add(job);
             }
         }
+
+        if (!notOffered.isEmpty()) {
+            unacquireJobs(notOffered);
+            rejected.addAll(notOffered);
+        }
         return rejected;
     }
 
+    /**
+     * Unlocks the given jobs in one transaction, so other async executors can acquire them immediately instead of when the lock expires.
+     */
+    protected void unacquireJobs(final List<JobEntity> jobs) {
+        asyncExecutor.getProcessEngineConfiguration().getCommandExecutor().execute(new Command<Void>() {
+            public Void execute(CommandContext commandContext) {
+                for (JobEntity job : jobs) {
+                    commandContext.getJobManager().unacquire(job);
+                }
+                return null;
+            }
+        });
+
+        JobAvailabilityNotifier jobAvailabilityNotifier = asyncExecutor.getProcessEngineConfiguration().getAsyncExecutorJobAvailabilityNotifier();
+        if (jobAvailabilityNotifier != null) {
+            jobAvailabilityNotifier.notifyJobAvailable(jobs.get(0));
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -130,10 +233,16 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     log.debug("async job acquisition thread sleeping for {} millis", millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !isJobAvailable) {
                         isWaiting.set(true);
                         MONITOR.wait(millisToWait);
                     }
+
+                    if (isJobAvailable) {
+                        // Notified of new jobs: acquire now and start backing off from the default wait time again
+                        isJobAvailable = false;
+                        idleWaitTime = 0L;
+                    }
                 }
 
                 if (log.isDebugEnabled()) {
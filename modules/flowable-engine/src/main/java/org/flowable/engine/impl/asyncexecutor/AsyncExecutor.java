@@ -40,6 +40,11 @@ public interface AsyncExecutor {
 
     int getRemainingCapacity();
 
+    /**
+     * Returns the controller determining the number of async jobs acquired at once and keeping the acquisition metrics, or null when the default sizing is used.
+     */
+    AsyncJobAcquisitionController getAsyncJobAcquisitionController();
+
     /* Getters and Setters */
 
     void setProcessEngineConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration);
@@ -70,6 +75,10 @@ public interface AsyncExecutor {
 
     void setDefaultAsyncJobAcquireWaitTimeInMillis(int waitTimeInMillis);
 
+    int getMaxAsyncJobAcquireWaitTimeInMillis();
+
+    void setMaxAsyncJobAcquireWaitTimeInMillis(int maxWaitTimeInMillis);
+
     public int getDefaultQueueSizeFullWaitTimeInMillis();
 
     public void setDefaultQueueSizeFullWaitTimeInMillis(int defaultQueueSizeFullWaitTimeInMillis);
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Determines how many async jobs the {@link AcquireAsyncJobsDueRunnable} acquires at once and keeps metrics about the acquisition.
+ * 
+ * When adaptive, the acquire size is based on the free threads of the job execution thread pool plus the number of jobs that are expected to be executed
+ * until the next acquisition (the measured execution rate times the acquire wait time). The acquire size never exceeds the remaining queue capacity
+ * or {@link AsyncExecutor#getMaxAsyncJobsDuePerAcquisition()}, so the latter should be raised when using adaptive acquisition.
+ * When not adaptive (or when the executor service isn't a {@link ThreadPoolExecutor}), the acquire size is the same as without this controller.
+ */
+public class AsyncJobAcquisitionController {
+
+    /** Weight of the last measurement in the execution rate, the rest is the rate measured before */
+    protected static final double EXECUTION_RATE_SMOOTHING_FACTOR = 0.3;
+
+    protected DefaultAsyncJobExecutor asyncExecutor;
+    protected boolean isAdaptive;
+
+    // Only used by the acquisition thread
+    protected long lastCompletedJobCount = -1L;
+    protected long lastMeasurementTime;
+
+    protected volatile double jobExecutionRate;
+    protected volatile int lastAcquireSize;
+    protected final AtomicLong acquisitionCount = new AtomicLong();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+
+    public AsyncJobAcquisitionController(DefaultAsyncJobExecutor asyncExecutor, boolean isAdaptive) {
+        this.asyncExecutor = asyncExecutor;
+        this.isAdaptive = isAdaptive;
+    }
+
+    public int determineAcquireSize(int remainingCapacity) {
+        int maxAcquireSize = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int acquireSize = maxAcquireSize;
+
+        ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+        if (isAdaptive && threadPoolExecutor != null) {
+            updateJobExecutionRate(threadPoolExecutor);
+
+            int freeThreads = Math.max(0, threadPoolExecutor.getMaximumPoolSize() - threadPoolExecutor.getActiveCount());
+            int expectedExecutedJobs = (int) Math.ceil(jobExecutionRate * asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis() / 1000.0);
+            acquireSize = Math.max(1, Math.min(maxAcquireSize, freeThreads + expectedExecutedJobs));
+        }
+
+        lastAcquireSize = acquireSize;
+        return acquireSize;
+    }
+
+    protected void updateJobExecutionRate(ThreadPoolExecutor threadPoolExecutor) {
+        long now = System.currentTimeMillis();
+        long completedJobCount = threadPoolExecutor.getCompletedTaskCount();
+        if (lastCompletedJobCount >= 0L && now > lastMeasurementTime) {
+            double measuredRate = (completedJobCount - lastCompletedJobCount) * 1000.0 / (now - lastMeasurementTime);
+            jobExecutionRate = EXECUTION_RATE_SMOOTHING_FACTOR * measuredRate + (1 - EXECUTION_RATE_SMOOTHING_FACTOR) * jobExecutionRate;
+        }
+        lastCompletedJobCount = completedJobCount;
+        lastMeasurementTime = now;
+    }
+
+    public void jobsAcquired(int nrOfAcquiredJobs, int nrOfRejectedJobs) {
+        acquisitionCount.incrementAndGet();
+        acquiredJobCount.addAndGet(nrOfAcquiredJobs);
+        rejectedJobCount.addAndGet(nrOfRejectedJobs);
+    }
+
+    protected ThreadPoolExecutor getThreadPoolExecutor() {
+        ExecutorService executorService = asyncExecutor.getExecutorService();
+        if (executorService instanceof ThreadPoolExecutor) {
+            return (ThreadPoolExecutor) executorService;
+        }
+        return null;
+    }
+
+    public boolean isAdaptive() {
+        return isAdaptive;
+    }
+
+    public void setAdaptive(boolean isAdaptive) {
+        this.isAdaptive = isAdaptive;
+    }
+
+    /** The number of jobs waiting in the queue of the job execution thread pool */
+    public int getQueueDepth() {
+        return asyncExecutor.getThreadPoolQueue() != null ? asyncExecutor.getThreadPoolQueue().size() : 0;
+    }
+
+    /** The smoothed number of jobs executed per second, only measured when adaptive */
+    public double getJobExecutionRate() {
+        return jobExecutionRate;
+    }
+
+    public int getLastAcquireSize() {
+        return lastAcquireSize;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    /** The number of acquired jobs that didn't fit in the queue and were unlocked again */
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+}
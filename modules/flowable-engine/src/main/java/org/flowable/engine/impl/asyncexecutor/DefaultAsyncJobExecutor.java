@@ -61,6 +61,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     /** Whether to unlock jobs that are owned by this executor (have the same lockOwner) at startup */
     protected boolean unlockOwnedJobs;
 
+    /** Whether the number of async jobs acquired at once adapts to the job execution rate and free threads, see {@link AsyncJobAcquisitionController} */
+    protected boolean adaptiveAsyncJobAcquisition;
+
     /** The queue used for job execution work */
     protected BlockingQueue<Runnable> threadPoolQueue;
 
@@ -138,6 +141,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
         }
 
+        if (asyncJobAcquisitionController == null) {
+            asyncJobAcquisitionController = new AsyncJobAcquisitionController(this, adaptiveAsyncJobAcquisition);
+        }
+
         if (unlockOwnedJobs) {
             unlockOwnedJobs();
         }
@@ -303,6 +310,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.unlockOwnedJobs = unlockOwnedJobs;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisition() {
+        return adaptiveAsyncJobAcquisition;
+    }
+
+    public void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition) {
+        this.adaptiveAsyncJobAcquisition = adaptiveAsyncJobAcquisition;
+    }
+
     public BlockingQueue<Runnable> getThreadPoolQueue() {
         return threadPoolQueue;
     }
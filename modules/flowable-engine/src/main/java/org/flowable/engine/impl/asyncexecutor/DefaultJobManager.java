@@ -98,6 +98,11 @@ public class DefaultJobManager implements JobManager {
         // When the async executor is activated, the job is directly passed on to the async executor thread
         if (isAsyncExecutorActive()) {
             hintAsyncExecutor(jobEntity);
+
+        } else if (processEngineConfiguration.getAsyncExecutorJobAvailabilityNotifier() != null && Context.getTransactionContext() != null) {
+            // The job isn't locked, so the async executors of other engines are notified once the job is committed
+            JobAddedTransactionListener jobAddedTransactionListener = new JobAddedTransactionListener(jobEntity, getAsyncExecutor());
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobAddedTransactionListener);
         }
     }
 
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobAvailabilityNotifier} that notifies the listeners in the same JVM. Share one instance between the engines of one JVM to notify all of them.
+ */
+public class InMemoryJobAvailabilityNotifier implements JobAvailabilityNotifier {
+
+    private static Logger log = LoggerFactory.getLogger(InMemoryJobAvailabilityNotifier.class);
+
+    protected List<JobAvailabilityListener> listeners = new CopyOnWriteArrayList<JobAvailabilityListener>();
+
+    @Override
+    public void notifyJobAvailable(Job job) {
+        notifyListeners();
+    }
+
+    protected void notifyListeners() {
+        for (JobAvailabilityListener listener : listeners) {
+            try {
+                listener.jobAvailable();
+            } catch (Exception e) {
+                log.warn("Exception while notifying job availability listener {}", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void addJobAvailabilityListener(JobAvailabilityListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeJobAvailabilityListener(JobAvailabilityListener listener) {
+        listeners.remove(listener);
+    }
+
+    public List<JobAvailabilityListener> getListeners() {
+        return listeners;
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Notifies the async job acquisition of one or more engines that new async jobs are available, so they don't have to wait for their next acquire query.
+ * 
+ * When the same notifier instance (or a notifier delivering to other JVMs, like the {@link SocketJobAvailabilityNotifier}) is configured on all engines,
+ * a job created by one engine is picked up immediately by the others, and idle acquisition threads can back off to longer wait times.
+ */
+public interface JobAvailabilityNotifier {
+
+    /**
+     * Called after the transaction that made the job available for acquisition has been committed.
+     */
+    void notifyJobAvailable(Job job);
+
+    /**
+     * Registers a listener that is called for every notification, typically the {@link AcquireAsyncJobsDueRunnable} of an {@link AsyncExecutor}.
+     */
+    void addJobAvailabilityListener(JobAvailabilityListener listener);
+
+    void removeJobAvailabilityListener(JobAvailabilityListener listener);
+
+}
@@ -0,0 +1,309 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobAvailabilityNotifier} that, next to the listeners in the same JVM, notifies other JVMs over TCP sockets.
+ * 
+ * Every engine listens on {@link #setPort(int)} (bound to the loopback address by default, see {@link #setBindAddress(String)}) and sends
+ * a notification to all {@link #setPeers(List)}, given as 'host:port'. Notifications are sent from a separate thread, so committing transactions
+ * never wait for other nodes, and notifications that happen while sending are merged into one. Failing to reach a peer is not an error:
+ * that peer will still find the job with its next acquire query.
+ * 
+ * The sockets and threads are started when the async executor registers its listener and stopped when it's removed again. Notifying never
+ * starts them and never throws, so a node without a running async executor only notifies its local listeners.
+ */
+public class SocketJobAvailabilityNotifier extends InMemoryJobAvailabilityNotifier {
+
+    private static Logger log = LoggerFactory.getLogger(SocketJobAvailabilityNotifier.class);
+
+    protected static final int NOTIFICATION = 1;
+
+    /** The port to listen on for notifications of other nodes. 0 means notifications are only sent, not received. */
+    protected int port;
+
+    /** The address to listen on. By default the loopback address, meaning only nodes on the same host can send notifications. */
+    protected String bindAddress;
+
+    /** The other nodes to notify, as 'host:port'. */
+    protected List<String> peers = new ArrayList<String>();
+
+    protected int connectTimeoutInMillis = 1000;
+
+    /** The time to wait for the notification of a connected peer, so a slow peer doesn't hold up the notifications of others for long. */
+    protected int readTimeoutInMillis = 200;
+
+    protected volatile boolean isActive;
+    protected ServerSocket serverSocket;
+
+    // A thread stops as soon as it's no longer the current receiver or sender, so a quick stop and start never leaves two of them running
+    protected volatile Thread receiverThread;
+    protected volatile Thread senderThread;
+
+    protected final Object senderMonitor = new Object();
+    protected boolean isNotificationPending;
+
+    public SocketJobAvailabilityNotifier() {
+    }
+
+    public SocketJobAvailabilityNotifier(int port, List<String> peers) {
+        this.port = port;
+        this.peers = peers;
+    }
+
+    @Override
+    public void notifyJobAvailable(Job job) {
+        notifyListeners();
+
+        if (isActive && !peers.isEmpty()) {
+            synchronized (senderMonitor) {
+                isNotificationPending = true;
+                senderMonitor.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void addJobAvailabilityListener(JobAvailabilityListener listener) {
+        super.addJobAvailabilityListener(listener);
+        start();
+    }
+
+    @Override
+    public void removeJobAvailabilityListener(JobAvailabilityListener listener) {
+        super.removeJobAvailabilityListener(listener);
+        if (listeners.isEmpty()) {
+            stop();
+        }
+    }
+
+    public synchronized void start() {
+        if (isActive) {
+            return;
+        }
+        isActive = true;
+
+        if (port > 0) {
+            try {
+                InetAddress address = bindAddress != null ? InetAddress.getByName(bindAddress) : InetAddress.getLoopbackAddress();
+                serverSocket = new ServerSocket(port, 50, address);
+            } catch (IOException e) {
+                isActive = false;
+                throw new FlowableException("Could not listen for job availability notifications on port " + port, e);
+            }
+
+            final ServerSocket receiverSocket = serverSocket;
+            Thread thread = new Thread(new Runnable() {
+
+                public void run() {
+                    receiveNotifications(receiverSocket);
+                }
+            }, "flowable-job-availability-receiver");
+            thread.setDaemon(true);
+            receiverThread = thread;
+            thread.start();
+        }
+
+        Thread thread = new Thread(new Runnable() {
+
+            public void run() {
+                sendNotifications();
+            }
+        }, "flowable-job-availability-sender");
+        thread.setDaemon(true);
+        senderThread = thread;
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        if (!isActive) {
+            return;
+        }
+        isActive = false;
+
+        if (serverSocket != null) {
+            try {
+                serverSocket.close(); // Makes the receiver thread stop waiting in accept()
+            } catch (IOException e) {
+                log.debug("Could not close job availability notification socket", e);
+            }
+            serverSocket = null;
+        }
+
+        Thread stoppedReceiverThread = receiverThread;
+        Thread stoppedSenderThread = senderThread;
+        receiverThread = null;
+        senderThread = null;
+
+        if (stoppedSenderThread != null) {
+            stoppedSenderThread.interrupt();
+        }
+        synchronized (senderMonitor) {
+            senderMonitor.notifyAll();
+        }
+
+        joinThread(stoppedReceiverThread);
+        joinThread(stoppedSenderThread);
+    }
+
+    protected void joinThread(Thread thread) {
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                // The sender can be connecting to a peer, which takes at most the connect timeout
+                thread.join(connectTimeoutInMillis + readTimeoutInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    protected void receiveNotifications(ServerSocket serverSocket) {
+        while (receiverThread == Thread.currentThread() && !serverSocket.isClosed()) {
+            Socket socket = null;
+            try {
+                socket = serverSocket.accept();
+                socket.setSoTimeout(readTimeoutInMillis);
+                InputStream inputStream = socket.getInputStream();
+                if (inputStream.read() == NOTIFICATION) {
+                    notifyListeners();
+                }
+
+            } catch (IOException e) {
+                if (receiverThread == Thread.currentThread() && !serverSocket.isClosed()) {
+                    log.warn("Exception while receiving job availability notification", e);
+                }
+            } finally {
+                closeSocket(socket);
+            }
+        }
+    }
+
+    protected void sendNotifications() {
+        while (senderThread == Thread.currentThread()) {
+            synchronized (senderMonitor) {
+                while (senderThread == Thread.currentThread() && !isNotificationPending) {
+                    try {
+                        senderMonitor.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                isNotificationPending = false;
+            }
+
+            if (senderThread == Thread.currentThread()) {
+                for (String peer : peers) {
+                    sendNotification(peer);
+                }
+            }
+        }
+    }
+
+    protected void sendNotification(String peer) {
+        Socket socket = new Socket();
+        try {
+            socket.connect(getSocketAddress(peer), connectTimeoutInMillis);
+            socket.getOutputStream().write(NOTIFICATION);
+            socket.getOutputStream().flush();
+
+        } catch (IOException e) {
+            log.debug("Could not send job availability notification to {}: {}", peer, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Could not send job availability notification to {}", peer, e);
+        } finally {
+            closeSocket(socket);
+        }
+    }
+
+    protected InetSocketAddress getSocketAddress(String peer) {
+        int separatorIndex = peer.lastIndexOf(':');
+        if (separatorIndex <= 0) {
+            throw new FlowableIllegalArgumentException("Invalid peer address '" + peer + "', expected 'host:port'");
+        }
+        try {
+            return new InetSocketAddress(peer.substring(0, separatorIndex), Integer.parseInt(peer.substring(separatorIndex + 1)));
+        } catch (NumberFormatException e) {
+            throw new FlowableIllegalArgumentException("Invalid port in peer address '" + peer + "'", e);
+        }
+    }
+
+    protected void closeSocket(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Could not close socket", e);
+            }
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getBindAddress() {
+        return bindAddress;
+    }
+
+    public void setBindAddress(String bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    public List<String> getPeers() {
+        return peers;
+    }
+
+    public void setPeers(List<String> peers) {
+        this.peers = peers;
+    }
+
+    public int getConnectTimeoutInMillis() {
+        return connectTimeoutInMillis;
+    }
+
+    public void setConnectTimeoutInMillis(int connectTimeoutInMillis) {
+        this.connectTimeoutInMillis = connectTimeoutInMillis;
+    }
+
+    public int getReadTimeoutInMillis() {
+        return readTimeoutInMillis;
+    }
+
+    public void setReadTimeoutInMillis(int readTimeoutInMillis) {
+        this.readTimeoutInMillis = readTimeoutInMillis;
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+
+}
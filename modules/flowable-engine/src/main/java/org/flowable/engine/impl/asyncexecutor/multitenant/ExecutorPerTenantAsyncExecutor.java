@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.flowable.engine.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionController;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.engine.impl.asyncexecutor.JobManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -104,6 +105,11 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         return determineAsyncExecutor().getRemainingCapacity();
     }
 
+    @Override
+    public AsyncJobAcquisitionController getAsyncJobAcquisitionController() {
+        return determineAsyncExecutor().getAsyncJobAcquisitionController();
+    }
+
     public JobManager getJobManager() {
         // Should never be accessed on this class, should be accessed on the actual AsyncExecutor
         throw new UnsupportedOperationException();
@@ -203,6 +209,16 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    public int getMaxAsyncJobAcquireWaitTimeInMillis() {
+        return determineAsyncExecutor().getMaxAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    public void setMaxAsyncJobAcquireWaitTimeInMillis(int maxWaitTimeInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setMaxAsyncJobAcquireWaitTimeInMillis(maxWaitTimeInMillis);
+        }
+    }
+
     public int getDefaultQueueSizeFullWaitTimeInMillis() {
         return determineAsyncExecutor().getDefaultQueueSizeFullWaitTimeInMillis();
     }
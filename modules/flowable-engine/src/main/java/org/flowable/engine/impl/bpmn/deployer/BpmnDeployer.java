@@ -241,8 +241,9 @@ public class BpmnDeployer implements Deployer {
      * Loads the persisted version of each process definition and set values on the in-memory version to be consistent.
      */
     protected void makeProcessDefinitionsConsistentWithPersistedVersions(ParsedDeployment parsedDeployment) {
+        Map<String, ProcessDefinitionEntity> persistedProcessDefinitions = bpmnDeploymentHelper.getPersistedInstancesOfProcessDefinitions(parsedDeployment.getDeployment());
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
-            ProcessDefinitionEntity persistedProcessDefinition = bpmnDeploymentHelper.getPersistedInstanceOfProcessDefinition(processDefinition);
+            ProcessDefinitionEntity persistedProcessDefinition = persistedProcessDefinitions.get(processDefinition.getKey());
 
             if (persistedProcessDefinition != null) {
                 processDefinition.setId(persistedProcessDefinition.getId());
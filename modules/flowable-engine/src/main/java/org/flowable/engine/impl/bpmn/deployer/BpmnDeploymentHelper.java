@@ -13,9 +13,11 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -23,12 +25,14 @@ import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.task.IdentityLinkType;
 
 /**
@@ -134,6 +138,26 @@ public class BpmnDeploymentHelper {
         return persistedProcessDefinition;
     }
 
+    /**
+     * Gets the persisted versions of all process definitions of the deployment with a single query, mapped by process definition key. The
+     * process definitions of a deployment all have the tenant of the deployment, so the key identifies them within a deployment.
+     */
+    public Map<String, ProcessDefinitionEntity> getPersistedInstancesOfProcessDefinitions(DeploymentEntity deployment) {
+        if (StringUtils.isEmpty(deployment.getId())) {
+            throw new IllegalStateException("Provided deployment must have an id.");
+        }
+
+        ProcessDefinitionEntityManager processDefinitionManager = Context.getCommandContext().getProcessEngineConfiguration().getProcessDefinitionEntityManager();
+        List<ProcessDefinition> persistedProcessDefinitions = processDefinitionManager.findProcessDefinitionsByQueryCriteria(
+                new ProcessDefinitionQueryImpl().deploymentId(deployment.getId()), null);
+
+        Map<String, ProcessDefinitionEntity> persistedProcessDefinitionsByKey = new HashMap<String, ProcessDefinitionEntity>();
+        for (ProcessDefinition persistedProcessDefinition : persistedProcessDefinitions) {
+            persistedProcessDefinitionsByKey.put(persistedProcessDefinition.getKey(), (ProcessDefinitionEntity) persistedProcessDefinition);
+        }
+        return persistedProcessDefinitionsByKey;
+    }
+
     /**
      * Updates all timers and events for the process definition. This removes obsolete message and signal subscriptions and timers, and adds new ones.
      */
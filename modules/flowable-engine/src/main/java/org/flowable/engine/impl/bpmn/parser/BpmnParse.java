@@ -40,6 +40,7 @@ import org.flowable.engine.common.impl.util.io.InputStreamSource;
 import org.flowable.engine.common.impl.util.io.StreamSource;
 import org.flowable.engine.common.impl.util.io.StringStreamSource;
 import org.flowable.engine.common.impl.util.io.UrlStreamSource;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.delegate.event.impl.FlowableEventSupport;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
@@ -187,7 +188,7 @@ public class BpmnParse implements BpmnXMLConstants {
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
-            bpmnModel.setEventSupport(new FlowableEventSupport());
+            bpmnModel.setEventSupport(createEventSupport());
 
             // Validation successful (or no validation)
 
@@ -274,6 +275,14 @@ public class BpmnParse implements BpmnXMLConstants {
     /**
      * Parses the 'definitions' root element
      */
+    protected FlowableEventSupport createEventSupport() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        if (processEngineConfiguration != null && processEngineConfiguration.getEventDispatcher() instanceof FlowableEventDispatcherImpl) {
+            return new FlowableEventSupport((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher());
+        }
+        return new FlowableEventSupport();
+    }
+
     protected void applyParseHandlers() {
         sequenceFlows = new HashMap<String, SequenceFlow>();
         for (Process process : bpmnModel.getProcesses()) {
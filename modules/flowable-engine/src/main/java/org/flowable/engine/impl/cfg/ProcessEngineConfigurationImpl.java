@@ -93,7 +93,10 @@ import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.engine.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.asyncexecutor.InMemoryJobAvailabilityNotifier;
+import org.flowable.engine.impl.asyncexecutor.JobAvailabilityNotifier;
 import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.asyncexecutor.SocketJobAvailabilityNotifier;
 import org.flowable.engine.impl.bpmn.data.ItemInstance;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
@@ -147,6 +150,7 @@ import org.flowable.engine.impl.calendar.DueDateBusinessCalendar;
 import org.flowable.engine.impl.calendar.DurationBusinessCalendar;
 import org.flowable.engine.impl.calendar.MapBusinessCalendarManager;
 import org.flowable.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
 import org.flowable.engine.impl.cmd.RedeployV5ProcessDefinitionsCmd;
 import org.flowable.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
@@ -162,6 +166,8 @@ import org.flowable.engine.impl.event.CompensationEventHandler;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.impl.event.logger.EventLogOverflowPolicy;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -196,11 +202,13 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -504,9 +512,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+
+    /**
+     * When set, the process definition cache is bounded by the estimated weight of the cached process definitions instead of their number,
+     * see {@link ProcessDefinitionCacheEntryWeigher}. Takes precedence over {@link #processDefinitionCacheLimit}. Setting it switches the cache to a
+     * {@link ConcurrentDeploymentCache}; without it, the {@link DefaultDeploymentCache} is used as before.
+     */
+    protected long processDefinitionCacheMaxWeight = -1L;
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When larger than 0, the latest versions of all process definitions are put in the process definition cache when the engine is built,
+     * using this number of threads. See {@link DeploymentManager#warmUpProcessDefinitionCache(int)}.
+     */
+    protected int processDefinitionCacheWarmUpParallelism;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+
+    /**
+     * The minimum time in milliseconds between two checks of the revision of a cached process definition info entry against the database.
+     * By default -1, which checks on every access. When set, changes done through the DynamicBpmnService of another engine become visible after this time.
+     */
+    protected long processDefinitionInfoCacheRevisionCheckInterval = -1L;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
     protected int knowledgeBaseCacheLimit = -1;
@@ -615,6 +642,38 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * Notifies the async job acquisition of this engine (and, depending on the implementation, of other engines) when new async jobs are available,
+     * so they are acquired without waiting for the next acquire query. See {@link InMemoryJobAvailabilityNotifier} and {@link SocketJobAvailabilityNotifier}.
+     * 
+     * When set, the async job acquisition thread doubles its wait time for every acquire query that doesn't find any job, up to {@link #asyncExecutorMaxAsyncJobAcquireWaitTime}.
+     */
+    protected JobAvailabilityNotifier asyncExecutorJobAvailabilityNotifier;
+
+    /**
+     * The maximum time (in milliseconds) the async job acquisition thread waits when no jobs are found and a {@link #asyncExecutorJobAvailabilityNotifier} is set. Default value = 1 minute.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxAsyncJobAcquireWaitTime = 60 * 1000;
+
+    /**
+     * If set to true, the number of async jobs acquired at once is based on the measured job execution rate and the free threads of the thread pool,
+     * with {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition} as upper limit (so that one needs to be raised too). Default false.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAcquisitionEnabled;
+
+    /**
+     * If set to true, async jobs are acquired with 'select ... for update skip locked' followed by one update setting the lock owner of all selected jobs,
+     * instead of updating every job separately with an optimistic locking check. Multiple async executors then never try to lock the same jobs, which avoids
+     * the optimistic locking exceptions (and the following acquire wait time) when running many engines against the same database.
+     *
+     * Only used for the databases in {@link AcquireJobsCmd#SKIP_LOCKED_DATABASE_TYPES} (PostgreSQL, MySQL 8 and Oracle); other databases use the regular acquisition. Default false.
+     */
+    protected boolean asyncExecutorSkipLockedAcquisitionEnabled;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      *
@@ -717,6 +776,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
     protected ExpressionManager expressionManager;
+
+    /**
+     * The maximum number of parsed expressions kept in memory by the {@link ExpressionManager}. 0 or less disables the cache.
+     */
+    protected int expressionCacheSize = ExpressionManager.DEFAULT_EXPRESSION_CACHE_SIZE;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
@@ -758,9 +822,34 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int batchSizeProcessInstances = 25;
     protected int batchSizeTasks = 25;
 
+    /**
+     * Settings of the default {@link DbIdGenerator}. The next id block is reserved in the background once 80% of the active one is used, unless idBlockPrefetchEnabled is false. When idBlockMaxSize
+     * is larger than idBlockSize, the block size follows the measured id consumption, aiming for one block every idBlockTargetDuration milliseconds.
+     */
+    protected boolean idBlockPrefetchEnabled = true;
+    protected int idBlockMaxSize = -1;
+    protected long idBlockTargetDuration = 60000L;
+
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When enabled, database event log entries are written in batches by a background thread after the command succeeded, instead of in the transaction of the command. The queue holds at most
+     * asyncDatabaseEventLoggingQueueSize entries, the overflow policy decides what happens beyond that.
+     */
+    protected boolean asyncDatabaseEventLoggingEnabled;
+    protected int asyncDatabaseEventLoggingQueueSize = 10000;
+    protected int asyncDatabaseEventLoggingBatchSize = 100;
+    protected EventLogOverflowPolicy asyncDatabaseEventLoggingOverflowPolicy = EventLogOverflowPolicy.CALLER_RUNS;
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
+    /**
+     * When enabled, event listeners implementing {@link org.flowable.engine.delegate.event.NonTransactionalEventListener} are notified on a background thread instead of the thread executing the
+     * command. At most asyncEventListenerQueueSize notifications are buffered; beyond that the executing thread notifies the listener itself.
+     */
+    protected boolean asyncEventListenerDeliveryEnabled;
+    protected int asyncEventListenerQueueSize = 1024;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -789,6 +878,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of a flush are executed as JDBC batches (grouped per sql statement) instead of one statement at a time.
+     * Default false. Optimistic locking is checked with the update count of every row, so only enable this for JDBC drivers that report
+     * row counts for batched statements (i.e. don't return Statement.SUCCESS_NO_INFO).
+     */
+    protected boolean isJdbcBatchEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
     protected ObjectMapper objectMapper = new ObjectMapper();
@@ -1282,6 +1378,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setJdbcBatchEnabled(isJdbcBatchEnabled);
         addSessionFactory(dbSqlSessionFactory);
     }
 
@@ -1375,7 +1472,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit);
@@ -1390,6 +1489,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setRevisionCheckInterval(processDefinitionInfoCacheRevisionCheckInterval);
         }
     }
 
@@ -1660,6 +1760,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     public void initAsyncExecutor() {
+        if (asyncExecutorSkipLockedAcquisitionEnabled && !AcquireJobsCmd.SKIP_LOCKED_DATABASE_TYPES.contains(databaseType)) {
+            log.warn("Skip locked async job acquisition is not supported for database type {}, falling back to regular job acquisition", databaseType);
+        }
+
         if (asyncExecutor == null) {
             DefaultAsyncJobExecutor defaultAsyncExecutor = new DefaultAsyncJobExecutor();
 
@@ -1680,6 +1784,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setMaxAsyncJobAcquireWaitTimeInMillis(asyncExecutorMaxAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(asyncExecutorAdaptiveAcquisitionEnabled);
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
@@ -1723,6 +1829,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             CommandExecutor idGeneratorCommandExecutor = getCommandExecutor();
             DbIdGenerator dbIdGenerator = new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
+            dbIdGenerator.setMaxIdBlockSize(idBlockMaxSize);
+            dbIdGenerator.setTargetIdBlockDuration(idBlockTargetDuration);
+            dbIdGenerator.setPrefetchEnabled(idBlockPrefetchEnabled);
             dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
             dbIdGenerator.setCommandConfig(getDefaultCommandConfig().transactionRequiresNew());
             idGenerator = dbIdGenerator;
@@ -1857,6 +1966,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (expressionManager == null) {
             expressionManager = new ExpressionManager(beans, this);
         }
+        if (expressionManager.getExpressionCacheSize() != expressionCacheSize) {
+            expressionManager.setExpressionCacheSize(expressionCacheSize);
+        }
     }
 
     public void initBusinessCalendarManager() {
@@ -1941,6 +2053,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        if (asyncEventListenerDeliveryEnabled && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) this.eventDispatcher).enableAsyncListenerDelivery(asyncEventListenerQueueSize);
+        }
+
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
                 this.eventDispatcher.addEventListener(listenerToAdd);
@@ -1981,7 +2097,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
-            getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            EventLogger eventLogger = new EventLogger(clock, objectMapper);
+            if (asyncDatabaseEventLoggingEnabled) {
+                if (asyncEventLogWriter == null) {
+                    asyncEventLogWriter = new AsyncEventLogWriter(commandExecutor, asyncDatabaseEventLoggingQueueSize,
+                            asyncDatabaseEventLoggingBatchSize, asyncDatabaseEventLoggingOverflowPolicy);
+                }
+                eventLogger.setAsyncEventLogWriter(asyncEventLogWriter);
+            }
+            getEventDispatcher().addEventListener(eventLogger);
         }
     }
 
@@ -2418,6 +2542,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isIdBlockPrefetchEnabled() {
+        return idBlockPrefetchEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setIdBlockPrefetchEnabled(boolean idBlockPrefetchEnabled) {
+        this.idBlockPrefetchEnabled = idBlockPrefetchEnabled;
+        return this;
+    }
+
+    public int getIdBlockMaxSize() {
+        return idBlockMaxSize;
+    }
+
+    public ProcessEngineConfigurationImpl setIdBlockMaxSize(int idBlockMaxSize) {
+        this.idBlockMaxSize = idBlockMaxSize;
+        return this;
+    }
+
+    public long getIdBlockTargetDuration() {
+        return idBlockTargetDuration;
+    }
+
+    public ProcessEngineConfigurationImpl setIdBlockTargetDuration(long idBlockTargetDuration) {
+        this.idBlockTargetDuration = idBlockTargetDuration;
+        return this;
+    }
+
     public String getWsSyncFactoryClassName() {
         return wsSyncFactoryClassName;
     }
@@ -2504,6 +2655,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2858,6 +3018,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getProcessDefinitionCacheWarmUpParallelism() {
+        return processDefinitionCacheWarmUpParallelism;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpParallelism(int processDefinitionCacheWarmUpParallelism) {
+        this.processDefinitionCacheWarmUpParallelism = processDefinitionCacheWarmUpParallelism;
+        return this;
+    }
+
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoCacheRevisionCheckInterval() {
+        return processDefinitionInfoCacheRevisionCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheRevisionCheckInterval(long processDefinitionInfoCacheRevisionCheckInterval) {
+        this.processDefinitionInfoCacheRevisionCheckInterval = processDefinitionInfoCacheRevisionCheckInterval;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -2981,6 +3168,69 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncDatabaseEventLoggingEnabled() {
+        return asyncDatabaseEventLoggingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingEnabled(boolean asyncDatabaseEventLoggingEnabled) {
+        this.asyncDatabaseEventLoggingEnabled = asyncDatabaseEventLoggingEnabled;
+        return this;
+    }
+
+    public int getAsyncDatabaseEventLoggingQueueSize() {
+        return asyncDatabaseEventLoggingQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingQueueSize(int asyncDatabaseEventLoggingQueueSize) {
+        this.asyncDatabaseEventLoggingQueueSize = asyncDatabaseEventLoggingQueueSize;
+        return this;
+    }
+
+    public int getAsyncDatabaseEventLoggingBatchSize() {
+        return asyncDatabaseEventLoggingBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingBatchSize(int asyncDatabaseEventLoggingBatchSize) {
+        this.asyncDatabaseEventLoggingBatchSize = asyncDatabaseEventLoggingBatchSize;
+        return this;
+    }
+
+    public EventLogOverflowPolicy getAsyncDatabaseEventLoggingOverflowPolicy() {
+        return asyncDatabaseEventLoggingOverflowPolicy;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingOverflowPolicy(EventLogOverflowPolicy asyncDatabaseEventLoggingOverflowPolicy) {
+        this.asyncDatabaseEventLoggingOverflowPolicy = asyncDatabaseEventLoggingOverflowPolicy;
+        return this;
+    }
+
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+        return this;
+    }
+
+    public boolean isAsyncEventListenerDeliveryEnabled() {
+        return asyncEventListenerDeliveryEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventListenerDeliveryEnabled(boolean asyncEventListenerDeliveryEnabled) {
+        this.asyncEventListenerDeliveryEnabled = asyncEventListenerDeliveryEnabled;
+        return this;
+    }
+
+    public int getAsyncEventListenerQueueSize() {
+        return asyncEventListenerQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventListenerQueueSize(int asyncEventListenerQueueSize) {
+        this.asyncEventListenerQueueSize = asyncEventListenerQueueSize;
+        return this;
+    }
+
     public int getMaxLengthStringVariableType() {
         return maxLengthStringVariableType;
     }
@@ -3008,6 +3258,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isJdbcBatchEnabled() {
+        return isJdbcBatchEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setJdbcBatchEnabled(boolean isJdbcBatchEnabled) {
+        this.isJdbcBatchEnabled = isJdbcBatchEnabled;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3804,6 +4063,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public JobAvailabilityNotifier getAsyncExecutorJobAvailabilityNotifier() {
+        return asyncExecutorJobAvailabilityNotifier;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobAvailabilityNotifier(JobAvailabilityNotifier asyncExecutorJobAvailabilityNotifier) {
+        this.asyncExecutorJobAvailabilityNotifier = asyncExecutorJobAvailabilityNotifier;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxAsyncJobAcquireWaitTime() {
+        return asyncExecutorMaxAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxAsyncJobAcquireWaitTime(int asyncExecutorMaxAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMaxAsyncJobAcquireWaitTime = asyncExecutorMaxAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveAcquisitionEnabled() {
+        return asyncExecutorAdaptiveAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAcquisitionEnabled(boolean asyncExecutorAdaptiveAcquisitionEnabled) {
+        this.asyncExecutorAdaptiveAcquisitionEnabled = asyncExecutorAdaptiveAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSkipLockedAcquisitionEnabled() {
+        return asyncExecutorSkipLockedAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSkipLockedAcquisitionEnabled(boolean asyncExecutorSkipLockedAcquisitionEnabled) {
+        this.asyncExecutorSkipLockedAcquisitionEnabled = asyncExecutorSkipLockedAcquisitionEnabled;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -12,22 +12,38 @@
  */
 package org.flowable.engine.impl.cmd;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityManager;
 
 /**
  * @author Tijs Rademakers
  */
 public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
+    /**
+     * The database types supporting 'select ... for update skip locked' (for MySQL, version 8 or higher is needed).
+     */
+    public static final Set<String> SKIP_LOCKED_DATABASE_TYPES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, AbstractEngineConfiguration.DATABASE_TYPE_ORACLE)));
+
     private final AsyncExecutor asyncExecutor;
     private final int remainingCapacity;
 
@@ -43,6 +59,10 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
+        if (isSkipLockedAcquisition(commandContext)) {
+            return acquireJobsSkipLocked(commandContext, maxResults);
+        }
+
         List<JobEntity> jobs = commandContext.getJobEntityManager()
                 .findJobsToExecute(new Page(0, maxResults));
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
@@ -55,11 +75,56 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         return acquiredJobs;
     }
 
+    protected boolean isSkipLockedAcquisition(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+        return processEngineConfiguration.isAsyncExecutorSkipLockedAcquisitionEnabled()
+                && SKIP_LOCKED_DATABASE_TYPES.contains(processEngineConfiguration.getDatabaseType());
+    }
+
+    /**
+     * The selected rows are locked by the current transaction and rows locked by other acquisitions are skipped,
+     * so the jobs can be locked with one update statement without any chance of an optimistic locking exception.
+     */
+    protected AcquiredJobEntities acquireJobsSkipLocked(CommandContext commandContext, int maxResults) {
+        JobEntityManager jobEntityManager = commandContext.getJobEntityManager();
+        List<JobEntity> jobs = jobEntityManager.findJobsToExecuteSkipLocked(new Page(0, maxResults));
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+        if (jobs.isEmpty()) {
+            return acquiredJobs;
+        }
+
+        List<String> jobIds = new ArrayList<String>(jobs.size());
+        for (JobEntity job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        String lockOwner = asyncExecutor.getLockOwner();
+        Date lockExpirationTime = getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis());
+        jobEntityManager.updateJobLockOwner(jobIds, lockOwner, lockExpirationTime);
+
+        EntityCache entityCache = commandContext.getEntityCache();
+        for (JobEntity job : jobs) {
+            job.setLockOwner(lockOwner);
+            job.setLockExpirationTime(lockExpirationTime);
+            job.setRevision(job.getRevisionNext());
+
+            // Storing the current state, so the job isn't updated a second time when flushing
+            entityCache.put(job, true);
+            acquiredJobs.addJob(job);
+        }
+
+        return acquiredJobs;
+    }
+
     protected void lockJob(CommandContext commandContext, JobEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
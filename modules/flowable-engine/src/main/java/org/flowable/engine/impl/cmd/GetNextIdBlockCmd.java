@@ -36,4 +36,8 @@ public class GetNextIdBlockCmd implements Command<IdBlock> {
         property.setValue(Long.toString(newValue));
         return new IdBlock(oldValue, newValue - 1);
     }
+
+    public int getIdBlockSize() {
+        return idBlockSize;
+    }
 }
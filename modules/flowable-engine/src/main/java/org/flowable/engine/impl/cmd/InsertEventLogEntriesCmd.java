@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+
+public class InsertEventLogEntriesCmd implements Command<Void> {
+
+    protected List<EventLogEntryEntity> eventLogEntries;
+
+    public InsertEventLogEntriesCmd(List<EventLogEntryEntity> eventLogEntries) {
+        this.eventLogEntries = eventLogEntries;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        commandContext.getEventLogEntryEntityManager().bulkInsert(eventLogEntries);
+        return null;
+    }
+
+}
@@ -16,8 +16,12 @@ import java.io.Serializable;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 
@@ -63,6 +67,18 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode);
         }
 
+        // Make the change visible in the cache of this engine right away, also when the revision is not checked on every access
+        final ProcessDefinitionInfoCache definitionInfoCache = commandContext.getProcessEngineConfiguration().getDeploymentManager().getProcessDefinitionInfoCache();
+        if (definitionInfoCache != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                public void execute(CommandContext commandContext) {
+                    definitionInfoCache.invalidate(processDefinitionId);
+                }
+
+            });
+        }
+
         return null;
     }
 
@@ -13,36 +13,133 @@
 
 package org.flowable.engine.impl.db;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.db.IdBlock;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Hands out ids from blocks reserved in the database. Ids are taken from the active block with an atomic increment; only switching to a new block takes a lock.
+ * 
+ * When prefetching is enabled, the next block is reserved on a background thread once the prefetch threshold of the active block has been used, so callers normally never wait for the database.
+ * When maxIdBlockSize is larger than idBlockSize, the size of the reserved blocks follows the measured id consumption, aiming for one block per targetIdBlockDuration.
+ * 
  * @author Tom Baeyens
  */
 public class DbIdGenerator implements IdGenerator {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbIdGenerator.class);
+
     protected int idBlockSize;
-    protected long nextId;
-    protected long lastId = -1;
+    protected int maxIdBlockSize = -1;
+    protected long targetIdBlockDuration = 60000L;
+
+    protected boolean prefetchEnabled = true;
+    protected double prefetchThreshold = 0.8;
 
     protected CommandExecutor commandExecutor;
     protected CommandConfig commandConfig;
 
-    public synchronized String getNextId() {
-        if (lastId < nextId) {
-            getNewBlock();
+    protected volatile ActiveIdBlock activeIdBlock;
+
+    // Guarded by this
+    protected FutureTask<IdBlock> prefetchedIdBlock;
+    protected int currentIdBlockSize;
+
+    public String getNextId() {
+        while (true) {
+            ActiveIdBlock idBlock = activeIdBlock;
+            if (idBlock != null) {
+                long id = idBlock.nextId.getAndIncrement();
+                if (id <= idBlock.lastId) {
+                    if (id == idBlock.prefetchId) {
+                        prefetchNewBlock(idBlock);
+                    }
+                    return Long.toString(id);
+                }
+            }
+            switchToNewBlock(idBlock);
+        }
+    }
+
+    protected synchronized void switchToNewBlock(ActiveIdBlock exhaustedIdBlock) {
+        if (activeIdBlock != exhaustedIdBlock) {
+            return; // Another thread switched already
+        }
+
+        IdBlock idBlock = null;
+        if (prefetchedIdBlock != null) {
+            try {
+                idBlock = prefetchedIdBlock.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOGGER.warn("Could not prefetch id block, fetching it now", e.getCause());
+            }
+            prefetchedIdBlock = null;
+        }
+
+        if (idBlock == null) {
+            idBlock = getNewBlock(determineIdBlockSize(exhaustedIdBlock));
+        }
+
+        long prefetchId = -1L;
+        if (prefetchEnabled) {
+            prefetchId = idBlock.getNextId() + (long) ((idBlock.getLastId() - idBlock.getNextId()) * prefetchThreshold);
         }
-        long _nextId = nextId++;
-        return Long.toString(_nextId);
+        activeIdBlock = new ActiveIdBlock(idBlock, prefetchId);
     }
 
-    protected synchronized void getNewBlock() {
-        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
-        this.nextId = idBlock.getNextId();
-        this.lastId = idBlock.getLastId();
+    protected synchronized void prefetchNewBlock(ActiveIdBlock idBlock) {
+        if (prefetchedIdBlock != null || activeIdBlock != idBlock) {
+            return;
+        }
+
+        final int size = determineIdBlockSize(idBlock);
+        prefetchedIdBlock = new FutureTask<IdBlock>(new Callable<IdBlock>() {
+
+            @Override
+            public IdBlock call() throws Exception {
+                return getNewBlock(size);
+            }
+        });
+
+        Thread prefetchThread = new Thread(prefetchedIdBlock, "flowable-id-block-prefetch");
+        prefetchThread.setDaemon(true);
+        prefetchThread.start();
+    }
+
+    protected IdBlock getNewBlock(int size) {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(size));
+    }
+
+    /**
+     * Sizes the next block from the consumption rate of the given block. Growth is limited to doubling per block, so a short burst doesn't reserve a huge range.
+     */
+    protected int determineIdBlockSize(ActiveIdBlock idBlock) {
+        if (currentIdBlockSize <= 0) {
+            currentIdBlockSize = idBlockSize;
+        }
+        if (maxIdBlockSize <= idBlockSize || idBlock == null) {
+            return currentIdBlockSize;
+        }
+
+        long consumed = Math.min(idBlock.nextId.get(), idBlock.lastId + 1) - idBlock.firstId;
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - idBlock.activationTime);
+        long wanted = elapsed > 0 ? consumed * targetIdBlockDuration / elapsed : Long.MAX_VALUE;
+        wanted = Math.min(wanted, 2L * currentIdBlockSize);
+
+        currentIdBlockSize = (int) Math.max(idBlockSize, Math.min(maxIdBlockSize, wanted));
+        return currentIdBlockSize;
     }
 
     public int getIdBlockSize() {
@@ -53,6 +150,42 @@ public class DbIdGenerator implements IdGenerator {
         this.idBlockSize = idBlockSize;
     }
 
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public long getTargetIdBlockDuration() {
+        return targetIdBlockDuration;
+    }
+
+    public void setTargetIdBlockDuration(long targetIdBlockDuration) {
+        this.targetIdBlockDuration = targetIdBlockDuration;
+    }
+
+    public boolean isPrefetchEnabled() {
+        return prefetchEnabled;
+    }
+
+    public void setPrefetchEnabled(boolean prefetchEnabled) {
+        this.prefetchEnabled = prefetchEnabled;
+    }
+
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public synchronized int getCurrentIdBlockSize() {
+        return currentIdBlockSize > 0 ? currentIdBlockSize : idBlockSize;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -68,4 +201,24 @@ public class DbIdGenerator implements IdGenerator {
     public void setCommandConfig(CommandConfig commandConfig) {
         this.commandConfig = commandConfig;
     }
+
+    /**
+     * The block ids are currently handed out from.
+     */
+    protected static class ActiveIdBlock {
+
+        protected final long firstId;
+        protected final long lastId;
+        protected final long prefetchId;
+        protected final long activationTime;
+        protected final AtomicLong nextId;
+
+        public ActiveIdBlock(IdBlock idBlock, long prefetchId) {
+            this.firstId = idBlock.getNextId();
+            this.lastId = idBlock.getLastId();
+            this.prefetchId = prefetchId;
+            this.activationTime = System.nanoTime();
+            this.nextId = new AtomicLong(firstId);
+        }
+    }
 }
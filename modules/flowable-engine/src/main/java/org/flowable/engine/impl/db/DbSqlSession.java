@@ -19,7 +19,9 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,7 +37,13 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
@@ -143,6 +151,12 @@ public class DbSqlSession implements Session {
     }
 
     protected SqlSession sqlSession;
+
+    /**
+     * Session with a batch executor on the connection of the regular {@link #sqlSession}, lazily created when JDBC batching is enabled.
+     */
+    protected SqlSession batchSqlSession;
+
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected EntityCache entityCache;
 
@@ -188,6 +202,16 @@ public class DbSqlSession implements Session {
         entity.setInserted(true);
     }
 
+    /**
+     * Inserts the given entities of one class right away, using a bulk insert when the database supports it. Unlike {@link #insert(Entity)}, no id is generated and the entities are not put in the
+     * entity cache, so this is only meant for write-only entities whose key is assigned by the database, such as event log entries.
+     */
+    public void directInsert(Class<? extends Entity> entityClass, Collection<? extends Entity> entities) {
+        if (!entities.isEmpty()) {
+            flushInsertEntities(entityClass, new ArrayList<Entity>(entities));
+        }
+    }
+
     // update
     // ///////////////////////////////////////////////////////////////////
 
@@ -691,6 +715,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (isJdbcBatchAllowed(updatedObjects)) {
+            flushBatchUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -714,6 +743,31 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    protected void flushBatchUpdates() {
+        // The updates are added in flush order. The batch executor only shares a prepared statement between consecutive updates with the same sql
+        // and executes its prepared statements in the order they were created, so the updates are executed in the same order as without batching.
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+            }
+
+            log.debug("updating (batched): {}", updatedObject);
+            batchSqlSession.update(updateStatement, updatedObject);
+        }
+        executeBatch(false);
+
+        for (Entity updatedObject : updatedObjects) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -750,6 +804,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (isJdbcBatchAllowed(entitiesToDelete)) {
+            flushBatchDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -770,7 +829,124 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Deletes all entities of one class in one JDBC batch. The batch is executed before returning, so the bulk deletes
+     * and the deletes of the next class in the {@link EntityDependencyOrder} are still executed after these.
+     */
+    protected void flushBatchDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+            if (deleteStatement == null) {
+                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+            }
+            batchSqlSession.delete(deleteStatement, entity);
+        }
+
+        // As with regular deletes, only entities with a revision are checked for optimistic locking exceptions
+        executeBatch(true);
+    }
+
+    /**
+     * Executes all statements added to the batch session and checks the update count of every row.
+     */
+    protected void executeBatch(boolean onlyCheckRevisionedEntities) {
+        List<BatchResult> batchResults = getBatchSqlSession().flushStatements();
+
+        // The regular session doesn't know about the statements executed in the batch session
+        sqlSession.clearCache();
+
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO && parameterObject instanceof HasRevision) {
+                    // The check before the first batch said otherwise, so don't batch revisioned entities anymore. A concurrent update can't
+                    // be ruled out for this batch, hence the exception to roll back the transaction.
+                    dbSqlSessionFactory.setJdbcBatchUpdateCountReported(false);
+                    throw new FlowableOptimisticLockingException("The update count of " + parameterObject + " was not reported by the JDBC driver, so a concurrent update can't be ruled out");
+                }
+
+                if (updateCounts[i] == 0 && (!onlyCheckRevisionedEntities || parameterObject instanceof HasRevision)) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Entities with a revision can only be batched when the JDBC driver reports the update count of every statement, which is needed for the
+     * optimistic locking check. Otherwise they are flushed one statement at a time.
+     */
+    protected boolean isJdbcBatchAllowed(Collection<Entity> entities) {
+        if (!dbSqlSessionFactory.isJdbcBatchEnabled() || entities.size() <= 1) {
+            return false;
+        }
+
+        for (Entity entity : entities) {
+            if (entity instanceof HasRevision) {
+                return isJdbcBatchUpdateCountReported();
+            }
+        }
+        return true;
+    }
+
+    protected boolean isJdbcBatchUpdateCountReported() {
+        Boolean updateCountReported = dbSqlSessionFactory.getJdbcBatchUpdateCountReported();
+        if (updateCountReported == null) {
+            updateCountReported = checkJdbcBatchUpdateCountReported();
+            dbSqlSessionFactory.setJdbcBatchUpdateCountReported(updateCountReported);
+        }
+        return updateCountReported;
+    }
+
+    /**
+     * Executes a batch with one update that doesn't match any row. Drivers that report the update counts of batches return 0 for it, others
+     * (e.g. Oracle before 12c) return {@link Statement#SUCCESS_NO_INFO}.
+     */
+    protected boolean checkJdbcBatchUpdateCountReported() {
+        PreparedStatement statement = null;
+        try {
+            statement = sqlSession.getConnection().prepareStatement("update " + prependDatabaseTablePrefix("ACT_GE_PROPERTY") + " set REV_ = REV_ where NAME_ = ?");
+            statement.setString(1, "jdbc.batch.update.count.check");
+            statement.addBatch();
+            int[] updateCounts = statement.executeBatch();
+
+            boolean updateCountReported = updateCounts.length == 1 && updateCounts[0] == 0;
+            if (!updateCountReported) {
+                log.info("The JDBC driver doesn't report update counts for batches, entities with a revision are updated and deleted one statement at a time");
+            }
+            return updateCountReported;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not check whether the JDBC driver reports update counts for batches", e);
+        } finally {
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    log.debug("Could not close statement", e);
+                }
+            }
+        }
+    }
+
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            // The managed transaction doesn't commit, rollback or close the connection: that's left to the regular session
+            Configuration configuration = dbSqlSessionFactory.getSqlSessionFactory().getConfiguration();
+            Executor executor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
+        }
+        return batchSqlSession;
+    }
+
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
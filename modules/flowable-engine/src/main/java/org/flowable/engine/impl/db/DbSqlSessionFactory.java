@@ -65,6 +65,13 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     protected boolean isDbHistoryUsed = true;
     protected int maxNrOfStatementsInBulkInsert = 100;
+    protected boolean isJdbcBatchEnabled;
+
+    /**
+     * Whether the JDBC driver reports the update count of every statement in a batch, instead of Statement.SUCCESS_NO_INFO.
+     * Null until it's checked before the first batch.
+     */
+    protected volatile Boolean isJdbcBatchUpdateCountReported;
 
     public Class<?> getSessionType() {
         return DbSqlSession.class;
@@ -318,4 +325,20 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isJdbcBatchEnabled() {
+        return isJdbcBatchEnabled;
+    }
+
+    public void setJdbcBatchEnabled(boolean isJdbcBatchEnabled) {
+        this.isJdbcBatchEnabled = isJdbcBatchEnabled;
+    }
+
+    public Boolean getJdbcBatchUpdateCountReported() {
+        return isJdbcBatchUpdateCountReported;
+    }
+
+    public void setJdbcBatchUpdateCountReported(Boolean isJdbcBatchUpdateCountReported) {
+        this.isJdbcBatchUpdateCountReported = isJdbcBatchUpdateCountReported;
+    }
+
 }
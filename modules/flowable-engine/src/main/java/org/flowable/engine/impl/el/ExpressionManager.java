@@ -24,6 +24,7 @@ import javax.el.ListELResolver;
 import javax.el.MapELResolver;
 import javax.el.ValueExpression;
 
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentWeightedCache;
 import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.delegate.VariableScope;
 import org.flowable.engine.impl.bpmn.data.ItemInstance;
@@ -42,6 +43,10 @@ import de.odysseus.el.ExpressionFactoryImpl;
  * <p>
  * Then also this class is used as an entry point for runtime evaluation of the expressions.
  * </p>
+ * <p>
+ * Parsed expressions are kept in a bounded, approximately LRU, concurrent cache keyed by the expression text, so expressions that are built at runtime
+ * (conditions, skip expressions, timers, dynamic bpmn overrides, ...) are only parsed once.
+ * </p>
  * 
  * @author Tom Baeyens
  * @author Dave Syer
@@ -49,6 +54,8 @@ import de.odysseus.el.ExpressionFactoryImpl;
  */
 public class ExpressionManager {
 
+    public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 4096;
+
     protected ExpressionFactory expressionFactory;
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
 
@@ -56,6 +63,9 @@ public class ExpressionManager {
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
 
+    protected ConcurrentWeightedCache<Expression> expressionCache;
+    protected int expressionCacheSize;
+
     public ExpressionManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         this(null, processEngineConfiguration);
     }
@@ -74,15 +84,60 @@ public class ExpressionManager {
         this.processEngineConfiguration = processEngineConfiguration;
         this.beans = beans;
         this.parsingElContext = new ParsingElContext(processEngineConfiguration);
+        setExpressionCacheSize(DEFAULT_EXPRESSION_CACHE_SIZE);
     }
 
     public Expression createExpression(String expression) {
+        ConcurrentWeightedCache<Expression> cache = expressionCache;
+        if (cache == null) {
+            return parseExpression(expression);
+        }
+
+        Expression result = cache.get(expression);
+        if (result == null) {
+            // Two threads parsing the same text at the same time both get a valid expression
+            result = parseExpression(expression);
+            cache.add(expression, result);
+        }
+        return result;
+    }
+
+    protected Expression parseExpression(String expression) {
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
         return new JuelExpression(valueExpression, expression);
     }
 
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        clearExpressionCache();
+    }
+
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of parsed expressions that are cached. A value of 0 or less disables the cache.
+     */
+    public void setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        if (expressionCacheSize > 0) {
+            this.expressionCache = new ConcurrentWeightedCache<Expression>(expressionCacheSize, null);
+        } else {
+            this.expressionCache = null;
+        }
+    }
+
+    public void clearExpressionCache() {
+        ConcurrentWeightedCache<Expression> cache = expressionCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public int getCachedExpressionCount() {
+        ConcurrentWeightedCache<Expression> cache = expressionCache;
+        return cache != null ? cache.size() : 0;
     }
 
     public ELContext getElContext(VariableScope variableScope) {
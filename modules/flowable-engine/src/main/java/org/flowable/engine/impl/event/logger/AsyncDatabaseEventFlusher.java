@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.List;
+
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+
+/**
+ * Generates the event log entries while the command context is closing, as the handlers need it, but leaves writing them to an {@link AsyncEventLogWriter} once the command has succeeded.
+ */
+public class AsyncDatabaseEventFlusher extends DatabaseEventFlusher {
+
+    protected AsyncEventLogWriter eventLogWriter;
+    protected List<EventLogEntryEntity> eventLogEntries;
+
+    public AsyncDatabaseEventFlusher(AsyncEventLogWriter eventLogWriter) {
+        this.eventLogWriter = eventLogWriter;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        eventLogEntries = generateEventLogEntries(commandContext);
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (eventLogEntries != null && !eventLogEntries.isEmpty()) {
+            eventLogWriter.write(eventLogEntries);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.flowable.engine.impl.cmd.InsertEventLogEntriesCmd;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes event log entries in batches on a background thread, each batch in a transaction of its own. Entries are handed over through a bounded queue; the {@link EventLogOverflowPolicy} decides
+ * what happens when it is full.
+ * 
+ * The thread is started when the first entries are written. After {@link #shutdown()}, entries are written on the calling thread.
+ */
+public class AsyncEventLogWriter implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+    protected CommandExecutor commandExecutor;
+    protected BlockingQueue<EventLogEntryEntity> queue;
+    protected int batchSize;
+    protected EventLogOverflowPolicy overflowPolicy;
+
+    protected long pollInterval = 500L;
+    protected long shutdownTimeout = 10000L;
+
+    protected Thread writerThread;
+    protected volatile boolean active;
+    protected volatile boolean isShutdown;
+
+    /** Held for reading while entries are queued, so {@link #shutdown()} can't start draining the queue before they are in it */
+    protected final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    protected AtomicLong discardedCount = new AtomicLong();
+
+    public AsyncEventLogWriter(CommandExecutor commandExecutor, int queueSize, int batchSize, EventLogOverflowPolicy overflowPolicy) {
+        this.commandExecutor = commandExecutor;
+        this.queue = new ArrayBlockingQueue<EventLogEntryEntity>(queueSize);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public void write(List<EventLogEntryEntity> eventLogEntries) {
+        List<EventLogEntryEntity> overflow;
+        shutdownLock.readLock().lock();
+        try {
+            if (isShutdown) {
+                // The writer thread is stopping or stopped, entries queued now might never be written
+                overflow = eventLogEntries;
+            } else {
+                ensureStarted();
+                overflow = queueEventLogEntries(eventLogEntries);
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+
+        if (overflow != null) {
+            insertEventLogEntries(overflow);
+        }
+    }
+
+    /**
+     * Returns the entries that should be written on the calling thread, or null if there are none.
+     */
+    protected List<EventLogEntryEntity> queueEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+        List<EventLogEntryEntity> overflow = null;
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            if (queue.offer(eventLogEntry)) {
+                continue;
+            }
+
+            if (overflowPolicy == EventLogOverflowPolicy.CALLER_RUNS) {
+                if (overflow == null) {
+                    overflow = new ArrayList<EventLogEntryEntity>();
+                }
+                overflow.add(eventLogEntry);
+
+            } else if (overflowPolicy == EventLogOverflowPolicy.BLOCK) {
+                try {
+                    queue.put(eventLogEntry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    discard(eventLogEntry);
+                }
+
+            } else {
+                discard(eventLogEntry);
+            }
+        }
+        return overflow;
+    }
+
+    protected void discard(EventLogEntryEntity eventLogEntry) {
+        if (discardedCount.incrementAndGet() % 1000 == 1) {
+            LOGGER.warn("Event log queue is full, discarded {} entries so far", discardedCount.get());
+        }
+    }
+
+    protected synchronized void ensureStarted() {
+        if (writerThread == null && !isShutdown) {
+            active = true;
+            writerThread = new Thread(this, "flowable-event-log-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+    @Override
+    public void run() {
+        List<EventLogEntryEntity> batch = new ArrayList<EventLogEntryEntity>(batchSize);
+        while (active || !queue.isEmpty()) {
+            try {
+                EventLogEntryEntity eventLogEntry = queue.poll(pollInterval, TimeUnit.MILLISECONDS);
+                if (eventLogEntry != null) {
+                    batch.add(eventLogEntry);
+                    queue.drainTo(batch, batchSize - 1);
+                    insertEventLogEntries(batch);
+                    batch.clear();
+                }
+
+            } catch (InterruptedException e) {
+                LOGGER.debug("Event log writer interrupted, {} entries left in the queue", queue.size());
+                active = false;
+            }
+        }
+    }
+
+    protected void insertEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+        try {
+            commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), new InsertEventLogEntriesCmd(eventLogEntries));
+        } catch (Throwable t) {
+            LOGGER.warn("Could not write {} event log entries", eventLogEntries.size(), t);
+        }
+    }
+
+    /**
+     * Stops the background thread after the queued entries have been written, waiting at most the shutdown timeout.
+     */
+    public void shutdown() {
+        Thread thread;
+        shutdownLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                isShutdown = true;
+                active = false;
+                thread = writerThread;
+                writerThread = null;
+            }
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+
+        if (thread != null) {
+            try {
+                thread.join(shutdownTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                LOGGER.warn("Event log writer did not finish within {} ms, {} entries were not written", shutdownTimeout, queue.size());
+            }
+        }
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getDiscardedCount() {
+        return discardedCount.get();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public EventLogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+}
@@ -12,9 +12,12 @@
  */
 package org.flowable.engine.impl.event.logger;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
 import org.flowable.engine.impl.interceptor.CommandContext;
-import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +35,26 @@ public class DatabaseEventFlusher extends AbstractEventFlusher {
             return; // Not interested in events about exceptions
         }
 
-        EventLogEntryEntityManager eventLogEntryEntityManager = commandContext.getEventLogEntryEntityManager();
+        List<EventLogEntryEntity> eventLogEntries = generateEventLogEntries(commandContext);
+        if (!eventLogEntries.isEmpty()) {
+            // One (bulk) insert for all entries, instead of one per entry at session flush
+            commandContext.getEventLogEntryEntityManager().bulkInsert(eventLogEntries);
+        }
+    }
+
+    protected List<EventLogEntryEntity> generateEventLogEntries(CommandContext commandContext) {
+        List<EventLogEntryEntity> eventLogEntries = new ArrayList<EventLogEntryEntity>(eventHandlers.size());
         for (EventLoggerEventHandler eventHandler : eventHandlers) {
             try {
-                eventLogEntryEntityManager.insert(eventHandler.generateEventLogEntry(commandContext), false);
+                EventLogEntryEntity eventLogEntry = eventHandler.generateEventLogEntry(commandContext);
+                if (eventLogEntry != null) {
+                    eventLogEntries.add(eventLogEntry);
+                }
             } catch (Exception e) {
                 logger.warn("Could not create event log", e);
             }
         }
+        return eventLogEntries;
     }
 
     public void afterSessionsFlush(CommandContext commandContext) {
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+/**
+ * What an {@link AsyncEventLogWriter} does with event log entries when its queue is full.
+ */
+public enum EventLogOverflowPolicy {
+
+    /**
+     * Wait until the queue has room again.
+     */
+    BLOCK,
+
+    /**
+     * Drop the entries that don't fit, counting them in {@link AsyncEventLogWriter#getDiscardedCount()}.
+     */
+    DISCARD,
+
+    /**
+     * Write the entries that don't fit on the calling thread, in a transaction of their own.
+     */
+    CALLER_RUNS
+
+}
@@ -65,6 +65,9 @@ public class EventLogger implements FlowableEventListener {
     // Listeners for new events
     protected List<EventLoggerListener> listeners;
 
+    // When set, entries are written asynchronously after the command succeeded
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     public EventLogger() {
         initializeDefaultHandlers();
     }
@@ -211,6 +214,9 @@ public class EventLogger implements FlowableEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (asyncEventLogWriter != null) {
+            return new AsyncDatabaseEventFlusher(asyncEventLogWriter);
+        }
         return null;
     }
 
@@ -238,4 +244,12 @@ public class EventLogger implements FlowableEventListener {
         this.listeners = listeners;
     }
 
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public void setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
 }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.jobexecutor;
 import org.flowable.engine.common.impl.cfg.TransactionPropagation;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.JobAvailabilityNotifier;
 import org.flowable.engine.impl.cfg.TransactionListener;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
@@ -40,16 +41,29 @@ public class JobAddedTransactionListener implements TransactionListener {
 
     @Override
     public void execute(CommandContext commandContext) {
-        CommandExecutor commandExecutor = commandContext.getProcessEngineConfiguration().getCommandExecutor();
-        CommandConfig commandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
-        commandExecutor.execute(commandConfig, new Command<Void>() {
-            public Void execute(CommandContext commandContext) {
-                if (log.isTraceEnabled()) {
-                    log.trace("notifying job executor of new job");
+        boolean isJobOffered = false;
+        if (asyncExecutor.isActive()) {
+            CommandExecutor commandExecutor = commandContext.getProcessEngineConfiguration().getCommandExecutor();
+            CommandConfig commandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+            isJobOffered = commandExecutor.execute(commandConfig, new Command<Boolean>() {
+                public Boolean execute(CommandContext commandContext) {
+                    if (log.isTraceEnabled()) {
+                        log.trace("notifying job executor of new job");
+                    }
+                    return asyncExecutor.executeAsyncJob(job);
                 }
-                asyncExecutor.executeAsyncJob(job);
-                return null;
+            });
+        }
+
+        // A job that isn't executed by this async executor (not active or queue full, which unlocks the job) can be acquired by any async executor
+        JobAvailabilityNotifier jobAvailabilityNotifier = commandContext.getProcessEngineConfiguration().getAsyncExecutorJobAvailabilityNotifier();
+        if (!isJobOffered && jobAvailabilityNotifier != null) {
+            // The job is committed already, failing to notify only means it's found with the next acquire query
+            try {
+                jobAvailabilityNotifier.notifyJobAvailable(job);
+            } catch (RuntimeException e) {
+                log.warn("Could not notify the availability of job {}", job.getId(), e);
             }
-        });
+        }
     }
 }
@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities with a given value for a foreign key that is indexed by the entity cache. Only the cached entities
+ * with that value for the foreign key are checked, instead of all cached entities of the type.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+    /**
+     * Returns the index of the entity cache that contains all entities this matcher can retain.
+     */
+    CachedEntityIndex getCachedEntityIndex();
+
+    /**
+     * Returns the value of the indexed foreign key for the given query parameter. When null is returned, all cached entities are checked.
+     */
+    String getIndexKey(Object parameter);
+
+}
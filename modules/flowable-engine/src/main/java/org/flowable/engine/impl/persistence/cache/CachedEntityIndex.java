@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * A secondary index of the {@link EntityCache} on a foreign key of an entity type, used to find the cached entities that reference a given id without
+ * iterating over all cached entities of that type.
+ * 
+ * The index is kept up to date when entities are put in or removed from the cache. Entities of which the indexed foreign key changes while cached must call
+ * {@link #updateIndexes(Entity)}.
+ */
+public abstract class CachedEntityIndex {
+
+    public static final CachedEntityIndex EXECUTION_PARENT_ID = new CachedEntityIndex(ExecutionEntity.class) {
+
+        @Override
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getParentId();
+        }
+    };
+
+    public static final CachedEntityIndex EXECUTION_PROCESS_INSTANCE_ID = new CachedEntityIndex(ExecutionEntity.class) {
+
+        @Override
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static final CachedEntityIndex VARIABLE_EXECUTION_ID = new CachedEntityIndex(VariableInstanceEntity.class) {
+
+        @Override
+        public String getIndexKey(Entity entity) {
+            return ((VariableInstanceEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final CachedEntityIndex TASK_EXECUTION_ID = new CachedEntityIndex(TaskEntity.class) {
+
+        @Override
+        public String getIndexKey(Entity entity) {
+            return ((TaskEntity) entity).getExecutionId();
+        }
+    };
+
+    protected Class<?> entityClass;
+
+    public CachedEntityIndex(Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * Returns the value of the indexed foreign key of the given entity, can be null.
+     */
+    public abstract String getIndexKey(Entity entity);
+
+    /**
+     * Returns whether the cached entities of the given class can be indexed by this index.
+     */
+    public boolean isApplicable(Class<?> cachedEntityClass) {
+        return entityClass.isAssignableFrom(cachedEntityClass);
+    }
+
+    /**
+     * Updates the indexes of the entity cache of the current command context after an indexed foreign key of the given entity has changed.
+     */
+    public static void updateIndexes(Entity entity) {
+        if (entity.getId() == null) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            commandContext.getEntityCache().updateIndexes(entity);
+        }
+    }
+}
@@ -64,4 +64,16 @@ public interface EntityCache extends Session {
      */
     void cacheRemove(Class<?> entityClass, String entityId);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type of which the foreign key of the given {@link CachedEntityIndex} has the given value. Returns
+     * null if no instances of the given type exist. When the index doesn't apply to the given type, all {@link CachedEntity} instances of the type are
+     * returned.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex index, String indexKey);
+
+    /**
+     * Updates the indexes of the cache after an indexed foreign key of the given cached {@link Entity} has changed.
+     */
+    void updateIndexes(Entity entity);
+
 }
@@ -28,6 +28,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<Class<?>, Map<String, CachedEntity>>();
 
+    /**
+     * The secondary indexes per entity class, only created when an index is queried for the first time.
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex, IndexedCachedEntities>> cachedObjectIndexes = new HashMap<Class<?>, Map<CachedEntityIndex, IndexedCachedEntities>>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +42,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -77,6 +90,13 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<CachedEntityIndex, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -88,6 +108,54 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex index, String indexKey) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        if (!index.isApplicable(entityClass)) {
+            return classCache.values();
+        }
+
+        Map<CachedEntityIndex, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<CachedEntityIndex, IndexedCachedEntities>();
+            cachedObjectIndexes.put(entityClass, classIndexes);
+        }
+
+        IndexedCachedEntities indexedCachedEntities = classIndexes.get(index);
+        if (indexedCachedEntities == null) {
+            indexedCachedEntities = new IndexedCachedEntities(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+            classIndexes.put(index, indexedCachedEntities);
+        }
+
+        return indexedCachedEntities.get(indexKey);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<CachedEntityIndex, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        // only entities that are cached themselves are indexed
+        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+        CachedEntity cachedObject = classCache != null ? classCache.get(entity.getId()) : null;
+        if (cachedObject == null || cachedObject.getEntity() != entity) {
+            return;
+        }
+
+        for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+            indexedCachedEntities.add(cachedObject);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -122,4 +190,56 @@ public class EntityCacheImpl implements EntityCache {
 
     }
 
+    /**
+     * The cached entities of one entity class, grouped by the value of the foreign key of a {@link CachedEntityIndex}.
+     */
+    protected static class IndexedCachedEntities {
+
+        protected CachedEntityIndex index;
+        protected Map<String, Map<String, CachedEntity>> cachedObjectsByIndexKey = new HashMap<String, Map<String, CachedEntity>>();
+        protected Map<String, String> indexKeysByEntityId = new HashMap<String, String>();
+
+        public IndexedCachedEntities(CachedEntityIndex index) {
+            this.index = index;
+        }
+
+        public void add(CachedEntity cachedObject) {
+            String entityId = cachedObject.getEntity().getId();
+            remove(entityId);
+
+            String indexKey = index.getIndexKey(cachedObject.getEntity());
+            indexKeysByEntityId.put(entityId, indexKey);
+
+            Map<String, CachedEntity> indexedCachedObjects = cachedObjectsByIndexKey.get(indexKey);
+            if (indexedCachedObjects == null) {
+                indexedCachedObjects = new HashMap<String, CachedEntity>();
+                cachedObjectsByIndexKey.put(indexKey, indexedCachedObjects);
+            }
+            indexedCachedObjects.put(entityId, cachedObject);
+        }
+
+        public void remove(String entityId) {
+            if (!indexKeysByEntityId.containsKey(entityId)) {
+                return;
+            }
+
+            String indexKey = indexKeysByEntityId.remove(entityId);
+            Map<String, CachedEntity> indexedCachedObjects = cachedObjectsByIndexKey.get(indexKey);
+            if (indexedCachedObjects != null) {
+                indexedCachedObjects.remove(entityId);
+                if (indexedCachedObjects.isEmpty()) {
+                    cachedObjectsByIndexKey.remove(indexKey);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(String indexKey) {
+            Map<String, CachedEntity> indexedCachedObjects = cachedObjectsByIndexKey.get(indexKey);
+            if (indexedCachedObjects != null) {
+                return indexedCachedObjects.values();
+            }
+            return Collections.emptyList();
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentWeightedCache;
+
+/**
+ * {@link DeploymentCache} of which the reads don't take a lock, optionally bounded by the estimated weight of the cached objects.
+ */
+public class ConcurrentDeploymentCache<T> extends ConcurrentWeightedCache<T> implements DeploymentCache<T> {
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        super();
+    }
+
+    /**
+     * Cache in which the total weight of the objects, as estimated by the given weigher, doesn't exceed the given maximum.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, CacheWeigher<T> weigher) {
+        super(maxWeight, weigher);
+    }
+
+}
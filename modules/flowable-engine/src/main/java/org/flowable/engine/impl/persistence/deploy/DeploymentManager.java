@@ -13,8 +13,14 @@
 
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.app.AppModel;
@@ -26,13 +32,17 @@ import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.GetDeploymentProcessDefinitionCmd;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -41,6 +51,8 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentManager.class);
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
@@ -135,6 +147,56 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    /**
+     * Puts the latest version of all process definitions in the process definition cache, so they don't have to be parsed when they're first used,
+     * eg. after the engine has booted. Resolving a process definition resolves all process definitions of its deployment,
+     * the deployments are resolved in parallel by the given number of threads. A deployment that can't be resolved is logged and skipped.
+     */
+    public void warmUpProcessDefinitionCache(int parallelism) {
+        long start = System.currentTimeMillis();
+        final CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        Map<String, String> processDefinitionIdsByDeploymentId = new LinkedHashMap<String, String>();
+        for (ProcessDefinition processDefinition : new ProcessDefinitionQueryImpl(commandExecutor).latestVersion().list()) {
+            if (processDefinitionCache.get(processDefinition.getId()) == null && !processDefinitionIdsByDeploymentId.containsKey(processDefinition.getDeploymentId())) {
+                processDefinitionIdsByDeploymentId.put(processDefinition.getDeploymentId(), processDefinition.getId());
+            }
+        }
+
+        if (processDefinitionIdsByDeploymentId.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, processDefinitionIdsByDeploymentId.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>(processDefinitionIdsByDeploymentId.size());
+            for (final String processDefinitionId : processDefinitionIdsByDeploymentId.values()) {
+                futures.add(executorService.submit(new Runnable() {
+
+                    public void run() {
+                        commandExecutor.execute(new GetDeploymentProcessDefinitionCmd(processDefinitionId));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.warn("Could not put process definitions in the process definition cache", e.getCause());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        logger.info("Warmed up the process definition cache with {} deployments in {} ms", processDefinitionIdsByDeploymentId.size(), System.currentTimeMillis() - start);
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
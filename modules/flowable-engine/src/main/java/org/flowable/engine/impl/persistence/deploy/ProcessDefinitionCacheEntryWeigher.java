@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.Map;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Process;
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+
+/**
+ * Estimates the weight of a process definition cache entry as the number of elements (flow elements and diagram information) of its {@link BpmnModel}.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements CacheWeigher<ProcessDefinitionCacheEntry> {
+
+    public long weigh(String id, ProcessDefinitionCacheEntry cacheEntry) {
+        long weight = 1L;
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel != null) {
+            for (Process process : bpmnModel.getProcesses()) {
+                weight += process.getFlowElementMap().size();
+            }
+            weight += size(bpmnModel.getLocationMap()) + size(bpmnModel.getFlowLocationMap()) + size(bpmnModel.getLabelLocationMap());
+        }
+        return weight;
+    }
+
+    protected int size(Map<String, ?> map) {
+        return map != null ? map.size() : 0;
+    }
+
+}
@@ -33,6 +33,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * By default, the revision of a cached entry is checked against the database on every access. When a revision check interval is set,
+ * this is done at most once per interval, and changes made through the {@link org.flowable.engine.DynamicBpmnService} of this engine
+ * invalidate the entry right away. Changes made by other engines become visible after the interval.
+ * 
  * @author Tijs Rademakers
  */
 public class ProcessDefinitionInfoCache {
@@ -41,6 +45,7 @@ public class ProcessDefinitionInfoCache {
 
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected long revisionCheckInterval = -1L;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
@@ -95,6 +100,27 @@ public class ProcessDefinitionInfoCache {
         cache.remove(id);
     }
 
+    /**
+     * Forces a revision check on the next access of the entry.
+     */
+    public void invalidate(String id) {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(id);
+        if (cacheObject != null) {
+            cacheObject.setLastRevisionCheck(0L);
+        }
+    }
+
+    public long getRevisionCheckInterval() {
+        return revisionCheckInterval;
+    }
+
+    /**
+     * Sets the minimum time in milliseconds between two revision checks of the same entry. 0 or less checks on every access (the default).
+     */
+    public void setRevisionCheckInterval(long revisionCheckInterval) {
+        this.revisionCheckInterval = revisionCheckInterval;
+    }
+
     public void clear() {
         cache.clear();
     }
@@ -108,13 +134,19 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = commandContext.getProcessDefinitionInfoEntityManager();
         ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
+        long now = System.currentTimeMillis();
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null) {
+            if (revisionCheckInterval > 0 && now - cacheObject.getLastRevisionCheck() < revisionCheckInterval) {
+                return cacheObject;
+            }
         } else {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
+            if (revisionCheckInterval > 0) {
+                cache.put(processDefinitionId, cacheObject);
+            }
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
@@ -133,6 +165,7 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
+        cacheObject.setLastRevisionCheck(now);
 
         return cacheObject;
     }
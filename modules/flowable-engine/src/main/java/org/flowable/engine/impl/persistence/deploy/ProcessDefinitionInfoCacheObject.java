@@ -22,6 +22,7 @@ public class ProcessDefinitionInfoCacheObject {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected volatile long lastRevisionCheck;
 
     public String getId() {
         return id;
@@ -46,4 +47,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public long getLastRevisionCheck() {
+        return lastRevisionCheck;
+    }
+
+    public void setLastRevisionCheck(long lastRevisionCheck) {
+        this.lastRevisionCheck = lastRevisionCheck;
+    }
 }
\ No newline at end of file
@@ -30,4 +30,9 @@ public interface EventLogEntryEntityManager extends EntityManager<EventLogEntryE
 
     void deleteEventLogEntry(long logNr);
 
+    /**
+     * Writes the given entries right away, in as few statements as the database allows. No entity events are dispatched.
+     */
+    void bulkInsert(List<EventLogEntryEntity> eventLogEntries);
+
 }
\ No newline at end of file
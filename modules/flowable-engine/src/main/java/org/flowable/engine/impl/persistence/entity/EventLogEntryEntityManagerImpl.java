@@ -57,6 +57,11 @@ public class EventLogEntryEntityManagerImpl extends AbstractEntityManager<EventL
         eventLogEntryDataManager.deleteEventLogEntry(logNr);
     }
 
+    @Override
+    public void bulkInsert(List<EventLogEntryEntity> eventLogEntries) {
+        eventLogEntryDataManager.bulkInsert(eventLogEntries);
+    }
+
     public EventLogEntryDataManager getEventLogEntryDataManager() {
         return eventLogEntryDataManager;
     }
@@ -20,15 +20,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.FlowableListener;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 
 /**
@@ -375,7 +378,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
-            this.processInstanceId = this.processInstance.getId();
+            setProcessInstanceId(this.processInstance.getId());
         }
     }
 
@@ -401,9 +404,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
-            this.parentId = parent.getId();
+            setParentId(parent.getId());
         } else {
-            this.parentId = null;
+            setParentId(null);
         }
     }
 
@@ -530,7 +533,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         VariableInstanceEntity result = super.createVariableInstance(variableName, value, sourceActivityExecution);
 
         // Dispatch event, if needed
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null && FlowableEventDispatcherImpl.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.VARIABLE_CREATED)) {
             Context
                     .getProcessEngineConfiguration()
                     .getEventDispatcher()
@@ -546,7 +549,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         super.updateVariableInstance(variableInstance, value, sourceActivityExecution);
 
         // Dispatch event, if needed
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null && FlowableEventDispatcherImpl.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.VARIABLE_UPDATED)) {
             Context
                     .getProcessEngineConfiguration()
                     .getEventDispatcher()
@@ -647,7 +650,11 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        boolean changed = !StringUtils.equals(this.processInstanceId, processInstanceId);
         this.processInstanceId = processInstanceId;
+        if (changed) {
+            CachedEntityIndex.updateIndexes(this);
+        }
     }
 
     public String getParentId() {
@@ -655,7 +662,11 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParentId(String parentId) {
+        boolean changed = !StringUtils.equals(this.parentId, parentId);
         this.parentId = parentId;
+        if (changed) {
+            CachedEntityIndex.updateIndexes(this);
+        }
     }
 
     public String getActivityId() {
@@ -27,6 +27,7 @@ import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.history.DeleteReason;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
@@ -243,7 +244,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
 
         // Fire events
-        if (getEventDispatcher().isEnabled()) {
+        if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution));
         }
 
@@ -274,8 +275,10 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             logger.debug("Child execution {} created with parent {}", childExecution, parentExecutionEntity.getId());
         }
 
-        if (getEventDispatcher().isEnabled()) {
+        if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution));
+        }
+        if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_INITIALIZED)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution));
         }
 
@@ -304,7 +307,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         subProcessInstance.setProcessInstanceId(subProcessInstance.getId());
         superExecutionEntity.setSubProcessInstance(subProcessInstance);
 
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null && FlowableEventDispatcherImpl.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED)) {
             Context.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance));
         }
 
@@ -596,7 +599,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<TimerJobEntity> timerJobsForExecution = timerJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (TimerJobEntity job : timerJobsForExecution) {
                 timerJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -608,7 +611,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<JobEntity> jobsForExecution = jobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (JobEntity job : jobsForExecution) {
                 getJobEntityManager().delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -620,7 +623,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<SuspendedJobEntity> suspendedJobsForExecution = suspendedJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (SuspendedJobEntity job : suspendedJobsForExecution) {
                 suspendedJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -632,7 +635,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<DeadLetterJobEntity> deadLetterJobsForExecution = deadLetterJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (DeadLetterJobEntity job : deadLetterJobsForExecution) {
                 deadLetterJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -684,7 +687,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             executionEntity.setBusinessKey(businessKey);
             getHistoryManager().updateProcessBusinessKeyInHistory(executionEntity);
 
-            if (getEventDispatcher().isEnabled()) {
+            if (FlowableEventDispatcherImpl.hasListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_UPDATED)) {
                 getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity));
             }
 
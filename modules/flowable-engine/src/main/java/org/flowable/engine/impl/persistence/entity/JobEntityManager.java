@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -41,6 +42,18 @@ public interface JobEntityManager extends EntityManager<JobEntity> {
      */
     List<JobEntity> findJobsToExecute(Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, locking the rows in the current transaction and skipping rows that are already locked by other transactions.
+     * 
+     * Only supported on databases that support 'select ... for update skip locked', see {@link AcquireJobsCmd#SKIP_LOCKED_DATABASE_TYPES}.
+     */
+    List<JobEntity> findJobsToExecuteSkipLocked(Page page);
+
+    /**
+     * Sets the lock owner and lock expiration time of the jobs with the given ids in one update statement, incrementing their revision.
+     */
+    void updateJobLockOwner(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns all {@link JobEntity} instances related to on {@link ExecutionEntity}.
      */
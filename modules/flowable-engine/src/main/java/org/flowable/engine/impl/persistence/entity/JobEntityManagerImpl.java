@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -88,6 +89,16 @@ public class JobEntityManagerImpl extends AbstractEntityManager<JobEntity> imple
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<JobEntity> findJobsToExecuteSkipLocked(Page page) {
+        return jobDataManager.findJobsToExecuteSkipLocked(page);
+    }
+
+    @Override
+    public void updateJobLockOwner(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        jobDataManager.updateJobLockOwner(jobIds, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
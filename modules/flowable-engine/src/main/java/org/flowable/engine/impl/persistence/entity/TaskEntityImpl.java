@@ -22,15 +22,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.FlowableListener;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.BulkDeleteable;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingTaskEntity;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.task.DelegationState;
 import org.flowable.engine.task.IdentityLink;
 import org.flowable.engine.task.IdentityLinkType;
@@ -179,7 +182,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
         VariableInstanceEntity result = super.createVariableInstance(variableName, value, sourceActivityExecution);
 
         // Dispatch event, if needed
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null && FlowableEventDispatcherImpl.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.VARIABLE_CREATED)) {
             Context
                     .getProcessEngineConfiguration()
                     .getEventDispatcher()
@@ -195,7 +198,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
         super.updateVariableInstance(variableInstance, value, sourceActivityExecution);
 
         // Dispatch event, if needed
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null && FlowableEventDispatcherImpl.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.VARIABLE_UPDATED)) {
             Context
                     .getProcessEngineConfiguration()
                     .getEventDispatcher()
@@ -503,7 +506,11 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setExecutionId(String executionId) {
+        boolean changed = !StringUtils.equals(this.executionId, executionId);
         this.executionId = executionId;
+        if (changed) {
+            CachedEntityIndex.updateIndexes(this);
+        }
     }
 
     @Override
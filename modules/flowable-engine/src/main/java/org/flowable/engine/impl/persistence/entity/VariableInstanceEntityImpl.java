@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.variable.ValueFields;
 import org.flowable.engine.impl.variable.VariableType;
 
@@ -77,7 +78,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setExecution(ExecutionEntity execution) {
-        this.executionId = execution.getId();
+        setExecutionId(execution.getId());
         this.processInstanceId = execution.getProcessInstanceId();
         forceUpdate();
     }
@@ -91,7 +92,11 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setExecutionId(String executionId) {
+        boolean changed = !StringUtils.equals(this.executionId, executionId);
         this.executionId = executionId;
+        if (changed) {
+            CachedEntityIndex.updateIndexes(this);
+        }
     }
 
     // byte array value ///////////////////////////////////////////////////////////
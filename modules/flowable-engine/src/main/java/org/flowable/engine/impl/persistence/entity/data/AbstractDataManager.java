@@ -24,6 +24,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
@@ -33,6 +34,11 @@ import org.flowable.engine.impl.persistence.cache.EntityCache;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> extends AbstractManager implements DataManager<EntityImpl> {
 
+    /**
+     * Maximum number of ids passed in a single 'in' clause, Oracle doesn't allow more than 1000 expressions in a list.
+     */
+    protected static final int MAX_IDS_PER_SELECT = 1000;
+
     public AbstractDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -139,7 +145,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : getCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -151,7 +157,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : getCachedObjectsToMatch(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -180,6 +186,20 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return new ArrayList<EntityImpl>(result);
     }
 
+    /**
+     * Executes the given select, which takes a collection of ids as parameter, for the given ids in chunks of at most {@link #MAX_IDS_PER_SELECT} ids. The results aren't put in the entity cache.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> selectListByIds(String selectQuery, Collection<String> ids) {
+        List<String> idList = new ArrayList<String>(ids);
+        List<T> result = new ArrayList<T>();
+        for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += MAX_IDS_PER_SELECT) {
+            List<String> idChunk = new ArrayList<String>(idList.subList(fromIndex, Math.min(fromIndex + MAX_IDS_PER_SELECT, idList.size())));
+            result.addAll(getDbSqlSession().selectList(selectQuery, idChunk, false));
+        }
+        return result;
+    }
+
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter) {
         Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
 
@@ -187,7 +207,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects.size());
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : getCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
                     result.add(cachedEntity);
@@ -199,7 +219,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : getCachedObjectsToMatch(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -212,4 +232,22 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return result;
     }
 
+    /**
+     * Returns the cached objects of the given type that need to be checked by the given {@link CachedEntityMatcher}. For an {@link IndexedCachedEntityMatcher},
+     * only the cached objects with the matching foreign key are returned, using the index of the entity cache.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> getCachedObjectsToMatch(Class<?> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            String indexKey = indexedCachedEntityMatcher.getIndexKey(parameter);
+            if (indexKey != null) {
+                return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher.getCachedEntityIndex(), indexKey);
+            }
+        }
+        return cachedObjects;
+    }
+
 }
@@ -31,4 +31,6 @@ public interface EventLogEntryDataManager extends DataManager<EventLogEntryEntit
 
     void deleteEventLogEntry(long logNr);
 
+    void bulkInsert(List<EventLogEntryEntity> eventLogEntries);
+
 }
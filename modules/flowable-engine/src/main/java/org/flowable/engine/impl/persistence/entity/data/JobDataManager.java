@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -27,6 +28,10 @@ public interface JobDataManager extends DataManager<JobEntity> {
 
     List<JobEntity> findJobsToExecute(Page page);
 
+    List<JobEntity> findJobsToExecuteSkipLocked(Page page);
+
+    void updateJobLockOwner(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
     List<JobEntity> findJobsByExecutionId(final String executionId);
 
     List<JobEntity> findJobsByProcessInstanceId(final String processInstanceId);
@@ -72,4 +72,9 @@ public class MybatisEventLogEntryDataManager extends AbstractDataManager<EventLo
         getDbSqlSession().getSqlSession().delete("deleteEventLogEntry", logNr);
     }
 
+    @Override
+    public void bulkInsert(List<EventLogEntryEntity> eventLogEntries) {
+        getDbSqlSession().directInsert(EventLogEntryEntityImpl.class, eventLogEntries);
+    }
+
 }
@@ -29,6 +29,7 @@ import org.flowable.engine.impl.persistence.CachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionByProcessInstanceMatcher;
@@ -247,40 +248,32 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
-        // paging doesn't work for combining process instances and variables due
-        // to an outer join, so doing it in-memory
         if (executionQuery.getFirstResult() < 0 || executionQuery.getMaxResults() <= 0) {
             return Collections.EMPTY_LIST;
         }
 
-        int firstResult = executionQuery.getFirstResult();
-        int maxResults = executionQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (executionQuery.getProcessInstanceVariablesLimit() != null) {
-            executionQuery.setMaxResults(executionQuery.getProcessInstanceVariablesLimit());
-        } else {
-            executionQuery.setMaxResults(getProcessEngineConfiguration().getExecutionQueryLimit());
+        // limit the page to 20000 results for performance reasons
+        int limit = executionQuery.getProcessInstanceVariablesLimit() != null ? executionQuery.getProcessInstanceVariablesLimit() : getProcessEngineConfiguration().getExecutionQueryLimit();
+        if (executionQuery.getMaxResults() > limit) {
+            executionQuery.setMaxResults(limit);
         }
-        executionQuery.setFirstResult(0);
 
-        List<ProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectProcessInstanceWithVariablesByQueryCriteria", executionQuery,
+        // paging doesn't work when joining the variables due to the outer join, so the page of process instances
+        // is selected first and the variables are fetched for the process instances on that page only
+        List<ProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectProcessInstanceByQueryCriteria", executionQuery,
                 executionQuery.getFirstResult(), executionQuery.getMaxResults());
+        if (!instanceList.isEmpty()) {
+            Map<String, ExecutionEntityImpl> instancesById = new HashMap<String, ExecutionEntityImpl>();
+            for (ProcessInstance instance : instanceList) {
+                instancesById.put(instance.getId(), (ExecutionEntityImpl) instance);
+            }
 
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
-                }
-            } else {
-                int toIndex = Math.min(maxResults, instanceList.size());
-                return instanceList.subList(0, toIndex);
+            List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByExecutionIds", instancesById.keySet());
+            for (VariableInstanceEntity variable : variables) {
+                instancesById.get(variable.getExecutionId()).getQueryVariables().add(variable);
             }
         }
-        return Collections.EMPTY_LIST;
+        return instanceList;
     }
 
     @Override
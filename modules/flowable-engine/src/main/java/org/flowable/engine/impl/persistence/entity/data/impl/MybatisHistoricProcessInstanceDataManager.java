@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +23,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceDataManager;
 
@@ -75,40 +77,32 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
-        // paging doesn't work for combining process instances and variables
-        // due to an outer join, so doing it in-memory
         if (historicProcessInstanceQuery.getFirstResult() < 0 || historicProcessInstanceQuery.getMaxResults() <= 0) {
             return Collections.EMPTY_LIST;
         }
 
-        int firstResult = historicProcessInstanceQuery.getFirstResult();
-        int maxResults = historicProcessInstanceQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (historicProcessInstanceQuery.getProcessInstanceVariablesLimit() != null) {
-            historicProcessInstanceQuery.setMaxResults(historicProcessInstanceQuery.getProcessInstanceVariablesLimit());
-        } else {
-            historicProcessInstanceQuery.setMaxResults(getProcessEngineConfiguration().getHistoricProcessInstancesQueryLimit());
+        // limit the page to 20000 results for performance reasons
+        int limit = historicProcessInstanceQuery.getProcessInstanceVariablesLimit() != null ? historicProcessInstanceQuery.getProcessInstanceVariablesLimit()
+                : getProcessEngineConfiguration().getHistoricProcessInstancesQueryLimit();
+        if (historicProcessInstanceQuery.getMaxResults() > limit) {
+            historicProcessInstanceQuery.setMaxResults(limit);
         }
-        historicProcessInstanceQuery.setFirstResult(0);
 
-        List<HistoricProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectHistoricProcessInstancesWithVariablesByQueryCriteria", historicProcessInstanceQuery,
+        // paging doesn't work when joining the variables due to the outer join, so the page of process instances
+        // is selected first and the variables are fetched for the process instances on that page only
+        List<HistoricProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery,
                 historicProcessInstanceQuery.getFirstResult(), historicProcessInstanceQuery.getMaxResults());
+        if (!instanceList.isEmpty()) {
+            Map<String, HistoricProcessInstanceEntity> instancesById = new HashMap<String, HistoricProcessInstanceEntity>();
+            for (HistoricProcessInstance instance : instanceList) {
+                instancesById.put(instance.getId(), (HistoricProcessInstanceEntity) instance);
+            }
 
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
-                }
-            } else {
-                int toIndex = Math.min(maxResults, instanceList.size());
-                return instanceList.subList(0, toIndex);
+            List<HistoricVariableInstanceEntity> variables = selectListByIds("selectHistoricVariableInstancesByExecutionIds", instancesById.keySet());
+            for (HistoricVariableInstanceEntity variable : variables) {
+                instancesById.get(variable.getExecutionId()).getQueryVariables().add(variable);
             }
         }
-
         return instanceList;
     }
 
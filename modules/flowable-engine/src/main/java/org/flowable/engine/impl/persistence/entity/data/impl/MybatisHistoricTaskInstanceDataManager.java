@@ -12,7 +12,9 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +24,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricTaskInstanceEntityImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.HistoricTaskInstanceDataManager;
@@ -76,41 +79,57 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndVariablesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
-        // paging doesn't work for combining task instances and variables
-        // due to an outer join, so doing it in-memory
         if (historicTaskInstanceQuery.getFirstResult() < 0 || historicTaskInstanceQuery.getMaxResults() <= 0) {
             return Collections.EMPTY_LIST;
         }
 
-        int firstResult = historicTaskInstanceQuery.getFirstResult();
-        int maxResults = historicTaskInstanceQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (historicTaskInstanceQuery.getTaskVariablesLimit() != null) {
-            historicTaskInstanceQuery.setMaxResults(historicTaskInstanceQuery.getTaskVariablesLimit());
-        } else {
-            historicTaskInstanceQuery.setMaxResults(getProcessEngineConfiguration().getHistoricTaskQueryLimit());
+        // limit the page to 20000 results for performance reasons
+        int limit = historicTaskInstanceQuery.getTaskVariablesLimit() != null ? historicTaskInstanceQuery.getTaskVariablesLimit() : getProcessEngineConfiguration().getHistoricTaskQueryLimit();
+        if (historicTaskInstanceQuery.getMaxResults() > limit) {
+            historicTaskInstanceQuery.setMaxResults(limit);
         }
-        historicTaskInstanceQuery.setFirstResult(0);
 
-        List<HistoricTaskInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectHistoricTaskInstancesWithVariablesByQueryCriteria", historicTaskInstanceQuery,
+        // paging doesn't work when joining the variables due to the outer join, so the page of task instances
+        // is selected first and the variables are fetched for the task instances on that page only
+        List<HistoricTaskInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery,
                 historicTaskInstanceQuery.getFirstResult(), historicTaskInstanceQuery.getMaxResults());
+        if (!instanceList.isEmpty()) {
+            fetchQueryVariables(instanceList, historicTaskInstanceQuery.isIncludeTaskLocalVariables(), historicTaskInstanceQuery.isIncludeProcessVariables());
+        }
+        return instanceList;
+    }
 
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+    protected void fetchQueryVariables(List<HistoricTaskInstance> instanceList, boolean includeTaskLocalVariables, boolean includeProcessVariables) {
+        Map<String, HistoricTaskInstanceEntity> instancesById = new HashMap<String, HistoricTaskInstanceEntity>();
+        Map<String, List<HistoricTaskInstanceEntity>> instancesByProcessInstanceId = new HashMap<String, List<HistoricTaskInstanceEntity>>();
+        for (HistoricTaskInstance instance : instanceList) {
+            HistoricTaskInstanceEntity instanceEntity = (HistoricTaskInstanceEntity) instance;
+            instancesById.put(instanceEntity.getId(), instanceEntity);
+            if (instanceEntity.getProcessInstanceId() != null) {
+                List<HistoricTaskInstanceEntity> processInstanceTasks = instancesByProcessInstanceId.get(instanceEntity.getProcessInstanceId());
+                if (processInstanceTasks == null) {
+                    processInstanceTasks = new ArrayList<HistoricTaskInstanceEntity>();
+                    instancesByProcessInstanceId.put(instanceEntity.getProcessInstanceId(), processInstanceTasks);
                 }
-            } else {
-                int toIndex = Math.min(maxResults, instanceList.size());
-                return instanceList.subList(0, toIndex);
+                processInstanceTasks.add(instanceEntity);
             }
         }
 
-        return instanceList;
+        if (includeTaskLocalVariables) {
+            List<HistoricVariableInstanceEntity> variables = selectListByIds("selectHistoricVariableInstancesByTaskIds", instancesById.keySet());
+            for (HistoricVariableInstanceEntity variable : variables) {
+                instancesById.get(variable.getTaskId()).getQueryVariables().add(variable);
+            }
+        }
+
+        if (includeProcessVariables && !instancesByProcessInstanceId.isEmpty()) {
+            List<HistoricVariableInstanceEntity> variables = selectListByIds("selectHistoricVariableInstancesByExecutionIds", instancesByProcessInstanceId.keySet());
+            for (HistoricVariableInstanceEntity variable : variables) {
+                for (HistoricTaskInstanceEntity instanceEntity : instancesByProcessInstanceId.get(variable.getExecutionId())) {
+                    instanceEntity.getQueryVariables().add(variable);
+                }
+            }
+        }
     }
 
     @Override
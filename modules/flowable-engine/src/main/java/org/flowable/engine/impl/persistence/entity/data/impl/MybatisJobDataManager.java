@@ -56,6 +56,21 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecuteSkipLocked(Page page) {
+        return getDbSqlSession().selectList("selectJobsToExecuteSkipLocked", null, page);
+    }
+
+    @Override
+    public void updateJobLockOwner(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        getDbSqlSession().update("updateJobLockOwner", params);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
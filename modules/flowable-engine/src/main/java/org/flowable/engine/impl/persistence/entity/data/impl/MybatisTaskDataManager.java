@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.TaskDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.TasksByExecutionIdMatcher;
@@ -69,40 +71,56 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksAndVariablesByQueryCriteria(TaskQueryImpl taskQuery) {
-        final String query = "selectTaskWithVariablesByQueryCriteria";
-        // paging doesn't work for combining task instances and variables due to
-        // an outer join, so doing it in-memory
         if (taskQuery.getFirstResult() < 0 || taskQuery.getMaxResults() <= 0) {
             return Collections.EMPTY_LIST;
         }
 
-        int firstResult = taskQuery.getFirstResult();
-        int maxResults = taskQuery.getMaxResults();
+        // limit the page to 20000 results for performance reasons
+        int limit = taskQuery.getTaskVariablesLimit() != null ? taskQuery.getTaskVariablesLimit() : getProcessEngineConfiguration().getTaskQueryLimit();
+        if (taskQuery.getMaxResults() > limit) {
+            taskQuery.setMaxResults(limit);
+        }
+
+        // paging doesn't work when joining the variables due to the outer join, so the page of tasks
+        // is selected first and the variables are fetched for the tasks on that page only
+        List<Task> tasks = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectTaskByQueryCriteria", taskQuery, taskQuery.getFirstResult(), taskQuery.getMaxResults());
+        if (!tasks.isEmpty()) {
+            fetchQueryVariables(tasks, taskQuery.isIncludeTaskLocalVariables(), taskQuery.isIncludeProcessVariables());
+        }
+        return tasks;
+    }
 
-        // setting max results, limit to 20000 results for performance reasons
-        if (taskQuery.getTaskVariablesLimit() != null) {
-            taskQuery.setMaxResults(taskQuery.getTaskVariablesLimit());
-        } else {
-            taskQuery.setMaxResults(getProcessEngineConfiguration().getTaskQueryLimit());
+    protected void fetchQueryVariables(List<Task> tasks, boolean includeTaskLocalVariables, boolean includeProcessVariables) {
+        Map<String, TaskEntityImpl> tasksById = new HashMap<String, TaskEntityImpl>();
+        Map<String, List<TaskEntityImpl>> tasksByProcessInstanceId = new HashMap<String, List<TaskEntityImpl>>();
+        for (Task task : tasks) {
+            TaskEntityImpl taskEntity = (TaskEntityImpl) task;
+            tasksById.put(taskEntity.getId(), taskEntity);
+            if (taskEntity.getProcessInstanceId() != null) {
+                List<TaskEntityImpl> processInstanceTasks = tasksByProcessInstanceId.get(taskEntity.getProcessInstanceId());
+                if (processInstanceTasks == null) {
+                    processInstanceTasks = new ArrayList<TaskEntityImpl>();
+                    tasksByProcessInstanceId.put(taskEntity.getProcessInstanceId(), processInstanceTasks);
+                }
+                processInstanceTasks.add(taskEntity);
+            }
         }
-        taskQuery.setFirstResult(0);
 
-        List<Task> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter(query, taskQuery, taskQuery.getFirstResult(), taskQuery.getMaxResults());
+        if (includeTaskLocalVariables) {
+            List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByTaskIds", tasksById.keySet());
+            for (VariableInstanceEntity variable : variables) {
+                tasksById.get(variable.getTaskId()).getQueryVariables().add(variable);
+            }
+        }
 
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+        if (includeProcessVariables && !tasksByProcessInstanceId.isEmpty()) {
+            List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByExecutionIds", tasksByProcessInstanceId.keySet());
+            for (VariableInstanceEntity variable : variables) {
+                for (TaskEntityImpl taskEntity : tasksByProcessInstanceId.get(variable.getExecutionId())) {
+                    taskEntity.getQueryVariables().add(variable);
                 }
-            } else {
-                int toIndex = Math.min(maxResults, instanceList.size());
-                return instanceList.subList(0, toIndex);
             }
         }
-        return Collections.EMPTY_LIST;
     }
 
     @Override
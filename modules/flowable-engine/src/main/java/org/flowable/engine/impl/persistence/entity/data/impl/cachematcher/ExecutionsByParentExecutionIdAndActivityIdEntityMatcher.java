@@ -16,12 +16,14 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -33,4 +35,14 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
+    @Override
+    public CachedEntityIndex getCachedEntityIndex() {
+        return CachedEntityIndex.EXECUTION_PARENT_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("parentExecutionId");
+    }
+
 }
\ No newline at end of file
@@ -13,12 +13,14 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -28,4 +30,14 @@ public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatc
                 && entity.getParentId() != null;
     }
 
+    @Override
+    public CachedEntityIndex getCachedEntityIndex() {
+        return CachedEntityIndex.EXECUTION_PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
 }
\ No newline at end of file
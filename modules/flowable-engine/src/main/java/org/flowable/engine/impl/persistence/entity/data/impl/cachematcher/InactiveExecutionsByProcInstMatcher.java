@@ -15,12 +15,14 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -32,4 +34,14 @@ public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdap
                 && !executionEntity.isActive();
     }
 
+    @Override
+    public CachedEntityIndex getCachedEntityIndex() {
+        return CachedEntityIndex.EXECUTION_PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("processInstanceId");
+    }
+
 }
\ No newline at end of file
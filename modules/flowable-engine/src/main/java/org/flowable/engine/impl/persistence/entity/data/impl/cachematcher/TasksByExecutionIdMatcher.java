@@ -13,16 +13,28 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> implements IndexedCachedEntityMatcher<TaskEntity> {
 
     @Override
     public boolean isRetained(TaskEntity taskEntity, Object parameter) {
         return taskEntity.getExecutionId() != null && parameter.equals(taskEntity.getExecutionId());
     }
 
+    @Override
+    public CachedEntityIndex getCachedEntityIndex() {
+        return CachedEntityIndex.TASK_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
 }
\ No newline at end of file
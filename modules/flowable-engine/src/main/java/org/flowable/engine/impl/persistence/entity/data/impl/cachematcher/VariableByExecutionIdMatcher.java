@@ -13,12 +13,14 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -26,4 +28,14 @@ public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<Var
                 && variableInstanceEntity.getExecutionId().equals((String) parameter);
     }
 
+    @Override
+    public CachedEntityIndex getCachedEntityIndex() {
+        return CachedEntityIndex.VARIABLE_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
 }
\ No newline at end of file
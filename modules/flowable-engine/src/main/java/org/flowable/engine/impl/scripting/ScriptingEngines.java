@@ -12,11 +12,17 @@
  */
 package org.flowable.engine.impl.scripting;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -35,6 +41,7 @@ public class ScriptingEngines {
 
     public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
     public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
+    public static final int DEFAULT_COMPILED_SCRIPT_CACHE_SIZE = 512;
 
     private final ScriptEngineManager scriptEngineManager;
     protected ScriptBindingsFactory scriptBindingsFactory;
@@ -42,6 +49,15 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Scripts of engines implementing {@link Compilable} are compiled once and kept in a LRU cache, keyed by language and script source.
+     * Only done for cached engines (which declared multi-threaded access through the "THREADING" parameter) not listed in {@link #compiledScriptCacheDisabledLanguages}.
+     */
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheSize = DEFAULT_COMPILED_SCRIPT_CACHE_SIZE;
+    protected Set<String> compiledScriptCacheDisabledLanguages = new HashSet<String>();
+    protected Map<CompiledScriptKey, CompiledScript> compiledScripts;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -50,6 +66,7 @@ public class ScriptingEngines {
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
         cachedEngines = new HashMap<String, ScriptEngine>();
+        compiledScripts = createCompiledScriptCache(compiledScriptCacheSize);
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -81,15 +98,93 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        this.compiledScripts = createCompiledScriptCache(compiledScriptCacheSize);
+    }
+
+    public Set<String> getCompiledScriptCacheDisabledLanguages() {
+        return compiledScriptCacheDisabledLanguages;
+    }
+
+    /**
+     * Languages of which the scripts are never compiled and cached, e.g. because the compiled form of the engine is not thread-safe.
+     */
+    public void setCompiledScriptCacheDisabledLanguages(Set<String> compiledScriptCacheDisabledLanguages) {
+        this.compiledScriptCacheDisabledLanguages = compiledScriptCacheDisabledLanguages;
+    }
+
+    public ScriptingEngines disableCompiledScriptCache(String language) {
+        compiledScriptCacheDisabledLanguages.add(language);
+        return this;
+    }
+
+    public void clearCompiledScriptCache() {
+        compiledScripts.clear();
+    }
+
+    public int getCachedCompiledScriptCount() {
+        return compiledScripts.size();
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        if (!isCompiledScriptCacheable(language, scriptEngine)) {
+            return null;
+        }
+
+        CompiledScriptKey key = new CompiledScriptKey(language, script);
+        CompiledScript compiledScript = compiledScripts.get(key);
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScripts.put(key, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected boolean isCompiledScriptCacheable(String language, ScriptEngine scriptEngine) {
+        return cacheCompiledScripts && compiledScriptCacheSize > 0
+                && scriptEngine instanceof Compilable
+                && !compiledScriptCacheDisabledLanguages.contains(language)
+                && scriptEngine == cachedEngines.get(language);
+    }
+
+    protected Map<CompiledScriptKey, CompiledScript> createCompiledScriptCache(final int limit) {
+        return Collections.synchronizedMap(new LinkedHashMap<CompiledScriptKey, CompiledScript>(Math.max(Math.min(limit, 64), 1), 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry<CompiledScriptKey, CompiledScript> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -146,4 +241,34 @@ public class ScriptingEngines {
     public void setScriptBindingsFactory(ScriptBindingsFactory scriptBindingsFactory) {
         this.scriptBindingsFactory = scriptBindingsFactory;
     }
+
+    protected static class CompiledScriptKey {
+
+        protected final String language;
+        protected final String script;
+        protected final int hashCode;
+
+        public CompiledScriptKey(String language, String script) {
+            this.language = language;
+            this.script = script;
+            this.hashCode = 31 * language.hashCode() + script.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CompiledScriptKey)) {
+                return false;
+            }
+            CompiledScriptKey other = (CompiledScriptKey) obj;
+            return hashCode == other.hashCode && language.equals(other.language) && script.equals(other.script);
+        }
+    }
 }
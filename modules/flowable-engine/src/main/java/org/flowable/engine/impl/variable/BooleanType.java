@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Frederik Heremans
  */
-public class BooleanType implements VariableType {
+public class BooleanType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -47,6 +47,10 @@ public class BooleanType implements VariableType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Boolean.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
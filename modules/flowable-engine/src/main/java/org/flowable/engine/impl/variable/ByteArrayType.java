@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Tom Baeyens
  */
-public class ByteArrayType implements VariableType {
+public class ByteArrayType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -35,6 +35,10 @@ public class ByteArrayType implements VariableType {
         valueFields.setBytes((byte[]) value);
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return byte[].class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.variable;
+
+/**
+ * {@link VariableType} that can tell from the class of a value alone that it won't be able to store it. {@link DefaultVariableTypes} uses this to skip the type when looking up the type for values
+ * of that class.
+ */
+public interface ClassAwareVariableType extends VariableType {
+
+    /**
+     * @return false when {@link #isAbleToStore(Object)} returns false for every non-null value of the given class, true when it might return true for some of them.
+     */
+    boolean isAbleToStoreClass(Class<?> valueClass);
+
+}
@@ -17,7 +17,7 @@ package org.flowable.engine.impl.variable;
  * 
  * @author Esteban Robles Luna
  */
-public class CustomObjectType implements VariableType {
+public class CustomObjectType implements ClassAwareVariableType {
 
     protected String typeName;
     protected Class<?> theClass;
@@ -35,6 +35,10 @@ public class CustomObjectType implements VariableType {
         return valueFields.getCachedValue();
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return this.theClass.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,7 +17,7 @@ import java.util.Date;
 /**
  * @author Tom Baeyens
  */
-public class DateType implements VariableType {
+public class DateType implements ClassAwareVariableType {
 
     public String getTypeName() {
         return "date";
@@ -27,6 +27,10 @@ public class DateType implements VariableType {
         return true;
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Date.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
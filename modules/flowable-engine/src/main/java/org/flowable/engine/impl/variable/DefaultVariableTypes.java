@@ -13,13 +13,17 @@
 package org.flowable.engine.impl.variable;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.engine.common.api.FlowableException;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * @author Tom Baeyens
  */
@@ -27,9 +31,19 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Maximum number of value classes for which the candidate types are kept, to avoid holding on to classes of redeployed applications indefinitely.
+     */
+    private static final int MAX_INDEXED_CLASSES = 1024;
+
     private final List<VariableType> typesList = new ArrayList<VariableType>();
     private final Map<String, VariableType> typesMap = new HashMap<String, VariableType>();
 
+    /**
+     * Per value class, the types (in order) that might be able to store values of that class. Built lazily and cleared whenever the types change.
+     */
+    private transient volatile ConcurrentHashMap<Class<?>, VariableType[]> typesByValueClass;
+
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
     }
@@ -37,6 +51,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesByValueClass = null;
         return this;
     }
 
@@ -47,6 +62,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesByValueClass = null;
     }
 
     public VariableType getVariableType(String typeName) {
@@ -54,14 +70,72 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     }
 
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
-                return type;
+        if (value == null) {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+
+        } else {
+            if (value instanceof JsonNode) {
+                JsonSerializationCache.reset();
+            }
+
+            for (VariableType type : getCandidateTypes(value.getClass())) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected VariableType[] getCandidateTypes(Class<?> valueClass) {
+        ConcurrentHashMap<Class<?>, VariableType[]> candidatesByClass = typesByValueClass;
+        if (candidatesByClass == null) {
+            candidatesByClass = new ConcurrentHashMap<Class<?>, VariableType[]>();
+            typesByValueClass = candidatesByClass;
+        }
+
+        VariableType[] candidateTypes = candidatesByClass.get(valueClass);
+        if (candidateTypes == null) {
+            List<VariableType> candidates = new ArrayList<VariableType>();
+            for (VariableType type : typesList) {
+                if (!isNeverAbleToStore(type, valueClass)) {
+                    candidates.add(type);
+                }
+            }
+            candidateTypes = candidates.toArray(new VariableType[candidates.size()]);
+
+            if (candidatesByClass.size() >= MAX_INDEXED_CLASSES) {
+                candidatesByClass.clear();
+            }
+            candidatesByClass.put(valueClass, candidateTypes);
+        }
+        return candidateTypes;
+    }
+
+    protected boolean isNeverAbleToStore(VariableType type, Class<?> valueClass) {
+        if (!(type instanceof ClassAwareVariableType)) {
+            return false;
+        }
+
+        // A subclass overriding isAbleToStore without overriding isAbleToStoreClass might accept other classes, so only trust
+        // isAbleToStoreClass when it is declared alongside or below isAbleToStore
+        try {
+            Method isAbleToStore = type.getClass().getMethod("isAbleToStore", Object.class);
+            Method isAbleToStoreClass = type.getClass().getMethod("isAbleToStoreClass", Class.class);
+            if (!isAbleToStore.getDeclaringClass().isAssignableFrom(isAbleToStoreClass.getDeclaringClass())) {
+                return false;
+            }
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+
+        return !((ClassAwareVariableType) type).isAbleToStoreClass(valueClass);
+    }
+
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
     }
@@ -78,6 +152,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesByValueClass = null;
         return this;
     }
 }
@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Tom Baeyens
  */
-public class DoubleType implements VariableType {
+public class DoubleType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -35,6 +35,10 @@ public class DoubleType implements VariableType {
         valueFields.setDoubleValue((Double) value);
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Double.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
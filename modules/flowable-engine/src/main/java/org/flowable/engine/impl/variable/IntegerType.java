@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Joram Barrez
  */
-public class IntegerType implements VariableType {
+public class IntegerType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class IntegerType implements VariableType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Integer.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,7 +17,7 @@ import org.joda.time.DateTime;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateTimeType implements VariableType {
+public class JodaDateTimeType implements ClassAwareVariableType {
 
     public String getTypeName() {
         return "jodadatetime";
@@ -27,6 +27,10 @@ public class JodaDateTimeType implements VariableType {
         return true;
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return DateTime.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
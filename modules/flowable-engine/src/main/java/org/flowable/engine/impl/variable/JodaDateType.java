@@ -17,7 +17,7 @@ import org.joda.time.LocalDate;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateType implements VariableType {
+public class JodaDateType implements ClassAwareVariableType {
 
     public String getTypeName() {
         return "jodadate";
@@ -27,6 +27,10 @@ public class JodaDateType implements VariableType {
         return true;
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return LocalDate.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.variable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Keeps the serialized form of the JSON value that is being stored by the current thread, so the length checks of {@link JsonType} and {@link LongJsonType} and the storing of the value all use a
+ * single serialization.
+ * 
+ * The serialized form is dropped when a new variable type lookup starts and once the value is stored.
+ */
+public class JsonSerializationCache {
+
+    protected static final ThreadLocal<SerializedJson> current = new ThreadLocal<SerializedJson>();
+
+    /**
+     * Drops the serialized form of the previous value, as the node may have been changed since.
+     */
+    public static void reset() {
+        current.remove();
+    }
+
+    /**
+     * @return the serialized form of the node, serializing it only when not done already since the last reset.
+     */
+    public static String serialize(JsonNode node) {
+        SerializedJson serializedJson = current.get();
+        if (serializedJson != null && serializedJson.node == node) {
+            return serializedJson.value;
+        }
+        String value = node.toString();
+        current.set(new SerializedJson(node, value));
+        return value;
+    }
+
+    /**
+     * @return the serialized form of the node, which is dropped afterwards as the node is being stored.
+     */
+    public static String serializeForStore(JsonNode node) {
+        String value = serialize(node);
+        current.remove();
+        return value;
+    }
+
+    protected static class SerializedJson {
+
+        protected final JsonNode node;
+        protected final String value;
+
+        public SerializedJson(JsonNode node, String value) {
+            this.node = node;
+            this.value = value;
+        }
+    }
+
+}
@@ -21,7 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Tijs Rademakers
  */
-public class JsonType implements VariableType {
+public class JsonType implements ClassAwareVariableType {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonType.class);
 
@@ -54,7 +54,11 @@ public class JsonType implements VariableType {
     }
 
     public void setValue(Object value, ValueFields valueFields) {
-        valueFields.setTextValue(value != null ? value.toString() : null);
+        valueFields.setTextValue(value != null ? JsonSerializationCache.serializeForStore((JsonNode) value) : null);
+    }
+
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return JsonNode.class.isAssignableFrom(valueClass);
     }
 
     public boolean isAbleToStore(Object value) {
@@ -63,7 +67,7 @@ public class JsonType implements VariableType {
         }
         if (JsonNode.class.isAssignableFrom(value.getClass())) {
             JsonNode jsonValue = (JsonNode) value;
-            return jsonValue.toString().length() <= maxLength;
+            return JsonSerializationCache.serialize(jsonValue).length() <= maxLength;
         }
         return false;
     }
@@ -34,13 +34,17 @@ public class LongJsonType extends SerializableType {
         return "longJson";
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return JsonNode.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
         }
         if (JsonNode.class.isAssignableFrom(value.getClass())) {
             JsonNode jsonValue = (JsonNode) value;
-            return jsonValue.toString().length() >= minLength;
+            return JsonSerializationCache.serialize(jsonValue).length() >= minLength;
         }
         return false;
     }
@@ -51,7 +55,7 @@ public class LongJsonType extends SerializableType {
         }
         JsonNode valueNode = (JsonNode) value;
         try {
-            return valueNode.toString().getBytes("utf-8");
+            return JsonSerializationCache.serializeForStore(valueNode).getBytes("utf-8");
         } catch (Exception e) {
             throw new FlowableException("Error getting bytes from json variable", e);
         }
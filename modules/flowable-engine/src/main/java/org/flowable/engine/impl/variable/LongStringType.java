@@ -27,6 +27,10 @@ public class LongStringType extends SerializableType {
         return "longString";
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return String.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return false;
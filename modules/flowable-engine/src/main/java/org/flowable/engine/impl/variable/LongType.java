@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Tom Baeyens
  */
-public class LongType implements VariableType {
+public class LongType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -40,6 +40,10 @@ public class LongType implements VariableType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Long.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Tom Baeyens
  */
-public class NullType implements VariableType {
+public class NullType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -31,6 +31,10 @@ public class NullType implements VariableType {
         return null;
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return false;
+    }
+
     public boolean isAbleToStore(Object value) {
         return (value == null);
     }
@@ -116,6 +116,10 @@ public class SerializableType extends ByteArrayType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Serializable.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         // TODO don't we need null support here?
         return value instanceof Serializable;
@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Joram Barrez
  */
-public class ShortType implements VariableType {
+public class ShortType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class ShortType implements VariableType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return Short.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
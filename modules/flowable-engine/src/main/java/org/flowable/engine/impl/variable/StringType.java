@@ -15,7 +15,7 @@ package org.flowable.engine.impl.variable;
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements ClassAwareVariableType {
 
     private final int maxLength;
 
@@ -39,6 +39,10 @@ public class StringType implements VariableType {
         valueFields.setTextValue((String) value);
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return String.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,7 +17,7 @@ import java.util.UUID;
 /**
  * @author Birger Zimmermann
  */
-public class UUIDType implements VariableType {
+public class UUIDType implements ClassAwareVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class UUIDType implements VariableType {
         }
     }
 
+    public boolean isAbleToStoreClass(Class<?> valueClass) {
+        return UUID.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
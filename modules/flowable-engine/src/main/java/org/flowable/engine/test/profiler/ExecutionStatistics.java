@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and database work of the executions of one command class or one SQL statement.
+ */
+public class ExecutionStatistics {
+
+    protected LatencyHistogram latency = new LatencyHistogram();
+    protected AtomicLong databaseRoundTrips = new AtomicLong();
+    protected AtomicLong rowsFlushed = new AtomicLong();
+
+    public void recordExecution(long durationInNanos) {
+        latency.recordValue(durationInNanos / 1000L);
+    }
+
+    public void addDatabaseRoundTrips(long roundTrips) {
+        databaseRoundTrips.addAndGet(roundTrips);
+    }
+
+    public void addRowsFlushed(long rows) {
+        rowsFlushed.addAndGet(rows);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getDatabaseRoundTrips() {
+        return databaseRoundTrips.get();
+    }
+
+    public long getRowsFlushed() {
+        return rowsFlushed.get();
+    }
+
+    public void reset() {
+        latency.reset();
+        databaseRoundTrips.set(0L);
+        rowsFlushed.set(0L);
+    }
+
+}
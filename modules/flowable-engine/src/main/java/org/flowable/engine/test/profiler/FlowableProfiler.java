@@ -30,6 +30,14 @@ public class FlowableProfiler implements ProcessEngineConfigurator {
     protected ProfileSession currentProfileSession;
     protected List<ProfileSession> profileSessions = new ArrayList<ProfileSession>();
 
+    /**
+     * When enabled, every command and SQL statement is recorded in {@link #statistics}. Contrary to a {@link ProfileSession}, which keeps
+     * every execution, the statistics use a fixed amount of memory and are cheap enough to be enabled in production.
+     */
+    protected volatile boolean statisticsEnabled;
+    protected ProfilerStatistics statistics = new ProfilerStatistics();
+    protected ThreadLocal<ExecutionStatistics> currentCommandStatistics = new ThreadLocal<ExecutionStatistics>();
+
     public static FlowableProfiler getInstance() {
         return INSTANCE;
     }
@@ -40,6 +48,9 @@ public class FlowableProfiler implements ProcessEngineConfigurator {
         // Command interceptor
         List<CommandInterceptor> interceptors = new ArrayList<CommandInterceptor>();
         interceptors.add(new TotalExecutionTimeCommandInterceptor());
+        if (processEngineConfiguration.getCustomPreCommandInterceptors() != null) {
+            interceptors.addAll(processEngineConfiguration.getCustomPreCommandInterceptors());
+        }
         processEngineConfiguration.setCustomPreCommandInterceptors(interceptors);
 
         // DbsqlSession
@@ -90,4 +101,31 @@ public class FlowableProfiler implements ProcessEngineConfigurator {
         this.profileSessions = profileSessions;
     }
 
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public ProfilerStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the statistics of the command executed by the current thread, or null if no command is being profiled.
+     */
+    public ExecutionStatistics getCurrentCommandStatistics() {
+        return currentCommandStatistics.get();
+    }
+
+    public void setCurrentCommandStatistics(ExecutionStatistics commandStatistics) {
+        if (commandStatistics != null) {
+            currentCommandStatistics.set(commandStatistics);
+        } else {
+            currentCommandStatistics.remove();
+        }
+    }
+
 }
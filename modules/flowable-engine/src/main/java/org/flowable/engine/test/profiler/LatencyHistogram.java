@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in microseconds, which uses a fixed amount of memory and can be updated by many threads without locking.
+ *
+ * Values below 16 each have their own bucket. Larger values share a bucket with the values that have the same three bits following the
+ * highest one bit, which keeps the error of a percentile below 12.5%.
+ */
+public class LatencyHistogram {
+
+    protected static final int SUB_BUCKET_BITS = 3;
+    protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    protected static final int LINEAR_BUCKET_COUNT = 2 * SUB_BUCKET_COUNT;
+    protected static final int LINEAR_BUCKET_BITS = SUB_BUCKET_BITS + 1;
+    protected static final int BUCKET_COUNT = LINEAR_BUCKET_COUNT + (63 - LINEAR_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    protected AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    protected AtomicLong total = new AtomicLong();
+    protected AtomicLong max = new AtomicLong();
+
+    public void recordValue(long microseconds) {
+        long value = Math.max(0L, microseconds);
+        buckets.incrementAndGet(getBucketIndex(value));
+        total.addAndGet(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) total.get() / count : 0.0;
+    }
+
+    /**
+     * @return the highest value of the bucket containing the given percentile (0-100) of the recorded values, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        total.set(0L);
+        max.set(0L);
+    }
+
+    protected int getBucketIndex(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_BUCKET_COUNT + (exponent - LINEAR_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    protected long getBucketUpperBound(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKET_COUNT) / SUB_BUCKET_COUNT + LINEAR_BUCKET_BITS;
+        long subBucket = (index - LINEAR_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * bucketWidth - 1;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.profiler;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The statistics gathered by the {@link FlowableProfiler} when statistics are enabled, per command class and per SQL statement.
+ *
+ * The number of command classes and statements is bounded, executions of any class or statement beyond {@link #MAX_ENTRIES} are
+ * gathered under {@link #OTHER}, so the memory used doesn't grow with the time the engine runs.
+ */
+public class ProfilerStatistics {
+
+    public static final int MAX_ENTRIES = 1000;
+    public static final String OTHER = "other";
+
+    protected ConcurrentMap<String, ExecutionStatistics> commandStatistics = new ConcurrentHashMap<String, ExecutionStatistics>();
+    protected ConcurrentMap<String, ExecutionStatistics> statementStatistics = new ConcurrentHashMap<String, ExecutionStatistics>();
+
+    public ExecutionStatistics getCommandStatistics(String commandClassName) {
+        return getOrCreateStatistics(commandStatistics, commandClassName);
+    }
+
+    public ExecutionStatistics getStatementStatistics(String statement) {
+        return getOrCreateStatistics(statementStatistics, statement);
+    }
+
+    public Map<String, ExecutionStatistics> getCommandStatistics() {
+        return Collections.unmodifiableMap(commandStatistics);
+    }
+
+    public Map<String, ExecutionStatistics> getStatementStatistics() {
+        return Collections.unmodifiableMap(statementStatistics);
+    }
+
+    public void reset() {
+        // The entries are reset instead of removed, as executions in progress may still hold them
+        for (ExecutionStatistics statistics : commandStatistics.values()) {
+            statistics.reset();
+        }
+        for (ExecutionStatistics statistics : statementStatistics.values()) {
+            statistics.reset();
+        }
+    }
+
+    protected ExecutionStatistics getOrCreateStatistics(ConcurrentMap<String, ExecutionStatistics> statisticsMap, String name) {
+        ExecutionStatistics statistics = statisticsMap.get(name);
+        if (statistics == null) {
+            String key = statisticsMap.size() < MAX_ENTRIES ? name : OTHER;
+            ExecutionStatistics newStatistics = new ExecutionStatistics();
+            statistics = statisticsMap.putIfAbsent(key, newStatistics);
+            if (statistics == null) {
+                statistics = newStatistics;
+            }
+        }
+        return statistics;
+    }
+
+}
@@ -16,6 +16,7 @@ import java.sql.Connection;
 import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.session.SqlSession;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.db.BulkDeleteOperation;
 import org.flowable.engine.impl.db.DbSqlSession;
@@ -31,10 +32,29 @@ public class ProfilingDbSqlSession extends DbSqlSession {
 
     public ProfilingDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         super(dbSqlSessionFactory, entityCache);
+        initStatisticsSqlSession();
     }
 
     public ProfilingDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
         super(dbSqlSessionFactory, entityCache, connection, catalog, schema);
+        initStatisticsSqlSession();
+    }
+
+    protected void initStatisticsSqlSession() {
+        if (FlowableProfiler.getInstance().isStatisticsEnabled()) {
+            this.sqlSession = new ProfilingSqlSession(sqlSession, false);
+        }
+    }
+
+    @Override
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            SqlSession newBatchSqlSession = super.getBatchSqlSession();
+            if (FlowableProfiler.getInstance().isStatisticsEnabled()) {
+                batchSqlSession = new ProfilingSqlSession(newBatchSqlSession, true);
+            }
+        }
+        return batchSqlSession;
     }
 
     @Override
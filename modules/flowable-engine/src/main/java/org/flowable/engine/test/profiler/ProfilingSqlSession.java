@@ -0,0 +1,364 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.profiler;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * {@link SqlSession} which records the latency of every statement in the {@link ProfilerStatistics} and counts the database round trips
+ * and the rows flushed of the command being executed.
+ *
+ * In batch mode, statements are only sent to the database when {@link #flushStatements()} is called, so each {@link BatchResult} is
+ * counted as one round trip and the time of the flush is divided over the batched statements.
+ */
+public class ProfilingSqlSession implements SqlSession {
+
+    protected SqlSession sqlSession;
+    protected boolean batch;
+    protected FlowableProfiler profiler;
+
+    public ProfilingSqlSession(SqlSession sqlSession, boolean batch) {
+        this.sqlSession = sqlSession;
+        this.batch = batch;
+        this.profiler = FlowableProfiler.getInstance();
+    }
+
+    // SELECT
+
+    @Override
+    public <T> T selectOne(String statement) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectOne(statement);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <T> T selectOne(String statement, Object parameter) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectOne(statement, parameter);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectList(statement);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement, Object parameter) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectList(statement, parameter);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement, Object parameter, RowBounds rowBounds) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectList(statement, parameter, rowBounds);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, String mapKey) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectMap(statement, mapKey);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectMap(statement, parameter, mapKey);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey, RowBounds rowBounds) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectMap(statement, parameter, mapKey, rowBounds);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    // Only the execution of the query is measured for cursors, not the fetching of the rows
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectCursor(statement);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement, Object parameter) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectCursor(statement, parameter);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement, Object parameter, RowBounds rowBounds) {
+        long start = System.nanoTime();
+        try {
+            return sqlSession.selectCursor(statement, parameter, rowBounds);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public void select(String statement, Object parameter, ResultHandler handler) {
+        long start = System.nanoTime();
+        try {
+            sqlSession.select(statement, parameter, handler);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public void select(String statement, ResultHandler handler) {
+        long start = System.nanoTime();
+        try {
+            sqlSession.select(statement, handler);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    @Override
+    public void select(String statement, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+        long start = System.nanoTime();
+        try {
+            sqlSession.select(statement, parameter, rowBounds, handler);
+        } finally {
+            recordStatement(statement, start, 0);
+        }
+    }
+
+    // INSERT, UPDATE, DELETE
+
+    @Override
+    public int insert(String statement) {
+        return insert(statement, null);
+    }
+
+    @Override
+    public int insert(String statement, Object parameter) {
+        if (batch) {
+            return sqlSession.insert(statement, parameter);
+        }
+        long start = System.nanoTime();
+        int rows = 0;
+        try {
+            rows = sqlSession.insert(statement, parameter);
+            return rows;
+        } finally {
+            recordStatement(statement, start, rows);
+        }
+    }
+
+    @Override
+    public int update(String statement) {
+        return update(statement, null);
+    }
+
+    @Override
+    public int update(String statement, Object parameter) {
+        if (batch) {
+            return sqlSession.update(statement, parameter);
+        }
+        long start = System.nanoTime();
+        int rows = 0;
+        try {
+            rows = sqlSession.update(statement, parameter);
+            return rows;
+        } finally {
+            recordStatement(statement, start, rows);
+        }
+    }
+
+    @Override
+    public int delete(String statement) {
+        return delete(statement, null);
+    }
+
+    @Override
+    public int delete(String statement, Object parameter) {
+        if (batch) {
+            return sqlSession.delete(statement, parameter);
+        }
+        long start = System.nanoTime();
+        int rows = 0;
+        try {
+            rows = sqlSession.delete(statement, parameter);
+            return rows;
+        } finally {
+            recordStatement(statement, start, rows);
+        }
+    }
+
+    @Override
+    public List<BatchResult> flushStatements() {
+        long start = System.nanoTime();
+        List<BatchResult> batchResults = sqlSession.flushStatements();
+        if (batchResults != null && !batchResults.isEmpty()) {
+            long durationPerBatch = (System.nanoTime() - start) / batchResults.size();
+            for (BatchResult batchResult : batchResults) {
+                long rows = 0L;
+                for (int updateCount : batchResult.getUpdateCounts()) {
+                    if (updateCount > 0) {
+                        rows += updateCount;
+                    } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                        rows++;
+                    }
+                }
+                recordExecution(batchResult.getMappedStatement().getId(), durationPerBatch, rows);
+            }
+        }
+        return batchResults;
+    }
+
+    // TRANSACTION
+
+    @Override
+    public void commit() {
+        long start = System.nanoTime();
+        try {
+            sqlSession.commit();
+        } finally {
+            recordStatement("commit", start, 0);
+        }
+    }
+
+    @Override
+    public void commit(boolean force) {
+        long start = System.nanoTime();
+        try {
+            sqlSession.commit(force);
+        } finally {
+            recordStatement("commit", start, 0);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        long start = System.nanoTime();
+        try {
+            sqlSession.rollback();
+        } finally {
+            recordStatement("rollback", start, 0);
+        }
+    }
+
+    @Override
+    public void rollback(boolean force) {
+        long start = System.nanoTime();
+        try {
+            sqlSession.rollback(force);
+        } finally {
+            recordStatement("rollback", start, 0);
+        }
+    }
+
+    // OTHER
+
+    @Override
+    public void close() {
+        sqlSession.close();
+    }
+
+    @Override
+    public void clearCache() {
+        sqlSession.clearCache();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return sqlSession.getConfiguration();
+    }
+
+    @Override
+    public <T> T getMapper(Class<T> type) {
+        // Bound to this session, so the statements of the mapper are recorded too
+        return sqlSession.getConfiguration().getMapper(type, this);
+    }
+
+    @Override
+    public Connection getConnection() {
+        return sqlSession.getConnection();
+    }
+
+    protected void recordStatement(String statement, long start, long rows) {
+        recordExecution(statement, System.nanoTime() - start, rows);
+    }
+
+    protected void recordExecution(String statement, long durationInNanos, long rows) {
+        ExecutionStatistics statementStatistics = profiler.getStatistics().getStatementStatistics(statement);
+        statementStatistics.recordExecution(durationInNanos);
+        statementStatistics.addDatabaseRoundTrips(1L);
+        statementStatistics.addRowsFlushed(rows);
+
+        ExecutionStatistics commandStatistics = profiler.getCurrentCommandStatistics();
+        if (commandStatistics != null) {
+            commandStatistics.addDatabaseRoundTrips(1L);
+            commandStatistics.addRowsFlushed(rows);
+        }
+    }
+
+    public SqlSession getSqlSession() {
+        return sqlSession;
+    }
+
+}
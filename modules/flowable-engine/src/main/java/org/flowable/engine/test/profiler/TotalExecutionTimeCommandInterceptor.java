@@ -28,6 +28,29 @@ public class TotalExecutionTimeCommandInterceptor extends AbstractCommandInterce
     }
 
     public <T> T execute(CommandConfig config, Command<T> command) {
+        if (profiler.isStatisticsEnabled()) {
+            return executeWithStatistics(config, command);
+        } else {
+            return executeInProfileSession(config, command);
+        }
+    }
+
+    protected <T> T executeWithStatistics(CommandConfig config, Command<T> command) {
+        ExecutionStatistics commandStatistics = profiler.getStatistics().getCommandStatistics(command.getClass().getName());
+
+        // Commands can be nested, the statistics of the outer command are restored afterwards
+        ExecutionStatistics outerCommandStatistics = profiler.getCurrentCommandStatistics();
+        profiler.setCurrentCommandStatistics(commandStatistics);
+        long start = System.nanoTime();
+        try {
+            return executeInProfileSession(config, command);
+        } finally {
+            commandStatistics.recordExecution(System.nanoTime() - start);
+            profiler.setCurrentCommandStatistics(outerCommandStatistics);
+        }
+    }
+
+    protected <T> T executeInProfileSession(CommandConfig config, Command<T> command) {
         ProfileSession currentProfileSession = profiler.getCurrentProfileSession();
 
         if (currentProfileSession != null) {
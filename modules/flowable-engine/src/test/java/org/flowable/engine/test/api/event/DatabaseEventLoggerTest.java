@@ -2,13 +2,17 @@ package org.flowable.engine.test.api.event;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.impl.event.logger.EventLogOverflowPolicy;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.event.logger.handler.Fields;
 import org.flowable.engine.impl.identity.Authentication;
@@ -550,4 +554,69 @@ public class DatabaseEventLoggerTest extends PluggableFlowableTestCase {
 
     }
 
+    public void testAsyncEventLogWriter() {
+        runtimeService.removeEventListener(databaseEventLogger);
+
+        // A queue of one entry, so the second entry is written by the committing thread
+        AsyncEventLogWriter eventLogWriter = new AsyncEventLogWriter(processEngineConfiguration.getCommandExecutor(), 1, 10, EventLogOverflowPolicy.CALLER_RUNS);
+        EventLogger asyncEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper());
+        asyncEventLogger.setAsyncEventLogWriter(eventLogWriter);
+        runtimeService.addEventListener(asyncEventLogger);
+
+        Task task = taskService.newTask();
+        task.setAssignee("kermit");
+        try {
+            taskService.saveTask(task);
+        } finally {
+            runtimeService.removeEventListener(asyncEventLogger);
+            eventLogWriter.shutdown();
+        }
+
+        List<EventLogEntry> events = managementService.getEventLogEntries(null, null);
+        assertEquals(2, events.size());
+        Set<String> types = new HashSet<String>();
+        for (EventLogEntry eventLogEntry : events) {
+            types.add(eventLogEntry.getType());
+        }
+        assertTrue(types.contains("TASK_ASSIGNED"));
+        assertTrue(types.contains("TASK_CREATED"));
+        assertEquals(0, eventLogWriter.getDiscardedCount());
+
+        // Cleanup
+        taskService.deleteTask(task.getId(), true);
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
+    public void testAsyncEventLogWriterAfterShutdown() {
+        runtimeService.removeEventListener(databaseEventLogger);
+
+        // Entries written after shutdown aren't queued anymore, but written by the committing thread
+        AsyncEventLogWriter eventLogWriter = new AsyncEventLogWriter(processEngineConfiguration.getCommandExecutor(), 10, 10, EventLogOverflowPolicy.DISCARD);
+        eventLogWriter.shutdown();
+        EventLogger asyncEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper());
+        asyncEventLogger.setAsyncEventLogWriter(eventLogWriter);
+        runtimeService.addEventListener(asyncEventLogger);
+
+        Task task = taskService.newTask();
+        try {
+            taskService.saveTask(task);
+        } finally {
+            runtimeService.removeEventListener(asyncEventLogger);
+        }
+
+        List<EventLogEntry> events = managementService.getEventLogEntries(null, null);
+        assertEquals(1, events.size());
+        assertEquals("TASK_CREATED", events.get(0).getType());
+        assertEquals(0, eventLogWriter.getQueuedCount());
+        assertEquals(0, eventLogWriter.getDiscardedCount());
+
+        // Cleanup
+        taskService.deleteTask(task.getId(), true);
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
 }
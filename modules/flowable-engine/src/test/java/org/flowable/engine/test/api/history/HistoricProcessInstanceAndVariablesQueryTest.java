@@ -223,6 +223,42 @@ public class HistoricProcessInstanceAndVariablesQueryTest extends PluggableFlowa
         }
     }
 
+    public void testQueryPageWithProcessVariables() {
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            Map<String, Object> startMap = new HashMap<String, Object>();
+            for (int i = 0; i < 10; i++) {
+                startMap.put("anothertest", i);
+                runtimeService.startProcessInstanceByKey(PROCESS_DEFINITION_KEY_2, "page" + i, startMap);
+            }
+
+            List<HistoricProcessInstance> instanceList = historyService.createHistoricProcessInstanceQuery()
+                    .processDefinitionKey(PROCESS_DEFINITION_KEY_2)
+                    .orderByProcessInstanceId()
+                    .asc()
+                    .listPage(3, 5);
+
+            List<HistoricProcessInstance> instanceListWithVariables = historyService.createHistoricProcessInstanceQuery()
+                    .processDefinitionKey(PROCESS_DEFINITION_KEY_2)
+                    .includeProcessVariables()
+                    .orderByProcessInstanceId()
+                    .asc()
+                    .listPage(3, 5);
+
+            assertEquals(5, instanceListWithVariables.size());
+            for (int i = 0; i < instanceList.size(); i++) {
+                HistoricProcessInstance processInstance = instanceListWithVariables.get(i);
+                assertEquals(instanceList.get(i).getId(), processInstance.getId());
+                Map<String, Object> variableMap = processInstance.getProcessVariables();
+                assertEquals(1, variableMap.size());
+                if (processInstance.getBusinessKey().startsWith("page")) {
+                    assertEquals(Integer.valueOf(processInstance.getBusinessKey().substring(4)), variableMap.get("anothertest"));
+                } else {
+                    assertEquals(123, variableMap.get("anothertest"));
+                }
+            }
+        }
+    }
+
     public void testOrQuery() {
         if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
             HistoricProcessInstance processInstance = historyService.createHistoricProcessInstanceQuery().includeProcessVariables().or().variableValueEquals("anothertest", 123)
@@ -426,6 +426,42 @@ public class HistoricTaskAndVariablesQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/api/task/TaskQueryTest.testProcessDefinition.bpmn20.xml" })
+    public void testQueryPageWithProcessVariables() {
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, Object> startMap = new HashMap<String, Object>();
+            for (int i = 0; i < 10; i++) {
+                startMap.put("processIndex", i);
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+                Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskService.setVariableLocal(task.getId(), "taskIndex", i);
+            }
+
+            List<HistoricTaskInstance> tasks = historyService.createHistoricTaskInstanceQuery()
+                    .processDefinitionKey("oneTaskProcess")
+                    .orderByTaskId()
+                    .asc()
+                    .listPage(3, 5);
+
+            List<HistoricTaskInstance> tasksWithVariables = historyService.createHistoricTaskInstanceQuery()
+                    .processDefinitionKey("oneTaskProcess")
+                    .includeProcessVariables()
+                    .includeTaskLocalVariables()
+                    .orderByTaskId()
+                    .asc()
+                    .listPage(3, 5);
+
+            assertEquals(5, tasksWithVariables.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                HistoricTaskInstance task = tasksWithVariables.get(i);
+                assertEquals(tasks.get(i).getId(), task.getId());
+                assertEquals(1, task.getProcessVariables().size());
+                assertEquals(1, task.getTaskLocalVariables().size());
+                assertEquals(task.getTaskLocalVariables().get("taskIndex"), task.getProcessVariables().get("processIndex"));
+            }
+        }
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/api/task/TaskQueryTest.testProcessDefinition.bpmn20.xml" })
     public void testWithoutDueDateQuery() throws Exception {
         if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
@@ -133,6 +133,40 @@ public class ProcessInstanceAndVariablesQueryTest extends PluggableFlowableTestC
         assertEquals(0, instanceList.size());
     }
 
+    public void testQueryPageWithProcessVariables() {
+        Map<String, Object> startMap = new HashMap<String, Object>();
+        for (int i = 0; i < 10; i++) {
+            startMap.put("anothertest", i);
+            runtimeService.startProcessInstanceByKey(PROCESS_DEFINITION_KEY_2, "page" + i, startMap);
+        }
+
+        List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery()
+                .processDefinitionKey(PROCESS_DEFINITION_KEY_2)
+                .orderByProcessInstanceId()
+                .asc()
+                .listPage(3, 5);
+
+        List<ProcessInstance> instanceListWithVariables = runtimeService.createProcessInstanceQuery()
+                .processDefinitionKey(PROCESS_DEFINITION_KEY_2)
+                .includeProcessVariables()
+                .orderByProcessInstanceId()
+                .asc()
+                .listPage(3, 5);
+
+        assertEquals(5, instanceListWithVariables.size());
+        for (int i = 0; i < instanceList.size(); i++) {
+            ProcessInstance processInstance = instanceListWithVariables.get(i);
+            assertEquals(instanceList.get(i).getId(), processInstance.getId());
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            if (processInstance.getBusinessKey().startsWith("page")) {
+                assertEquals(Integer.valueOf(processInstance.getBusinessKey().substring(4)), variableMap.get("anothertest"));
+            } else {
+                assertEquals(123, variableMap.get("anothertest"));
+            }
+        }
+    }
+
     public void testOrQuery() {
         ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables()
                 .or().variableValueEquals("undefined", 999).variableValueEquals("anothertest", 123).endOr().singleResult();
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Task;
 import org.flowable.engine.task.TaskQuery;
 import org.flowable.engine.test.Deployment;
@@ -220,6 +221,67 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testQueryPageWithVariables() throws Exception {
+        try {
+            multipleTaskIds = generateMultipleTestTasks();
+
+            List<Task> tasks = taskService.createTaskQuery()
+                    .taskName("testTask")
+                    .orderByTaskId()
+                    .asc()
+                    .listPage(10, 20);
+
+            List<Task> tasksWithVariables = taskService.createTaskQuery()
+                    .taskName("testTask")
+                    .includeTaskLocalVariables()
+                    .orderByTaskId()
+                    .asc()
+                    .listPage(10, 20);
+
+            assertEquals(20, tasksWithVariables.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                Task taskWithVariables = tasksWithVariables.get(i);
+                assertEquals(tasks.get(i).getId(), taskWithVariables.getId());
+                assertEquals(2, taskWithVariables.getTaskLocalVariables().size());
+                assertEquals("test", taskWithVariables.getTaskLocalVariables().get("test"));
+                assertEquals("This is a binary variable", new String((byte[]) taskWithVariables.getTaskLocalVariables().get("testBinary")));
+            }
+        } finally {
+            taskService.deleteTasks(multipleTaskIds, true);
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/runtime/threeParallelTasks.bpmn20.xml" })
+    public void testQueryDoesNotIncludeLocalVariablesOfSiblingTasks() {
+        Map<String, Object> startMap = new HashMap<String, Object>();
+        startMap.put("processVar", "test");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("threeParallelTasks", startMap);
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(3, tasks.size());
+        for (Task task : tasks) {
+            taskService.setVariableLocal(task.getId(), "localVar", task.getName());
+        }
+
+        tasks = taskService.createTaskQuery()
+                .processInstanceId(processInstance.getId())
+                .includeTaskLocalVariables()
+                .includeProcessVariables()
+                .orderByTaskName()
+                .asc()
+                .list();
+        assertEquals(3, tasks.size());
+        for (Task task : tasks) {
+            Map<String, Object> variableMap = task.getTaskLocalVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals(task.getName(), variableMap.get("localVar"));
+
+            variableMap = task.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals("test", variableMap.get("processVar"));
+        }
+    }
+
     @Deployment
     public void testOrQuery() {
         Map<String, Object> startMap = new HashMap<String, Object>();
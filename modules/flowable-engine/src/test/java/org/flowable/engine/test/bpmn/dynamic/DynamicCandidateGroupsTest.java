@@ -18,6 +18,7 @@ import static org.junit.Assert.assertThat;
 import java.util.ArrayList;
 
 import org.flowable.engine.DynamicBpmnConstants;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -52,6 +53,30 @@ public class DynamicCandidateGroupsTest extends PluggableFlowableTestCase implem
         assertThat(salesTaskCount, is(1L));
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/dynamic/dynamic-bpmn-test-process.bpmn20.xml" })
+    public void testChangeCandidateGroupsWithRevisionCheckInterval() {
+        ProcessDefinitionInfoCache definitionInfoCache = processEngineConfiguration.getDeploymentManager().getProcessDefinitionInfoCache();
+        long originalRevisionCheckInterval = definitionInfoCache.getRevisionCheckInterval();
+        definitionInfoCache.setRevisionCheckInterval(60 * 60 * 1000L);
+        try {
+            // Reads (and caches) the process definition info
+            ProcessInstance instance = runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+            assertThat(taskService.createTaskQuery().taskCandidateGroup("HR").count(), is(0L));
+
+            ArrayList<String> candidateGroups = new ArrayList<String>(1);
+            candidateGroups.add("HR");
+            ObjectNode processInfo = dynamicBpmnService.changeUserTaskCandidateGroups(TASK_ONE_SID, candidateGroups);
+            dynamicBpmnService.saveProcessDefinitionInfo(instance.getProcessDefinitionId(), processInfo);
+
+            // The save invalidates the cached entry, so the change is visible without waiting for the interval
+            runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+            assertThat(taskService.createTaskQuery().taskCandidateGroup("HR").count(), is(1L));
+
+        } finally {
+            definitionInfoCache.setRevisionCheckInterval(originalRevisionCheckInterval);
+        }
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/bpmn/dynamic/dynamic-bpmn-test-process.bpmn20.xml" })
     public void testIsShouldBePossibleToResetChangeCandidateGroups() {
         ProcessInstance instance = runtimeService.startProcessInstanceByKey("dynamicServiceTest");
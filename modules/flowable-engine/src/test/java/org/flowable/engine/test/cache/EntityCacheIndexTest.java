@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.Collection;
+
+import org.flowable.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityImpl;
+
+import junit.framework.TestCase;
+
+public class EntityCacheIndexTest extends TestCase {
+
+    public void testIndexedLookup() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        entityCache.put(createExecution("1", null), false);
+        entityCache.put(createExecution("2", "1"), false);
+        entityCache.put(createExecution("3", "1"), false);
+
+        assertIndexedIds(entityCache, "1", "2", "3");
+        assertIndexedIds(entityCache, "2");
+
+        // entities put in the cache after the index was created are indexed too
+        entityCache.put(createExecution("4", "2"), false);
+        assertIndexedIds(entityCache, "2", "4");
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "3");
+        assertIndexedIds(entityCache, "1", "2");
+
+        assertNull(entityCache.findInCacheAsCachedObjects(VariableInstanceEntityImpl.class, CachedEntityIndex.VARIABLE_EXECUTION_ID, "1"));
+    }
+
+    public void testChangedIndexKey() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        entityCache.put(createExecution("1", null), false);
+        entityCache.put(createExecution("2", "1"), false);
+        ExecutionEntityImpl execution = createExecution("3", "1");
+        entityCache.put(execution, false);
+        assertIndexedIds(entityCache, "1", "2", "3");
+
+        execution.setParentId("2");
+        entityCache.updateIndexes(execution);
+        assertIndexedIds(entityCache, "1", "2");
+        assertIndexedIds(entityCache, "2", "3");
+
+        // an entity instance that is not the cached one doesn't change the index
+        ExecutionEntityImpl otherInstance = createExecution("3", "1");
+        entityCache.updateIndexes(otherInstance);
+        assertIndexedIds(entityCache, "2", "3");
+    }
+
+    protected ExecutionEntityImpl createExecution(String id, String parentId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setParentId(parentId);
+        return execution;
+    }
+
+    protected void assertIndexedIds(EntityCacheImpl entityCache, String parentId, String... expectedIds) {
+        Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, CachedEntityIndex.EXECUTION_PARENT_ID, parentId);
+        assertEquals(expectedIds.length, cachedEntities.size());
+        for (String expectedId : expectedIds) {
+            boolean found = false;
+            for (CachedEntity cachedEntity : cachedEntities) {
+                if (expectedId.equals(cachedEntity.getEntity().getId())) {
+                    found = true;
+                }
+            }
+            assertTrue("Expected cached execution " + expectedId + " for parent " + parentId, found);
+        }
+    }
+}
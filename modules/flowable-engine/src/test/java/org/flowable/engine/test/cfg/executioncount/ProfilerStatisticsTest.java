@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg.executioncount;
+
+import org.flowable.engine.impl.cfg.CommandExecutorImpl;
+import org.flowable.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.test.profiler.ExecutionStatistics;
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.engine.test.profiler.LatencyHistogram;
+import org.flowable.engine.test.profiler.ProfilerStatistics;
+import org.flowable.engine.test.profiler.ProfilingDbSqlSessionFactory;
+import org.flowable.engine.test.profiler.TotalExecutionTimeCommandInterceptor;
+
+public class ProfilerStatisticsTest extends PluggableFlowableTestCase {
+
+    protected CommandInterceptor oldFirstCommandInterceptor;
+    protected DbSqlSessionFactory oldDbSqlSessionFactory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        CommandExecutorImpl commandExecutor = ((CommandExecutorImpl) processEngineConfiguration.getCommandExecutor());
+        this.oldFirstCommandInterceptor = commandExecutor.getFirst();
+
+        TotalExecutionTimeCommandInterceptor timeCommandInterceptor = new TotalExecutionTimeCommandInterceptor();
+        timeCommandInterceptor.setNext(oldFirstCommandInterceptor);
+        commandExecutor.setFirst(timeCommandInterceptor);
+
+        this.oldDbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        DbSqlSessionFactory newDbSqlSessionFactory = new ProfilingDbSqlSessionFactory();
+        newDbSqlSessionFactory.setDatabaseType(oldDbSqlSessionFactory.getDatabaseType());
+        newDbSqlSessionFactory.setDatabaseTablePrefix(oldDbSqlSessionFactory.getDatabaseTablePrefix());
+        newDbSqlSessionFactory.setTablePrefixIsSchema(oldDbSqlSessionFactory.isTablePrefixIsSchema());
+        newDbSqlSessionFactory.setDatabaseCatalog(oldDbSqlSessionFactory.getDatabaseCatalog());
+        newDbSqlSessionFactory.setDatabaseSchema(oldDbSqlSessionFactory.getDatabaseSchema());
+        newDbSqlSessionFactory.setSqlSessionFactory(oldDbSqlSessionFactory.getSqlSessionFactory());
+        newDbSqlSessionFactory.setIdGenerator(oldDbSqlSessionFactory.getIdGenerator());
+        newDbSqlSessionFactory.setDbHistoryUsed(oldDbSqlSessionFactory.isDbHistoryUsed());
+        processEngineConfiguration.addSessionFactory(newDbSqlSessionFactory);
+
+        FlowableProfiler.getInstance().getStatistics().reset();
+        FlowableProfiler.getInstance().setStatisticsEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FlowableProfiler.getInstance().setStatisticsEnabled(false);
+        FlowableProfiler.getInstance().getStatistics().reset();
+
+        ((CommandExecutorImpl) processEngineConfiguration.getCommandExecutor()).setFirst(oldFirstCommandInterceptor);
+        processEngineConfiguration.addSessionFactory(oldDbSqlSessionFactory);
+
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        super.tearDown();
+    }
+
+    public void testCommandAndStatementStatistics() {
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/cfg/executioncount/process01.bpmn20.xml").deploy();
+        runtimeService.startProcessInstanceByKey("process01");
+        runtimeService.startProcessInstanceByKey("process01");
+
+        ProfilerStatistics statistics = FlowableProfiler.getInstance().getStatistics();
+        ExecutionStatistics startStatistics = statistics.getCommandStatistics().get("org.flowable.engine.impl.cmd.StartProcessInstanceCmd");
+        assertNotNull(startStatistics);
+        assertEquals(2, startStatistics.getLatency().getCount());
+        assertTrue(startStatistics.getDatabaseRoundTrips() > 0);
+        assertTrue(startStatistics.getRowsFlushed() > 0);
+        assertTrue(startStatistics.getLatency().getValueAtPercentile(99.0) <= startStatistics.getLatency().getMax());
+
+        ExecutionStatistics selectStatistics = statistics.getStatementStatistics().get("selectLatestProcessDefinitionByKey");
+        assertNotNull(selectStatistics);
+        assertEquals(selectStatistics.getLatency().getCount(), selectStatistics.getDatabaseRoundTrips());
+
+        ExecutionStatistics insertStatistics = statistics.getStatementStatistics().get("insertHistoricProcessInstance");
+        assertNotNull(insertStatistics);
+        assertEquals(2, insertStatistics.getRowsFlushed());
+    }
+
+    public void testStatisticsDisabled() {
+        FlowableProfiler.getInstance().setStatisticsEnabled(false);
+        runtimeService.createProcessInstanceQuery().count();
+
+        assertTrue(FlowableProfiler.getInstance().getStatistics().getCommandStatistics().isEmpty());
+        assertTrue(FlowableProfiler.getInstance().getStatistics().getStatementStatistics().isEmpty());
+    }
+
+    public void testLatencyHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.recordValue(i);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+
+        // Values above 16 are kept with a precision of 1/8th of their power of 2
+        assertTrue(Math.abs(histogram.getValueAtPercentile(50.0) - 500) <= 500 / 8);
+        assertTrue(Math.abs(histogram.getValueAtPercentile(99.0) - 990) <= 990 / 8);
+        assertEquals(1, histogram.getValueAtPercentile(0.0));
+        assertEquals(1000, histogram.getValueAtPercentile(100.0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50.0));
+    }
+
+}
@@ -13,9 +13,16 @@
 
 package org.flowable.engine.test.el;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 
+import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.identity.Authentication;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -75,4 +82,74 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
             Authentication.setAuthenticatedUserId(null);
         }
     }
+
+    public void testParsedExpressionsAreCached() {
+        ExpressionManager expressionManager = processEngineConfiguration.getExpressionManager();
+
+        String expressionText = "${cachedExpressionTestVar > " + System.nanoTime() + "}";
+        Expression expression = expressionManager.createExpression(expressionText);
+        assertSame(expression, expressionManager.createExpression(expressionText));
+
+        // Other text, as used by a dynamic bpmn override, is parsed separately
+        Expression otherExpression = expressionManager.createExpression(expressionText + " ");
+        assertNotSame(expression, otherExpression);
+    }
+
+    public void testExpressionCacheIsBounded() {
+        ExpressionManager expressionManager = new ExpressionManager(processEngineConfiguration);
+        expressionManager.setExpressionCacheSize(10);
+        Expression lastExpression = null;
+        for (int i = 0; i < 100; i++) {
+            lastExpression = expressionManager.createExpression("${boundedCacheTestVar > " + i + "}");
+        }
+        assertTrue(expressionManager.getCachedExpressionCount() <= 10);
+
+        // The most recently created expression is kept
+        assertSame(lastExpression, expressionManager.createExpression("${boundedCacheTestVar > 99}"));
+
+        expressionManager.setExpressionCacheSize(0);
+        Expression expression = expressionManager.createExpression("${boundedCacheTestVar > 0}");
+        assertNotSame(expression, expressionManager.createExpression("${boundedCacheTestVar > 0}"));
+        assertEquals(0, expressionManager.getCachedExpressionCount());
+    }
+
+    public void testExpressionCacheAboveBoundWithConcurrentThreads() throws Exception {
+        final ExpressionManager expressionManager = new ExpressionManager(processEngineConfiguration);
+        expressionManager.setExpressionCacheSize(50);
+
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            final Random random = new Random(i);
+            Thread thread = new Thread() {
+
+                public void run() {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < 5000; j++) {
+                            String expressionText = "${concurrentCacheTestVar > " + random.nextInt(500) + "}";
+                            Expression expression = expressionManager.createExpression(expressionText);
+                            if (!expressionText.equals(expression.getExpressionText())) {
+                                throw new AssertionError("Expected " + expressionText + " but was " + expression.getExpressionText());
+                            }
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        expressionManager.createExpression("${concurrentCacheTestVar > 500}");
+        assertTrue(expressionManager.getCachedExpressionCount() <= 50);
+    }
 }
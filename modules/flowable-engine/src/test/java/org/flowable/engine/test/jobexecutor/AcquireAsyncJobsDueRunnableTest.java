@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.runtime.Job;
+
+import junit.framework.TestCase;
+
+public class AcquireAsyncJobsDueRunnableTest extends TestCase {
+
+    public void testJobsNotOfferedAreUnacquiredAtOnce() {
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+        for (int i = 0; i < 5; i++) {
+            JobEntity job = new JobEntityImpl();
+            job.setId("job" + i);
+            acquiredJobs.addJob(job);
+        }
+
+        // The queue is full after 2 jobs, the executor unacquires the rejected job itself
+        TestAsyncExecutor asyncExecutor = new TestAsyncExecutor(2);
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(asyncExecutor);
+
+        List<JobEntity> rejectedJobs = runnable.offerJobs(acquiredJobs);
+        assertEquals(3, asyncExecutor.offeredJobs.size());
+        assertEquals(3, rejectedJobs.size());
+
+        // The remaining jobs aren't offered anymore, but unacquired in one go
+        assertEquals(1, runnable.unacquiredJobs.size());
+        List<JobEntity> unacquiredJobs = runnable.unacquiredJobs.get(0);
+        assertEquals(2, unacquiredJobs.size());
+        for (JobEntity job : unacquiredJobs) {
+            assertFalse(asyncExecutor.offeredJobs.contains(job));
+            assertTrue(rejectedJobs.contains(job));
+        }
+    }
+
+    public void testAllJobsOffered() {
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+        for (int i = 0; i < 5; i++) {
+            JobEntity job = new JobEntityImpl();
+            job.setId("job" + i);
+            acquiredJobs.addJob(job);
+        }
+
+        TestAsyncExecutor asyncExecutor = new TestAsyncExecutor(5);
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(asyncExecutor);
+
+        assertTrue(runnable.offerJobs(acquiredJobs).isEmpty());
+        assertEquals(5, asyncExecutor.offeredJobs.size());
+        assertTrue(runnable.unacquiredJobs.isEmpty());
+    }
+
+    public void testJobAvailableFromAcquisitionThreadIsIgnored() throws Exception {
+        final TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(new TestAsyncExecutor(0));
+        runnable.setAcquisitionThread(Thread.currentThread());
+
+        // E.g. the notification for the jobs unacquired by the acquisition thread itself
+        runnable.jobAvailable();
+        assertFalse(runnable.isJobAvailable());
+
+        Thread otherThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                runnable.jobAvailable();
+            }
+        });
+        otherThread.start();
+        otherThread.join(5000L);
+        assertTrue(runnable.isJobAvailable());
+    }
+
+    protected static class TestAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected int queueCapacity;
+        protected List<Job> offeredJobs = new ArrayList<Job>();
+
+        public TestAsyncExecutor(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        @Override
+        public boolean executeAsyncJob(Job job) {
+            offeredJobs.add(job);
+            return offeredJobs.size() <= queueCapacity;
+        }
+    }
+
+    protected static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        protected List<List<JobEntity>> unacquiredJobs = new ArrayList<List<JobEntity>>();
+
+        public TestAcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
+            super(asyncExecutor);
+        }
+
+        @Override
+        public List<JobEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+            return super.offerJobs(acquiredJobs);
+        }
+
+        @Override
+        protected void unacquireJobs(List<JobEntity> jobs) {
+            unacquiredJobs.add(new ArrayList<JobEntity>(jobs));
+        }
+
+        public void setAcquisitionThread(Thread acquisitionThread) {
+            this.acquisitionThread = acquisitionThread;
+        }
+
+        public boolean isJobAvailable() {
+            synchronized (MONITOR) {
+                return isJobAvailable;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionController;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+
+import junit.framework.TestCase;
+
+public class AsyncJobAcquisitionControllerTest extends TestCase {
+
+    protected DefaultAsyncJobExecutor asyncExecutor;
+    protected ThreadPoolExecutor threadPoolExecutor;
+
+    @Override
+    protected void setUp() throws Exception {
+        threadPoolExecutor = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+
+        asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(100);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(10000);
+        asyncExecutor.setExecutorService(threadPoolExecutor);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        threadPoolExecutor.shutdownNow();
+    }
+
+    public void testAcquireSizeNotAdaptive() {
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+        TestAcquisitionController controller = new TestAcquisitionController(asyncExecutor, false);
+
+        assertEquals(10, controller.determineAcquireSize(100));
+        assertEquals(3, controller.determineAcquireSize(3));
+        assertEquals(3, controller.getLastAcquireSize());
+        assertEquals(0.0, controller.getJobExecutionRate(), 0.0);
+    }
+
+    public void testAcquireSizeAdaptiveWithoutThreadPoolExecutor() {
+        asyncExecutor.setExecutorService(null);
+        TestAcquisitionController controller = new TestAcquisitionController(asyncExecutor, true);
+
+        assertEquals(100, controller.determineAcquireSize(200));
+        assertEquals(20, controller.determineAcquireSize(20));
+    }
+
+    public void testAcquireSizeAdaptive() {
+        TestAcquisitionController controller = new TestAcquisitionController(asyncExecutor, true);
+
+        // No execution rate measured yet: the free threads
+        assertEquals(4, controller.determineAcquireSize(200));
+
+        // The free threads plus the jobs expected to be executed during the acquire wait time (2 jobs per second during 10 seconds)
+        controller.fixJobExecutionRate(2.0);
+        assertEquals(24, controller.determineAcquireSize(200));
+        assertEquals(24, controller.getLastAcquireSize());
+
+        // Never more than the remaining capacity or the max jobs per acquisition
+        assertEquals(5, controller.determineAcquireSize(5));
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+        assertEquals(10, controller.determineAcquireSize(200));
+    }
+
+    public void testAcquireSizeAdaptiveWithBusyThreads() throws Exception {
+        final CountDownLatch started = new CountDownLatch(4);
+        final CountDownLatch finish = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            threadPoolExecutor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try {
+            // All threads are busy, but at least one job is acquired
+            TestAcquisitionController controller = new TestAcquisitionController(asyncExecutor, true);
+            assertEquals(1, controller.determineAcquireSize(200));
+        } finally {
+            finish.countDown();
+        }
+    }
+
+    public void testUpdateJobExecutionRate() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            threadPoolExecutor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                }
+            });
+        }
+        threadPoolExecutor.shutdown();
+        assertTrue(threadPoolExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(10, threadPoolExecutor.getCompletedTaskCount());
+
+        TestAcquisitionController controller = new TestAcquisitionController(asyncExecutor, true);
+
+        // The first measurement only records the completed jobs
+        controller.updateJobExecutionRate(threadPoolExecutor);
+        assertEquals(0.0, controller.getJobExecutionRate(), 0.0);
+
+        // 10 jobs completed in the last second, weighted with the previous rate of 0
+        controller.setLastMeasurement(0L, System.currentTimeMillis() - 1000L);
+        controller.updateJobExecutionRate(threadPoolExecutor);
+        assertEquals(3.0, controller.getJobExecutionRate(), 0.1);
+
+        // No jobs completed in the last second, the rate decays
+        controller.setJobExecutionRate(10.0);
+        controller.setLastMeasurement(10L, System.currentTimeMillis() - 1000L);
+        controller.updateJobExecutionRate(threadPoolExecutor);
+        assertEquals(7.0, controller.getJobExecutionRate(), 0.0001);
+    }
+
+    public void testJobsAcquired() {
+        AsyncJobAcquisitionController controller = new AsyncJobAcquisitionController(asyncExecutor, false);
+        controller.jobsAcquired(10, 0);
+        controller.jobsAcquired(5, 2);
+
+        assertEquals(2, controller.getAcquisitionCount());
+        assertEquals(15, controller.getAcquiredJobCount());
+        assertEquals(2, controller.getRejectedJobCount());
+    }
+
+    protected static class TestAcquisitionController extends AsyncJobAcquisitionController {
+
+        protected boolean isJobExecutionRateFixed;
+
+        public TestAcquisitionController(DefaultAsyncJobExecutor asyncExecutor, boolean isAdaptive) {
+            super(asyncExecutor, isAdaptive);
+        }
+
+        @Override
+        public void updateJobExecutionRate(ThreadPoolExecutor threadPoolExecutor) {
+            if (!isJobExecutionRateFixed) {
+                super.updateJobExecutionRate(threadPoolExecutor);
+            }
+        }
+
+        public void fixJobExecutionRate(double jobExecutionRate) {
+            this.jobExecutionRate = jobExecutionRate;
+            this.isJobExecutionRateFixed = true;
+        }
+
+        public void setJobExecutionRate(double jobExecutionRate) {
+            this.jobExecutionRate = jobExecutionRate;
+        }
+
+        public void setLastMeasurement(long completedJobCount, long measurementTime) {
+            this.lastCompletedJobCount = completedJobCount;
+            this.lastMeasurementTime = measurementTime;
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.asyncexecutor.InMemoryJobAvailabilityNotifier;
+import org.flowable.engine.impl.asyncexecutor.JobAvailabilityListener;
+import org.flowable.engine.impl.asyncexecutor.SocketJobAvailabilityNotifier;
+
+import junit.framework.TestCase;
+
+public class JobAvailabilityNotifierTest extends TestCase {
+
+    public void testInMemoryNotifier() {
+        InMemoryJobAvailabilityNotifier notifier = new InMemoryJobAvailabilityNotifier();
+        CountingListener listener = new CountingListener(2);
+        notifier.addJobAvailabilityListener(listener);
+
+        notifier.notifyJobAvailable(null);
+        notifier.notifyJobAvailable(null);
+        assertEquals(0, listener.latch.getCount());
+
+        notifier.removeJobAvailabilityListener(listener);
+        assertTrue(notifier.getListeners().isEmpty());
+    }
+
+    public void testSocketNotifier() throws Exception {
+        int firstPort = findFreePort();
+        int secondPort = findFreePort();
+        SocketJobAvailabilityNotifier firstNotifier = new SocketJobAvailabilityNotifier(firstPort, Collections.singletonList("localhost:" + secondPort));
+        SocketJobAvailabilityNotifier secondNotifier = new SocketJobAvailabilityNotifier(secondPort, Collections.singletonList("localhost:" + firstPort));
+
+        CountingListener firstListener = new CountingListener(1);
+        CountingListener secondListener = new CountingListener(1);
+        firstNotifier.addJobAvailabilityListener(firstListener);
+        secondNotifier.addJobAvailabilityListener(secondListener);
+
+        try {
+            // The local listener is notified directly, the listener of the other notifier over the socket
+            firstNotifier.notifyJobAvailable(null);
+            assertTrue(firstListener.latch.await(5, TimeUnit.SECONDS));
+            assertTrue(secondListener.latch.await(5, TimeUnit.SECONDS));
+
+        } finally {
+            firstNotifier.removeJobAvailabilityListener(firstListener);
+            secondNotifier.removeJobAvailabilityListener(secondListener);
+        }
+
+        assertFalse(firstNotifier.isActive());
+        assertFalse(secondNotifier.isActive());
+    }
+
+    public void testNotifyDoesNotStartSocketNotifier() throws Exception {
+        // Even when the port can't be bound, notifying without a registered listener doesn't fail
+        ServerSocket occupiedSocket = new ServerSocket(0);
+        try {
+            SocketJobAvailabilityNotifier notifier = new SocketJobAvailabilityNotifier(occupiedSocket.getLocalPort(), Collections.singletonList("localhost:" + findFreePort()));
+            notifier.notifyJobAvailable(null);
+            assertFalse(notifier.isActive());
+
+            try {
+                notifier.addJobAvailabilityListener(new CountingListener(1));
+                fail("Expecting exception");
+            } catch (FlowableException e) {
+                // Expected exception: the port is only bound when the async executor registers its listener
+            }
+            assertFalse(notifier.isActive());
+
+        } finally {
+            occupiedSocket.close();
+        }
+    }
+
+    public void testRestartSocketNotifier() throws Exception {
+        SocketJobAvailabilityNotifier notifier = new SocketJobAvailabilityNotifier(findFreePort(), Collections.singletonList("localhost:" + findFreePort()));
+        CountingListener listener = new CountingListener(1);
+        for (int i = 0; i < 5; i++) {
+            notifier.addJobAvailabilityListener(listener);
+            assertTrue(notifier.isActive());
+            notifier.removeJobAvailabilityListener(listener);
+            assertFalse(notifier.isActive());
+        }
+
+        // Stopping waits for the threads, so no threads of earlier starts are left running next to the new ones
+        assertEquals(0, countThreads("flowable-job-availability-sender"));
+        assertEquals(0, countThreads("flowable-job-availability-receiver"));
+
+        notifier.addJobAvailabilityListener(listener);
+        try {
+            assertEquals(1, countThreads("flowable-job-availability-sender"));
+            assertEquals(1, countThreads("flowable-job-availability-receiver"));
+        } finally {
+            notifier.removeJobAvailabilityListener(listener);
+        }
+    }
+
+    public void testSlowPeerDoesNotBlockNotifications() throws Exception {
+        int firstPort = findFreePort();
+        int secondPort = findFreePort();
+        SocketJobAvailabilityNotifier firstNotifier = new SocketJobAvailabilityNotifier(firstPort, Collections.singletonList("localhost:" + secondPort));
+        SocketJobAvailabilityNotifier secondNotifier = new SocketJobAvailabilityNotifier(secondPort, Collections.<String>emptyList());
+        secondNotifier.setConnectTimeoutInMillis(10000);
+
+        CountingListener firstListener = new CountingListener(1);
+        CountingListener secondListener = new CountingListener(1);
+        firstNotifier.addJobAvailabilityListener(firstListener);
+        secondNotifier.addJobAvailabilityListener(secondListener);
+
+        // A peer that connects but never sends anything only holds up the receiver until the read timeout
+        Socket slowPeer = new Socket(InetAddress.getLoopbackAddress(), secondPort);
+        try {
+            firstNotifier.notifyJobAvailable(null);
+            assertTrue(secondListener.latch.await(5, TimeUnit.SECONDS));
+
+        } finally {
+            slowPeer.close();
+            firstNotifier.removeJobAvailabilityListener(firstListener);
+            secondNotifier.removeJobAvailabilityListener(secondListener);
+        }
+    }
+
+    protected int countThreads(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName()) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected int findFreePort() throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0);
+        try {
+            return serverSocket.getLocalPort();
+        } finally {
+            serverSocket.close();
+        }
+    }
+
+    protected static class CountingListener implements JobAvailabilityListener {
+
+        protected CountDownLatch latch;
+
+        public CountingListener(int expectedNotifications) {
+            this.latch = new CountDownLatch(expectedNotifications);
+        }
+
+        @Override
+        public void jobAvailable() {
+            latch.countDown();
+        }
+    }
+
+}
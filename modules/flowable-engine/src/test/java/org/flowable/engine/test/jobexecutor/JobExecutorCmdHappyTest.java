@@ -14,8 +14,15 @@ package org.flowable.engine.test.jobexecutor;
 
 import java.util.Date;
 
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.flowable.engine.common.AbstractEngineConfiguration;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
 import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
 import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.engine.impl.cmd.ExecuteAsyncJobCmd;
 import org.flowable.engine.impl.interceptor.Command;
@@ -54,6 +61,66 @@ public class JobExecutorCmdHappyTest extends JobExecutorTestCase {
         assertEquals(1, tweetHandler.getMessages().size());
     }
 
+    public void testAcquireJobsSkipLockedFallbackOnH2() {
+        // H2 has no 'skip locked' support, so the regular acquisition is used
+        processEngineConfiguration.setAsyncExecutorSkipLockedAcquisitionEnabled(true);
+        try {
+            AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+            String jobId = commandExecutor.execute(new Command<String>() {
+
+                public String execute(CommandContext commandContext) {
+                    JobEntity message = createTweetMessage("i'm coding a test");
+                    commandContext.getJobManager().scheduleAsyncJob(message);
+                    return message.getId();
+                }
+            });
+
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(1, acquiredJobs.size());
+            JobEntity job = acquiredJobs.getJobs().iterator().next();
+            assertEquals(jobId, job.getId());
+            assertEquals(asyncExecutor.getLockOwner(), job.getLockOwner());
+            assertNotNull(job.getLockExpirationTime());
+
+            // The job is locked now, so it isn't acquired again
+            acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(0, acquiredJobs.size());
+
+            commandExecutor.execute(new ExecuteAsyncJobCmd(jobId));
+            assertEquals("i'm coding a test", tweetHandler.getMessages().get(0));
+            assertEquals(1, tweetHandler.getMessages().size());
+
+        } finally {
+            processEngineConfiguration.setAsyncExecutorSkipLockedAcquisitionEnabled(false);
+        }
+    }
+
+    public void testSkipLockedStatementMapping() {
+        for (String databaseType : AcquireJobsCmd.SKIP_LOCKED_DATABASE_TYPES) {
+            Configuration configuration = createMybatisConfiguration(databaseType);
+            MappedStatement statement = configuration.getMappedStatement("selectJobsToExecuteSkipLocked");
+            assertEquals(databaseType, statement.getDatabaseId());
+            String sql = statement.getBoundSql(new ListQueryParameterObject(null, 0, 10)).getSql();
+            assertTrue(databaseType + ": " + sql, sql.contains("for update skip locked"));
+            assertTrue(configuration.hasStatement("updateJobLockOwner"));
+        }
+
+        Configuration configuration = createMybatisConfiguration(AbstractEngineConfiguration.DATABASE_TYPE_H2);
+        assertFalse(configuration.hasStatement("selectJobsToExecuteSkipLocked"));
+        assertTrue(configuration.hasStatement("selectJobsToExecute"));
+    }
+
+    protected Configuration createMybatisConfiguration(String databaseType) {
+        StandaloneInMemProcessEngineConfiguration engineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        engineConfiguration.setDatabaseType(databaseType);
+        engineConfiguration.setDataSource(processEngineConfiguration.getDataSource());
+        engineConfiguration.initTransactionFactory();
+        engineConfiguration.initSqlSessionFactory();
+        return engineConfiguration.getSqlSessionFactory().getConfiguration();
+    }
+
     static final long SOME_TIME = 928374923546L;
     static final long SECOND = 1000;
 
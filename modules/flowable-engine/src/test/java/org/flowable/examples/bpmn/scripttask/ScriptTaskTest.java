@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -43,6 +44,37 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
     }
 
+    @Deployment(resources = "org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testSetScriptResultToProcessVariable.bpmn20.xml")
+    public void testCompiledScriptIsReused() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.clearCompiledScriptCache();
+
+        for (String echo : new String[] { "hello", "world" }) {
+            Map<String, Object> variables = new HashMap<String, Object>();
+            variables.put("echo", echo);
+            variables.put("existingProcessVariableName", "one");
+            ProcessInstance pi = runtimeService.startProcessInstanceByKey("setScriptResultToProcessVariable", variables);
+
+            assertEquals(echo, runtimeService.getVariable(pi.getId(), "existingProcessVariableName"));
+            assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
+        }
+        assertEquals(2, scriptingEngines.getCachedCompiledScriptCount());
+
+        scriptingEngines.clearCompiledScriptCache();
+        scriptingEngines.disableCompiledScriptCache("juel");
+        try {
+            Map<String, Object> variables = new HashMap<String, Object>();
+            variables.put("echo", "hello");
+            variables.put("existingProcessVariableName", "one");
+            ProcessInstance pi = runtimeService.startProcessInstanceByKey("setScriptResultToProcessVariable", variables);
+
+            assertEquals("hello", runtimeService.getVariable(pi.getId(), "existingProcessVariableName"));
+            assertEquals(0, scriptingEngines.getCachedCompiledScriptCount());
+        } finally {
+            scriptingEngines.getCompiledScriptCacheDisabledLanguages().remove("juel");
+        }
+    }
+
     @Deployment
     public void testFailingScript() {
         Exception expectedException = null;
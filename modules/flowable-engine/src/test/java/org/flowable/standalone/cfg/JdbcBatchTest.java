@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.cfg;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class JdbcBatchTest extends ResourceFlowableTestCase {
+
+    public JdbcBatchTest() {
+        super("org/flowable/standalone/cfg/jdbc-batch-flowable.cfg.xml");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelSubProcess.bpmn20.xml" })
+    public void testBatchedUpdatesAndDeletes() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelSubprocess");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(4, tasks.size());
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        assertProcessEnded(processInstance.getId());
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testOptimisticLockingWithBatchedUpdates() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        Task task1 = taskService.createTaskQuery().singleResult();
+        Task task2 = taskService.createTaskQuery().singleResult();
+
+        task1.setDescription("test description one");
+        taskService.saveTask(task1);
+
+        try {
+            task2.setDescription("test description two");
+            taskService.saveTask(task2);
+
+            fail("Expecting exception");
+        } catch (FlowableOptimisticLockingException e) {
+            // Expected exception
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testOptimisticLockingWithBatchedUpdatesOfSeveralEntities() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        assertEquals(2, tasks.size());
+
+        try {
+            updateTasksWithConcurrentUpdate(tasks);
+            fail("Expecting exception");
+        } catch (FlowableOptimisticLockingException e) {
+            assertThrownByBatch(e);
+        }
+
+        assertEquals(Boolean.TRUE, processEngineConfiguration.getDbSqlSessionFactory().getJdbcBatchUpdateCountReported());
+        assertNull(taskService.createTaskQuery().taskId(tasks.get(0).getId()).singleResult().getDescription());
+        assertEquals("concurrent", taskService.createTaskQuery().taskId(tasks.get(1).getId()).singleResult().getDescription());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testOptimisticLockingWhenUpdateCountsAreNotReported() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        assertEquals(2, tasks.size());
+
+        // As for drivers returning Statement.SUCCESS_NO_INFO, entities with a revision are then updated one statement at a time
+        processEngineConfiguration.getDbSqlSessionFactory().setJdbcBatchUpdateCountReported(false);
+        try {
+            updateTasksWithConcurrentUpdate(tasks);
+            fail("Expecting exception");
+        } catch (FlowableOptimisticLockingException e) {
+            assertNotThrownByBatch(e);
+        } finally {
+            processEngineConfiguration.getDbSqlSessionFactory().setJdbcBatchUpdateCountReported(null);
+        }
+
+        assertNull(taskService.createTaskQuery().taskId(tasks.get(0).getId()).singleResult().getDescription());
+        assertEquals("concurrent", taskService.createTaskQuery().taskId(tasks.get(1).getId()).singleResult().getDescription());
+    }
+
+    /**
+     * Updates the description of all tasks in one transaction, while the last task is updated concurrently in another transaction.
+     */
+    protected void updateTasksWithConcurrentUpdate(final List<Task> tasks) {
+        final CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(new Command<Void>() {
+
+            public Void execute(CommandContext commandContext) {
+                for (Task task : tasks) {
+                    commandContext.getTaskEntityManager().findById(task.getId()).setDescription("batched");
+                }
+
+                // The last task is updated concurrently, so its update doesn't match the revision
+                commandExecutor.execute(new CommandConfig().transactionRequiresNew(), new Command<Void>() {
+
+                    public Void execute(CommandContext commandContext) {
+                        commandContext.getTaskEntityManager().findById(tasks.get(tasks.size() - 1).getId()).setDescription("concurrent");
+                        return null;
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testOptimisticLockingWithBatchedDeletes() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("var1", "value1");
+        variables.put("var2", "value2");
+        final String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+
+        final CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                public Void execute(CommandContext commandContext) {
+                    DbSqlSession dbSqlSession = commandContext.getDbSqlSession();
+                    for (VariableInstanceEntity variable : commandContext.getVariableInstanceEntityManager().findVariableInstancesByExecutionId(processInstanceId)) {
+                        dbSqlSession.delete(variable);
+                    }
+
+                    // var2 is updated concurrently, so its batched delete doesn't match the revision
+                    commandExecutor.execute(new CommandConfig().transactionRequiresNew(), new Command<Void>() {
+
+                        public Void execute(CommandContext commandContext) {
+                            commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(processInstanceId, "var2").setTextValue("concurrent");
+                            return null;
+                        }
+                    });
+                    return null;
+                }
+            });
+
+            fail("Expecting exception");
+        } catch (FlowableOptimisticLockingException e) {
+            assertThrownByBatch(e);
+        }
+
+        assertEquals("value1", runtimeService.getVariable(processInstanceId, "var1"));
+        assertEquals("concurrent", runtimeService.getVariable(processInstanceId, "var2"));
+    }
+
+    protected void assertThrownByBatch(FlowableOptimisticLockingException e) {
+        assertTrue("Expecting the exception to be thrown by the batch result check", isThrownByBatch(e));
+    }
+
+    protected void assertNotThrownByBatch(FlowableOptimisticLockingException e) {
+        assertFalse("Expecting the exception to be thrown by a single statement", isThrownByBatch(e));
+    }
+
+    protected boolean isThrownByBatch(FlowableOptimisticLockingException e) {
+        for (StackTraceElement element : e.getStackTrace()) {
+            if (DbSqlSession.class.getName().equals(element.getClassName()) && "executeBatch".equals(element.getMethodName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+
+import junit.framework.TestCase;
+
+public class ConcurrentDeploymentCacheTest extends TestCase {
+
+    public void testUnboundedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals("value5", cache.get("id5"));
+        assertNull(cache.get("unknown"));
+
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.remove("id5");
+        assertFalse(cache.contains("id5"));
+        assertEquals(99, cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    public void testEvictLeastRecentlyAccessedWhenWeightExceeded() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(10, new CacheWeigher<String>() {
+
+            public long weigh(String id, String object) {
+                return object.length();
+            }
+
+        });
+
+        cache.add("a", "aaaa");
+        Thread.sleep(5);
+        cache.add("b", "bbbb");
+        Thread.sleep(5);
+        assertEquals("aaaa", cache.get("a")); // b is now the least recently used
+        Thread.sleep(5);
+
+        cache.add("c", "cccc");
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertEquals(8, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+
+        // Replacing an entry takes the new weight into account
+        cache.add("c", "cc");
+        assertEquals(6, cache.getWeight());
+
+        // An object heavier than the maximum is kept, all others are evicted
+        cache.add("d", "dddddddddddd");
+        assertEquals(1, cache.size());
+        assertTrue(cache.contains("d"));
+        assertEquals(3, cache.getEvictionCount());
+    }
+
+    public void testEvictDownToTargetWeight() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(100, null);
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        // Exceeding the maximum evicts 10% below it, so the next adds don't need to evict
+        cache.add("id100", "value100");
+        assertEquals(90, cache.size());
+        assertEquals(11, cache.getEvictionCount());
+        assertTrue(cache.contains("id100"));
+
+        for (int i = 101; i < 111; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(11, cache.getEvictionCount());
+    }
+
+    public void testConcurrentAccessWhenWeightExceeded() throws Exception {
+        final ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(100, null);
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            final Random random = new Random(i);
+            Thread thread = new Thread() {
+
+                public void run() {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < 20000; j++) {
+                            String id = "id" + random.nextInt(1000);
+                            if (cache.get(id) == null) {
+                                cache.add(id, "value");
+                            }
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(cache.size(), cache.getWeight());
+        assertTrue(cache.getEvictionCount() > 0);
+
+        // An add evicts down to the bound again, also when a concurrent eviction left the cache above it
+        cache.add("last", "value");
+        assertTrue(cache.size() <= 100);
+    }
+
+}
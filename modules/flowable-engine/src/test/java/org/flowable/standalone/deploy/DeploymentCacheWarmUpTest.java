@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class DeploymentCacheWarmUpTest extends PluggableFlowableTestCase {
+
+    public void testWarmUpProcessDefinitionCache() {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 3; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+        }
+        // Second version of the first process
+        repositoryService.createDeployment().addString("Process 1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+
+        try {
+            ProcessDefinition suspendedProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult();
+            repositoryService.suspendProcessDefinitionById(suspendedProcessDefinition.getId());
+
+            DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+            processDefinitionCache.clear();
+
+            processEngineConfiguration.getDeploymentManager().warmUpProcessDefinitionCache(2);
+
+            for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+                if (processDefinition.getKey().equals("myProcess1") && processDefinition.getVersion() == 1) {
+                    assertFalse(processDefinitionCache.contains(processDefinition.getId()));
+
+                } else {
+                    ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinition.getId());
+                    assertNotNull(cacheEntry);
+                    assertEquals(processDefinition.getVersion(), cacheEntry.getProcessDefinition().getVersion());
+                    assertEquals(processDefinition.isSuspended(), cacheEntry.getProcessDefinition().isSuspended());
+                    assertNotNull(cacheEntry.getProcess());
+                }
+            }
+
+            // Nothing left to resolve
+            processEngineConfiguration.getDeploymentManager().warmUpProcessDefinitionCache(2);
+            assertEquals("myProcess2", processDefinitionCache.get(suspendedProcessDefinition.getId()).getProcessDefinition().getKey());
+            assertTrue(processDefinitionCache.get(suspendedProcessDefinition.getId()).getProcessDefinition().isSuspended());
+
+        } finally {
+            for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.NonTransactionalEventListener;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
+import org.flowable.engine.delegate.event.impl.FlowableEventImpl;
+import org.flowable.engine.delegate.event.impl.FlowableEventSupport;
+
+import junit.framework.TestCase;
+
+public class FlowableEventSupportTest extends TestCase {
+
+    public void testDispatchByType() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        assertFalse(dispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+
+        RecordingListener typedListener = new RecordingListener();
+        dispatcher.addEventListener(typedListener, FlowableEngineEventType.TASK_CREATED);
+        assertTrue(dispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+        assertFalse(dispatcher.hasListeners(FlowableEngineEventType.TASK_COMPLETED));
+
+        RecordingListener globalListener = new RecordingListener();
+        dispatcher.addEventListener(globalListener);
+        assertTrue(dispatcher.hasListeners(FlowableEngineEventType.TASK_COMPLETED));
+
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_COMPLETED));
+        assertEquals(1, typedListener.events.size());
+        assertEquals(2, globalListener.events.size());
+
+        dispatcher.removeEventListener(globalListener);
+        dispatcher.removeEventListener(typedListener);
+        assertFalse(dispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+
+        dispatcher.setEnabled(false);
+        dispatcher.addEventListener(globalListener);
+        assertFalse(dispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+    }
+
+    public void testProcessDefinitionListenersAreReported() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        FlowableEventSupport processDefinitionSupport = new FlowableEventSupport(dispatcher);
+
+        processDefinitionSupport.addEventListener(new RecordingListener(), FlowableEngineEventType.ACTIVITY_STARTED);
+        assertTrue(dispatcher.hasListeners(FlowableEngineEventType.ACTIVITY_STARTED));
+        assertFalse(dispatcher.hasListeners(FlowableEngineEventType.ACTIVITY_COMPLETED));
+
+        processDefinitionSupport.addEventListener(new RecordingListener());
+        assertTrue(dispatcher.hasListeners(FlowableEngineEventType.ACTIVITY_COMPLETED));
+    }
+
+    public void testHasListenersFallsBackForOtherDispatchers() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        assertFalse(FlowableEventDispatcherImpl.hasListeners(dispatcher, FlowableEngineEventType.TASK_CREATED));
+        dispatcher.addEventListener(new RecordingListener(), FlowableEngineEventType.TASK_CREATED);
+        assertTrue(FlowableEventDispatcherImpl.hasListeners(dispatcher, FlowableEngineEventType.TASK_CREATED));
+
+        FlowableEventDispatcher otherDispatcher = new NoOpEventDispatcher();
+        assertTrue(FlowableEventDispatcherImpl.hasListeners(otherDispatcher, FlowableEngineEventType.TASK_CREATED));
+        otherDispatcher.setEnabled(false);
+        assertFalse(FlowableEventDispatcherImpl.hasListeners(otherDispatcher, FlowableEngineEventType.TASK_CREATED));
+        assertFalse(FlowableEventDispatcherImpl.hasListeners(null, FlowableEngineEventType.TASK_CREATED));
+    }
+
+    public void testAsyncListenerDelivery() throws Exception {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        dispatcher.enableAsyncListenerDelivery(16);
+        try {
+            RecordingListener syncListener = new RecordingListener();
+            AsyncRecordingListener asyncListener = new AsyncRecordingListener(3);
+            dispatcher.addEventListener(syncListener);
+            dispatcher.addEventListener(asyncListener);
+
+            for (int i = 0; i < 3; i++) {
+                dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+            }
+
+            assertEquals(3, syncListener.events.size());
+            assertSame(Thread.currentThread(), syncListener.threads.get(0));
+            assertTrue(asyncListener.latch.await(10, TimeUnit.SECONDS));
+            assertNotSame(Thread.currentThread(), asyncListener.threads.get(0));
+        } finally {
+            dispatcher.shutdownAsyncListenerDelivery();
+        }
+    }
+
+    public void testAsyncListenerDeliveryKeepsOrderWhenQueueIsFull() throws Exception {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        dispatcher.enableAsyncListenerDelivery(1);
+        try {
+            AsyncRecordingListener asyncListener = new SlowAsyncRecordingListener(20);
+            dispatcher.addEventListener(asyncListener);
+
+            List<FlowableEvent> dispatchedEvents = new ArrayList<FlowableEvent>();
+            for (int i = 0; i < 20; i++) {
+                FlowableEvent event = new FlowableEventImpl(FlowableEngineEventType.CUSTOM);
+                dispatchedEvents.add(event);
+                dispatcher.dispatchEvent(event);
+            }
+
+            assertTrue(asyncListener.latch.await(10, TimeUnit.SECONDS));
+            assertEquals(dispatchedEvents, asyncListener.events);
+            assertFalse(asyncListener.threads.contains(Thread.currentThread()));
+        } finally {
+            dispatcher.shutdownAsyncListenerDelivery();
+        }
+    }
+
+    protected static class RecordingListener implements FlowableEventListener {
+
+        protected List<FlowableEvent> events = Collections.synchronizedList(new ArrayList<FlowableEvent>());
+        protected List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            events.add(event);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+    protected static class NoOpEventDispatcher implements FlowableEventDispatcher {
+
+        protected boolean enabled = true;
+
+        @Override
+        public void addEventListener(FlowableEventListener listenerToAdd) {
+        }
+
+        @Override
+        public void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
+        }
+
+        @Override
+        public void removeEventListener(FlowableEventListener listenerToRemove) {
+        }
+
+        @Override
+        public void dispatchEvent(FlowableEvent event) {
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
+
+    protected static class AsyncRecordingListener extends RecordingListener implements NonTransactionalEventListener {
+
+        protected CountDownLatch latch;
+
+        public AsyncRecordingListener(int expectedEvents) {
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            super.onEvent(event);
+            latch.countDown();
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+    }
+
+    protected static class SlowAsyncRecordingListener extends AsyncRecordingListener {
+
+        public SlowAsyncRecordingListener(int expectedEvents) {
+            super(expectedEvents);
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.onEvent(event);
+        }
+    }
+}
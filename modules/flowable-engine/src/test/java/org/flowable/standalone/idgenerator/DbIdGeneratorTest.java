@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.db.IdBlock;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+
+import junit.framework.TestCase;
+
+public class DbIdGeneratorTest extends TestCase {
+
+    public void testIdsAreUniqueAcrossThreads() throws Exception {
+        final DbIdGenerator idGenerator = createIdGenerator(new InMemoryIdBlockExecutor(), 100);
+
+        final Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+
+        assertEquals(8000, ids.size());
+    }
+
+    public void testNextBlockIsPrefetched() throws Exception {
+        InMemoryIdBlockExecutor commandExecutor = new InMemoryIdBlockExecutor();
+        DbIdGenerator idGenerator = createIdGenerator(commandExecutor, 10);
+
+        List<String> ids = new ArrayList<String>();
+        for (int i = 0; i < 9; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        // The second block is reserved in the background after 80% of the first one was used
+        for (int i = 0; i < 100 && commandExecutor.blocksReserved.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, commandExecutor.blocksReserved.get());
+
+        for (int i = 0; i < 11; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+        assertEquals("0", ids.get(0));
+        assertEquals("19", ids.get(19));
+    }
+
+    public void testBlockSizeGrowsUnderLoad() {
+        InMemoryIdBlockExecutor commandExecutor = new InMemoryIdBlockExecutor();
+        DbIdGenerator idGenerator = createIdGenerator(commandExecutor, 10);
+        idGenerator.setPrefetchEnabled(false);
+        idGenerator.setMaxIdBlockSize(80);
+
+        for (int i = 0; i < 500; i++) {
+            idGenerator.getNextId();
+        }
+
+        assertEquals(80, idGenerator.getCurrentIdBlockSize());
+        assertTrue(commandExecutor.blocksReserved.get() < 50);
+    }
+
+    protected DbIdGenerator createIdGenerator(CommandExecutor commandExecutor, int idBlockSize) {
+        DbIdGenerator idGenerator = new DbIdGenerator();
+        idGenerator.setIdBlockSize(idBlockSize);
+        idGenerator.setCommandExecutor(commandExecutor);
+        idGenerator.setCommandConfig(new CommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+    protected static class InMemoryIdBlockExecutor implements CommandExecutor {
+
+        protected AtomicLong nextDbId = new AtomicLong();
+        protected AtomicInteger blocksReserved = new AtomicInteger();
+
+        @Override
+        public CommandConfig getDefaultConfig() {
+            return new CommandConfig();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(CommandConfig config, Command<T> command) {
+            int idBlockSize = ((GetNextIdBlockCmd) command).getIdBlockSize();
+            long first = nextDbId.getAndAdd(idBlockSize);
+            blocksReserved.incrementAndGet();
+            return (T) new IdBlock(first, first + idBlockSize - 1);
+        }
+
+        @Override
+        public <T> T execute(Command<T> command) {
+            return execute(getDefaultConfig(), command);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.variables;
+
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.variable.DateType;
+import org.flowable.engine.impl.variable.DefaultVariableTypes;
+import org.flowable.engine.impl.variable.IntegerType;
+import org.flowable.engine.impl.variable.JsonType;
+import org.flowable.engine.impl.variable.LongJsonType;
+import org.flowable.engine.impl.variable.LongStringType;
+import org.flowable.engine.impl.variable.NullType;
+import org.flowable.engine.impl.variable.SerializableType;
+import org.flowable.engine.impl.variable.StringType;
+import org.flowable.engine.impl.variable.VariableType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import junit.framework.TestCase;
+
+public class DefaultVariableTypesTest extends TestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected DefaultVariableTypes variableTypes;
+
+    @Override
+    protected void setUp() throws Exception {
+        variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(10));
+        variableTypes.addType(new LongStringType(11));
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new JsonType(10, objectMapper));
+        variableTypes.addType(new LongJsonType(11, objectMapper));
+        variableTypes.addType(new SerializableType());
+    }
+
+    public void testFindVariableType() {
+        assertEquals("null", variableTypes.findVariableType(null).getTypeName());
+        assertEquals("string", variableTypes.findVariableType("short").getTypeName());
+        assertEquals("longString", variableTypes.findVariableType("a much longer string").getTypeName());
+        assertEquals("integer", variableTypes.findVariableType(42).getTypeName());
+        assertEquals("date", variableTypes.findVariableType(new Date()).getTypeName());
+        assertEquals("serializable", variableTypes.findVariableType(42L).getTypeName());
+
+        ObjectNode jsonNode = objectMapper.createObjectNode();
+        assertEquals("json", variableTypes.findVariableType(jsonNode).getTypeName());
+        jsonNode.put("name", "a value making the json long");
+        assertEquals("longJson", variableTypes.findVariableType(jsonNode).getTypeName());
+    }
+
+    public void testValueNotStorable() {
+        try {
+            variableTypes.findVariableType(new Object());
+            fail("Expected exception for non serializable value");
+        } catch (FlowableException e) {
+            // expected
+        }
+    }
+
+    public void testAddedTypeIsUsedForPreviouslyResolvedClass() {
+        assertEquals("integer", variableTypes.findVariableType(42).getTypeName());
+
+        variableTypes.addType(new IntegerType() {
+
+            @Override
+            public String getTypeName() {
+                return "customInteger";
+            }
+        }, 0);
+
+        assertEquals("customInteger", variableTypes.findVariableType(42).getTypeName());
+    }
+
+    public void testTypeOverridingIsAbleToStoreIsNotSkipped() {
+        VariableType anyObjectType = new SerializableType() {
+
+            @Override
+            public String getTypeName() {
+                return "anyObject";
+            }
+
+            @Override
+            public boolean isAbleToStore(Object value) {
+                return true;
+            }
+        };
+        variableTypes.addType(anyObjectType);
+
+        assertEquals("anyObject", variableTypes.findVariableType(new Object()).getTypeName());
+    }
+
+}
@@ -61,11 +61,13 @@ import org.flowable.form.engine.impl.interceptor.CommandInvoker;
 import org.flowable.form.engine.impl.interceptor.LogInterceptor;
 import org.flowable.form.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.form.engine.impl.parser.FormDefinitionParseFactory;
+import org.flowable.form.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.Deployer;
 import org.flowable.form.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry;
+import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntryWeigher;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManagerImpl;
 import org.flowable.form.engine.impl.persistence.entity.FormDeploymentEntityManager;
@@ -168,6 +170,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
     protected DeploymentManager deploymentManager;
 
     protected int formDefinitionCacheLimit = -1; // By default, no limit
+    protected long formDefinitionCacheMaxWeight = -1L; // When set, bounds the cache by the estimated weight of the form definitions instead, using a ConcurrentDeploymentCache
     protected DeploymentCache<FormDefinitionCacheEntry> formDefinitionCache;
 
     public static FormEngineConfiguration createFormEngineConfigurationFromResourceDefault() {
@@ -453,7 +456,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
+            if (formDefinitionCacheMaxWeight > 0) {
+                formDefinitionCache = new ConcurrentDeploymentCache<FormDefinitionCacheEntry>(formDefinitionCacheMaxWeight, new FormDefinitionCacheEntryWeigher());
+            } else if (formDefinitionCacheLimit <= 0) {
                 formDefinitionCache = new DefaultDeploymentCache<FormDefinitionCacheEntry>();
             } else {
                 formDefinitionCache = new DefaultDeploymentCache<FormDefinitionCacheEntry>(formDefinitionCacheLimit);
@@ -737,6 +742,15 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public long getFormDefinitionCacheMaxWeight() {
+        return formDefinitionCacheMaxWeight;
+    }
+
+    public FormEngineConfiguration setFormDefinitionCacheMaxWeight(long formDefinitionCacheMaxWeight) {
+        this.formDefinitionCacheMaxWeight = formDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<FormDefinitionCacheEntry> getFormDefinitionCache() {
         return formDefinitionCache;
     }
@@ -12,9 +12,9 @@
  */
 package org.flowable.idm.engine.delegate.event.impl;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -39,7 +39,7 @@ public class FlowableIdmEventSupport {
 
     public FlowableIdmEventSupport() {
         eventListeners = new CopyOnWriteArrayList<FlowableEventListener>();
-        typedListeners = new HashMap<FlowableEventType, List<FlowableEventListener>>();
+        typedListeners = new ConcurrentHashMap<FlowableEventType, List<FlowableEventListener>>();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -32,8 +32,11 @@ import javax.management.remote.JMXConnectorServer;
 import javax.management.remote.JMXConnectorServerFactory;
 import javax.management.remote.JMXServiceURL;
 
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.management.jmx.mbeans.AsyncJobAcquisitionMBean;
 import org.flowable.management.jmx.mbeans.JobExecutorMBean;
 import org.flowable.management.jmx.mbeans.ProcessDefinitionsMBean;
+import org.flowable.management.jmx.mbeans.ProfilerMBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -178,6 +181,8 @@ public class DefaultManagementAgent implements ManagementAgent {
     public void findAndRegisterMbeans() throws Exception {
         register(new ProcessDefinitionsMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "Deployments"));
         register(new JobExecutorMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "JobExecutor"));
+        register(new AsyncJobAcquisitionMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "AsyncJobAcquisition"));
+        register(new ProfilerMBean(FlowableProfiler.getInstance()), new ObjectName(jmxConfigurator.getDomain(), "type", "Profiler"));
 
     }
 
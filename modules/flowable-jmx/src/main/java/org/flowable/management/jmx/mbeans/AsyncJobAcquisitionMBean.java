@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionController;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+/**
+ * Exposes the acquisition metrics of the async executor.
+ */
+@ManagedResource(description = "Async job acquisition MBean")
+public class AsyncJobAcquisitionMBean {
+
+    AsyncExecutor jobExecutor;
+
+    public AsyncJobAcquisitionMBean(ProcessEngineConfiguration processEngineConfig) {
+        jobExecutor = processEngineConfig.getAsyncExecutor();
+    }
+
+    @ManagedAttribute(description = "number of jobs waiting in the queue of the async executor")
+    public int getQueueDepth() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getQueueDepth() : 0;
+    }
+
+    @ManagedAttribute(description = "number of jobs executed per second")
+    public double getJobExecutionRate() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getJobExecutionRate() : 0;
+    }
+
+    @ManagedAttribute(description = "number of jobs requested in the last acquisition")
+    public int getLastAcquireSize() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getLastAcquireSize() : 0;
+    }
+
+    @ManagedAttribute(description = "check if the acquire size adapts to the execution rate")
+    public boolean isAdaptive() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null && controller.isAdaptive();
+    }
+
+    @ManagedAttribute(description = "number of acquisitions")
+    public long getAcquisitionCount() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getAcquisitionCount() : 0;
+    }
+
+    @ManagedAttribute(description = "number of acquired jobs")
+    public long getAcquiredJobCount() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getAcquiredJobCount() : 0;
+    }
+
+    @ManagedAttribute(description = "number of acquired jobs rejected because the queue was full")
+    public long getRejectedJobCount() {
+        AsyncJobAcquisitionController controller = getController();
+        return controller != null ? controller.getRejectedJobCount() : 0;
+    }
+
+    protected AsyncJobAcquisitionController getController() {
+        // created when the async executor starts
+        return jobExecutor != null ? jobExecutor.getAsyncJobAcquisitionController() : null;
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.engine.test.profiler.ExecutionStatistics;
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.engine.test.profiler.LatencyHistogram;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+/**
+ * Exposes the statistics of the {@link FlowableProfiler}. Statistics are only gathered when the profiler is added as configurator of the
+ * process engine.
+ *
+ * Each row contains the name, the count, the mean, 50th, 90th and 99th percentile and max latency in microseconds, the database round
+ * trips and the rows flushed.
+ */
+@ManagedResource(description = "Profiler MBean")
+public class ProfilerMBean {
+
+    FlowableProfiler profiler;
+
+    public ProfilerMBean(FlowableProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ManagedAttribute(description = "check if profiler statistics are gathered")
+    public boolean isStatisticsEnabled() {
+        return profiler.isStatisticsEnabled();
+    }
+
+    @ManagedOperation(description = "enable or disable profiler statistics")
+    public void setStatisticsEnabled(Boolean enabled) {
+        profiler.setStatisticsEnabled(enabled);
+    }
+
+    @ManagedOperation(description = "reset profiler statistics")
+    public void resetStatistics() {
+        profiler.getStatistics().reset();
+    }
+
+    @ManagedAttribute(description = "Latencies and database work per command")
+    public List<List<String>> getCommandStatistics() {
+        return toRows(profiler.getStatistics().getCommandStatistics());
+    }
+
+    @ManagedAttribute(description = "Latencies and rows per SQL statement")
+    public List<List<String>> getStatementStatistics() {
+        return toRows(profiler.getStatistics().getStatementStatistics());
+    }
+
+    protected List<List<String>> toRows(Map<String, ExecutionStatistics> statisticsMap) {
+        Map<String, ExecutionStatistics> sortedStatistics = new TreeMap<String, ExecutionStatistics>(statisticsMap);
+        List<List<String>> result = new ArrayList<List<String>>(sortedStatistics.size());
+        for (Map.Entry<String, ExecutionStatistics> entry : sortedStatistics.entrySet()) {
+            LatencyHistogram latency = entry.getValue().getLatency();
+            List<String> item = new ArrayList<String>(9);
+            item.add(entry.getKey());
+            item.add(Long.toString(latency.getCount()));
+            item.add(Long.toString(Math.round(latency.getMean())));
+            item.add(Long.toString(latency.getValueAtPercentile(50.0)));
+            item.add(Long.toString(latency.getValueAtPercentile(90.0)));
+            item.add(Long.toString(latency.getValueAtPercentile(99.0)));
+            item.add(Long.toString(latency.getMax()));
+            item.add(Long.toString(entry.getValue().getDatabaseRoundTrips()));
+            item.add(Long.toString(entry.getValue().getRowsFlushed()));
+            result.add(item);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionController;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class AsyncJobAcquisitionMBeanTest {
+
+    protected AsyncJobAcquisitionMBean asyncJobAcquisitionMBean;
+
+    @Mock
+    protected ProcessEngineConfiguration processEngineConfiguration;
+
+    @Mock
+    protected AsyncExecutor jobExecutor;
+
+    @Mock
+    protected AsyncJobAcquisitionController acquisitionController;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        when(processEngineConfiguration.getAsyncExecutor()).thenReturn(jobExecutor);
+        asyncJobAcquisitionMBean = new AsyncJobAcquisitionMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testMetricsWithoutController() {
+        when(jobExecutor.getAsyncJobAcquisitionController()).thenReturn(null);
+
+        assertEquals(0, asyncJobAcquisitionMBean.getQueueDepth());
+        assertEquals(0, asyncJobAcquisitionMBean.getLastAcquireSize());
+        assertEquals(0L, asyncJobAcquisitionMBean.getAcquiredJobCount());
+        assertFalse(asyncJobAcquisitionMBean.isAdaptive());
+    }
+
+    @Test
+    public void testMetrics() {
+        when(jobExecutor.getAsyncJobAcquisitionController()).thenReturn(acquisitionController);
+        when(acquisitionController.getQueueDepth()).thenReturn(3);
+        when(acquisitionController.getLastAcquireSize()).thenReturn(5);
+        when(acquisitionController.getAcquisitionCount()).thenReturn(2L);
+        when(acquisitionController.getAcquiredJobCount()).thenReturn(8L);
+        when(acquisitionController.getRejectedJobCount()).thenReturn(1L);
+        when(acquisitionController.isAdaptive()).thenReturn(true);
+
+        assertEquals(3, asyncJobAcquisitionMBean.getQueueDepth());
+        assertEquals(5, asyncJobAcquisitionMBean.getLastAcquireSize());
+        assertEquals(2L, asyncJobAcquisitionMBean.getAcquisitionCount());
+        assertEquals(8L, asyncJobAcquisitionMBean.getAcquiredJobCount());
+        assertEquals(1L, asyncJobAcquisitionMBean.getRejectedJobCount());
+        assertTrue(asyncJobAcquisitionMBean.isAdaptive());
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.engine.test.profiler.ExecutionStatistics;
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProfilerMBeanTest {
+
+    protected FlowableProfiler profiler;
+
+    protected ProfilerMBean profilerMBean;
+
+    @Before
+    public void initProfiler() {
+        profiler = new FlowableProfiler();
+        profilerMBean = new ProfilerMBean(profiler);
+    }
+
+    @Test
+    public void testStatisticsEnabled() {
+        assertFalse(profilerMBean.isStatisticsEnabled());
+
+        profilerMBean.setStatisticsEnabled(true);
+        assertTrue(profiler.isStatisticsEnabled());
+        assertTrue(profilerMBean.isStatisticsEnabled());
+
+        profilerMBean.setStatisticsEnabled(false);
+        assertFalse(profiler.isStatisticsEnabled());
+    }
+
+    @Test
+    public void testCommandStatistics() {
+        ExecutionStatistics statistics = profiler.getStatistics().getCommandStatistics("org.flowable.SomeCmd");
+        statistics.recordExecution(1000L);
+        statistics.recordExecution(3000L);
+        statistics.addDatabaseRoundTrips(4L);
+        statistics.addRowsFlushed(2L);
+
+        List<List<String>> result = profilerMBean.getCommandStatistics();
+        assertEquals(1, result.size());
+        assertEquals(Arrays.asList("org.flowable.SomeCmd", "2", "2", "1", "3", "3", "3", "4", "2"), result.get(0));
+        assertTrue(profilerMBean.getStatementStatistics().isEmpty());
+
+        profilerMBean.resetStatistics();
+        assertEquals("0", profilerMBean.getCommandStatistics().get(0).get(1));
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws MalformedObjectNameException, JMException {
+        ModelMBean modelBean = assembler.assemble(profilerMBean, new ObjectName("domain", "key", "value"));
+        assertNotNull(modelBean);
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertNotNull(beanInfo);
+        assertEquals(3, beanInfo.getAttributes().length);
+    }
+
+}
@@ -76,6 +76,7 @@ public class LDAPConfigurator extends AbstractProcessEngineConfigurator {
     // Group caching
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
+    protected long groupCacheRefreshAheadTime = -1L; // default: disabled
 
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
@@ -91,6 +92,7 @@ public class LDAPConfigurator extends AbstractProcessEngineConfigurator {
         LDAPGroupCache ldapGroupCache = null;
         if (getGroupCacheSize() > 0) {
             ldapGroupCache = new LDAPGroupCache(getGroupCacheSize(), getGroupCacheExpirationTime(), processEngineConfiguration.getClock());
+            ldapGroupCache.setRefreshAheadTime(getGroupCacheRefreshAheadTime());
             if (groupCacheListener != null) {
                 ldapGroupCache.setLdapCacheListener(groupCacheListener);
             }
@@ -429,6 +431,21 @@ public class LDAPConfigurator extends AbstractProcessEngineConfigurator {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public long getGroupCacheRefreshAheadTime() {
+        return groupCacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time (in milliseconds) before the expiration of a {@link LDAPGroupCache} entry in which a cache hit triggers a background refresh of the groups of
+     * that user. ie. with an expiration time of 30 mins and a refresh ahead time of 5 mins, a fetch of the groups between 00:25 and 00:30 returns the cached groups
+     * and fetches the groups again from the LDAP system in a separate thread. This way, users that are active don't have to wait for the LDAP system when their entry expires.
+     * 
+     * By default set to -1, so no refresh ahead is done.
+     */
+    public void setGroupCacheRefreshAheadTime(long groupCacheRefreshAheadTime) {
+        this.groupCacheRefreshAheadTime = groupCacheRefreshAheadTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
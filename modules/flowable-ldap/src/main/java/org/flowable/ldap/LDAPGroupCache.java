@@ -12,13 +12,27 @@
  */
 package org.flowable.ldap;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.runtime.ClockReader;
 import org.flowable.idm.api.Group;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -26,15 +40,25 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache is safe to be used by multiple threads. When groups are fetched through {@link #get(String, LDAPGroupLoader)}, concurrent misses for the same user
+ * result in only one LDAP lookup. When a refresh ahead time is set, a cache hit within that time before the expiration refreshes the entry in the background,
+ * so frequently used entries never expire within a request.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
 public class LDAPGroupCache {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPGroupCache.class);
+
     private final ClockReader clockReader;
     protected Map<String, LDAPGroupCacheEntry> groupCache;
     protected long expirationTime;
+    protected long refreshAheadTime = -1L;
+
+    protected ConcurrentMap<String, FutureTask<List<Group>>> groupLookups = new ConcurrentHashMap<String, FutureTask<List<Group>>>();
+    protected ExecutorService refreshExecutorService;
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
@@ -43,7 +67,7 @@ public class LDAPGroupCache {
 
         // From
         // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
+        this.groupCache = Collections.synchronizedMap(new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
 
             private static final long serialVersionUID = 5207574193173514579L;
 
@@ -57,7 +81,7 @@ public class LDAPGroupCache {
                 return removeEldest;
             }
 
-        };
+        });
         this.expirationTime = expirationTime;
     }
 
@@ -66,19 +90,37 @@ public class LDAPGroupCache {
     }
 
     public List<Group> get(String userId) {
+        return get(userId, null);
+    }
+
+    /**
+     * Returns the groups of the user from the cache. On a miss, the groups are fetched with the given loader (when not null) and cached.
+     * Concurrent misses for the same user wait for the lookup of the first one.
+     */
+    public List<Group> get(String userId, LDAPGroupLoader groupLoader) {
         LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
         if (cacheEntry != null) {
-            if ((clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
+            long age = clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime();
+            if (age < expirationTime) {
 
                 if (ldapCacheListener != null) {
                     ldapCacheListener.cacheHit(userId);
                 }
 
+                if (groupLoader != null && refreshAheadTime > 0 && age >= expirationTime - refreshAheadTime) {
+                    refreshAhead(userId, groupLoader);
+                }
+
                 return cacheEntry.getGroups();
 
             } else {
 
-                this.groupCache.remove(userId);
+                synchronized (groupCache) {
+                    // Another thread could have put a fresh entry in the meantime
+                    if (groupCache.get(userId) == cacheEntry) {
+                        groupCache.remove(userId);
+                    }
+                }
 
                 if (ldapCacheListener != null) {
                     ldapCacheListener.cacheExpired(userId);
@@ -92,9 +134,87 @@ public class LDAPGroupCache {
             ldapCacheListener.cacheMiss(userId);
         }
 
+        if (groupLoader != null) {
+            return load(userId, groupLoader);
+        }
+
         return null;
     }
 
+    protected List<Group> load(String userId, LDAPGroupLoader groupLoader) {
+        FutureTask<List<Group>> lookup = createLookup(userId, groupLoader);
+        FutureTask<List<Group>> existingLookup = groupLookups.putIfAbsent(userId, lookup);
+        if (existingLookup != null) {
+            lookup = existingLookup;
+        } else {
+            try {
+                lookup.run();
+            } finally {
+                groupLookups.remove(userId, lookup);
+            }
+        }
+
+        try {
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while fetching groups for user " + userId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Could not find groups for user " + userId, e.getCause());
+        }
+    }
+
+    protected void refreshAhead(final String userId, LDAPGroupLoader groupLoader) {
+        final FutureTask<List<Group>> lookup = createLookup(userId, groupLoader);
+        if (groupLookups.putIfAbsent(userId, lookup) == null) {
+            getRefreshExecutorService().execute(new Runnable() {
+
+                public void run() {
+                    try {
+                        lookup.run();
+                        lookup.get();
+                    } catch (Exception e) {
+                        LOGGER.warn("Could not refresh the cached groups for user {}", userId, e);
+                    } finally {
+                        groupLookups.remove(userId, lookup);
+                    }
+                }
+
+            });
+        }
+    }
+
+    protected FutureTask<List<Group>> createLookup(final String userId, final LDAPGroupLoader groupLoader) {
+        return new FutureTask<List<Group>>(new Callable<List<Group>>() {
+
+            public List<Group> call() throws Exception {
+                List<Group> groups = groupLoader.loadGroups(userId);
+                add(userId, groups);
+                return groups;
+            }
+
+        });
+    }
+
+    public synchronized ExecutorService getRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            // The thread is stopped when idle, so there is no need to shut it down explicitly
+            refreshExecutorService = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "flowable-ldap-group-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+        return refreshExecutorService;
+    }
+
     public void clear() {
         groupCache.clear();
     }
@@ -115,6 +235,18 @@ public class LDAPGroupCache {
         this.expirationTime = expirationTime;
     }
 
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public synchronized void setRefreshExecutorService(ExecutorService refreshExecutorService) {
+        this.refreshExecutorService = refreshExecutorService;
+    }
+
     public LDAPGroupCacheListener getLdapCacheListener() {
         return ldapCacheListener;
     }
@@ -157,6 +289,15 @@ public class LDAPGroupCache {
 
     }
 
+    /**
+     * Fetches the groups of a user from the LDAP system, see {@link LDAPGroupCache#get(String, LDAPGroupLoader)}.
+     */
+    public static interface LDAPGroupLoader {
+
+        List<Group> loadGroups(String userId);
+
+    }
+
     // Cache listeners. Currently not yet exposed (only programmatically for the
     // moment)
 
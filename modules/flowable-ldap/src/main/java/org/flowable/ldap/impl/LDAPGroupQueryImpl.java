@@ -32,6 +32,7 @@ import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfigurator;
 import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPGroupCache.LDAPGroupLoader;
 import org.flowable.ldap.LDAPTemplate;
 
 public class LDAPGroupQueryImpl extends GroupQueryImpl {
@@ -66,15 +67,21 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected List<Group> findGroupsByUser(final String userId) {
 
-        // First try the cache (if one is defined)
+        // Use the cache (if one is defined), which only does the search when needed
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
-            if (groups != null) {
-                return groups;
-            }
+            return ldapGroupCache.get(userId, new LDAPGroupLoader() {
+
+                public List<Group> loadGroups(String userId) {
+                    return searchGroupsByUser(userId);
+                }
+
+            });
         }
 
-        // Do the search against Ldap
+        return searchGroupsByUser(userId);
+    }
+
+    protected List<Group> searchGroupsByUser(final String userId) {
         LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<List<Group>>() {
 
@@ -104,11 +111,6 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
                     namingEnum.close();
 
-                    // Cache results for later
-                    if (ldapGroupCache != null) {
-                        ldapGroupCache.add(userId, groups);
-                    }
-
                     return groups;
 
                 } catch (NamingException e) {
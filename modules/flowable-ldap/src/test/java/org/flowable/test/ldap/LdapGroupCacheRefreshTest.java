@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.ldap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPGroupCache.LDAPGroupLoader;
+
+import junit.framework.TestCase;
+
+public class LdapGroupCacheRefreshTest extends TestCase {
+
+    protected DefaultClockImpl clock;
+    protected LDAPGroupCache ldapGroupCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        clock = new DefaultClockImpl();
+        clock.setCurrentTime(new Date());
+        ldapGroupCache = new LDAPGroupCache(10, 30 * 60 * 1000L, clock);
+    }
+
+    public void testConcurrentMissesDoOneLookup() throws Exception {
+        final CountDownLatch lookupStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLookup = new CountDownLatch(1);
+        final CountingGroupLoader groupLoader = new CountingGroupLoader() {
+
+            @Override
+            public List<Group> loadGroups(String userId) {
+                lookupStarted.countDown();
+                try {
+                    releaseLookup.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.loadGroups(userId);
+            }
+
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Group>>> results = new ArrayList<Future<List<Group>>>();
+            results.add(executorService.submit(new GetGroups(groupLoader)));
+            assertTrue(lookupStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(new GetGroups(groupLoader)));
+            }
+
+            // give the other threads the time to wait on the running lookup
+            Thread.sleep(200);
+            releaseLookup.countDown();
+
+            for (Future<List<Group>> result : results) {
+                assertEquals("group-kermit", result.get(10, TimeUnit.SECONDS).get(0).getId());
+            }
+            assertEquals(1, groupLoader.getNrOfLookups());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public void testRefreshAhead() throws Exception {
+        ldapGroupCache.setRefreshAheadTime(5 * 60 * 1000L);
+        CountingGroupLoader groupLoader = new CountingGroupLoader();
+
+        Date now = clock.getCurrentTime();
+        ldapGroupCache.get("kermit", groupLoader);
+        assertEquals(1, groupLoader.getNrOfLookups());
+
+        // Before the refresh ahead window: plain cache hit
+        clock.setCurrentTime(new Date(now.getTime() + 20 * 60 * 1000L));
+        ldapGroupCache.get("kermit", groupLoader);
+        assertEquals(1, groupLoader.getNrOfLookups());
+
+        // Within the refresh ahead window: cached value returned, refreshed in the background
+        clock.setCurrentTime(new Date(now.getTime() + 27 * 60 * 1000L));
+        assertEquals("group-kermit", ldapGroupCache.get("kermit", groupLoader).get(0).getId());
+        long end = System.currentTimeMillis() + 10000L;
+        while (groupLoader.getNrOfLookups() < 2 && System.currentTimeMillis() < end) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, groupLoader.getNrOfLookups());
+
+        // The refreshed entry is valid for the full expiration time again
+        clock.setCurrentTime(new Date(now.getTime() + 45 * 60 * 1000L));
+        ldapGroupCache.setRefreshAheadTime(-1L);
+        ldapGroupCache.get("kermit", groupLoader);
+        assertEquals(2, groupLoader.getNrOfLookups());
+    }
+
+    protected class GetGroups implements java.util.concurrent.Callable<List<Group>> {
+
+        protected LDAPGroupLoader groupLoader;
+
+        public GetGroups(LDAPGroupLoader groupLoader) {
+            this.groupLoader = groupLoader;
+        }
+
+        public List<Group> call() throws Exception {
+            return ldapGroupCache.get("kermit", groupLoader);
+        }
+    }
+
+    static class CountingGroupLoader implements LDAPGroupLoader {
+
+        protected AtomicInteger nrOfLookups = new AtomicInteger();
+
+        public List<Group> loadGroups(String userId) {
+            nrOfLookups.incrementAndGet();
+            GroupEntityImpl group = new GroupEntityImpl();
+            group.setId("group-" + userId);
+            return Collections.<Group> singletonList(group);
+        }
+
+        public int getNrOfLookups() {
+            return nrOfLookups.get();
+        }
+    }
+
+}
@@ -74,6 +74,7 @@ public final class RestUrls {
     public static final String SEGMENT_MODEL = "model";
     public static final String SEGMENT_PROPERTIES = "properties";
     public static final String SEGMENT_ENGINE_INFO = "engine";
+    public static final String SEGMENT_PROFILER = "profiler";
     public static final String SEGMENT_ACTIVITIES = "activities";
     public static final String SEGMENT_MODEL_RESOURCE = "models";
     public static final String SEGMENT_SOURCE = "source";
@@ -541,6 +542,11 @@ public final class RestUrls {
      */
     public static final String[] URL_ENGINE_INFO = { SEGMENT_MANAGEMENT_RESOURCES, SEGMENT_ENGINE_INFO };
 
+    /**
+     * URL template for the profiler statistics: <i>management/engine/profiler</i>
+     */
+    public static final String[] URL_PROFILER_STATISTICS = { SEGMENT_MANAGEMENT_RESOURCES, SEGMENT_ENGINE_INFO, SEGMENT_PROFILER };
+
     /**
      * URL template for the collection of users: <i>identity/users</i>
      */
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.management;
+
+public class ExecutionStatisticsResponse {
+
+    private String name;
+    private long count;
+    private double mean;
+    private long p50;
+    private long p90;
+    private long p99;
+    private long max;
+    private long databaseRoundTrips;
+    private long rowsFlushed;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public void setP50(long p50) {
+        this.p50 = p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public void setP90(long p90) {
+        this.p90 = p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public void setP99(long p99) {
+        this.p99 = p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public void setMax(long max) {
+        this.max = max;
+    }
+
+    public long getDatabaseRoundTrips() {
+        return databaseRoundTrips;
+    }
+
+    public void setDatabaseRoundTrips(long databaseRoundTrips) {
+        this.databaseRoundTrips = databaseRoundTrips;
+    }
+
+    public long getRowsFlushed() {
+        return rowsFlushed;
+    }
+
+    public void setRowsFlushed(long rowsFlushed) {
+        this.rowsFlushed = rowsFlushed;
+    }
+}
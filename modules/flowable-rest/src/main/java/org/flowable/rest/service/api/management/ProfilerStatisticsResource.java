@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.management;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.engine.test.profiler.ExecutionStatistics;
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.engine.test.profiler.LatencyHistogram;
+import org.flowable.engine.test.profiler.ProfilerStatistics;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Api(tags = { "Engine" }, description = "Manage Engine", authorizations = { @Authorization(value = "basicAuth") })
+public class ProfilerStatisticsResource {
+
+    @ApiOperation(value = "Get profiler statistics", tags = { "Engine" }, notes = "Statistics are only gathered when the FlowableProfiler is a configurator of the engine and its statistics are enabled. Latencies are in microseconds.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the profiler statistics are returned."),
+    })
+    @RequestMapping(value = "/management/engine/profiler", method = RequestMethod.GET, produces = "application/json")
+    public ProfilerStatisticsResponse getProfilerStatistics() {
+        FlowableProfiler profiler = FlowableProfiler.getInstance();
+        ProfilerStatistics statistics = profiler.getStatistics();
+
+        ProfilerStatisticsResponse response = new ProfilerStatisticsResponse();
+        response.setStatisticsEnabled(profiler.isStatisticsEnabled());
+        response.setCommands(createExecutionStatisticsResponses(statistics.getCommandStatistics()));
+        response.setStatements(createExecutionStatisticsResponses(statistics.getStatementStatistics()));
+        return response;
+    }
+
+    protected List<ExecutionStatisticsResponse> createExecutionStatisticsResponses(Map<String, ExecutionStatistics> statisticsMap) {
+        Map<String, ExecutionStatistics> sortedStatistics = new TreeMap<String, ExecutionStatistics>(statisticsMap);
+        List<ExecutionStatisticsResponse> responses = new ArrayList<ExecutionStatisticsResponse>(sortedStatistics.size());
+        for (Map.Entry<String, ExecutionStatistics> entry : sortedStatistics.entrySet()) {
+            LatencyHistogram latency = entry.getValue().getLatency();
+            ExecutionStatisticsResponse response = new ExecutionStatisticsResponse();
+            response.setName(entry.getKey());
+            response.setCount(latency.getCount());
+            response.setMean(latency.getMean());
+            response.setP50(latency.getValueAtPercentile(50.0));
+            response.setP90(latency.getValueAtPercentile(90.0));
+            response.setP99(latency.getValueAtPercentile(99.0));
+            response.setMax(latency.getMax());
+            response.setDatabaseRoundTrips(entry.getValue().getDatabaseRoundTrips());
+            response.setRowsFlushed(entry.getValue().getRowsFlushed());
+            responses.add(response);
+        }
+        return responses;
+    }
+}
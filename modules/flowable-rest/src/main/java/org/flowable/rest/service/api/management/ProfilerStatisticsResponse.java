@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.management;
+
+import java.util.List;
+
+public class ProfilerStatisticsResponse {
+
+    private boolean statisticsEnabled;
+    private List<ExecutionStatisticsResponse> commands;
+    private List<ExecutionStatisticsResponse> statements;
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public List<ExecutionStatisticsResponse> getCommands() {
+        return commands;
+    }
+
+    public void setCommands(List<ExecutionStatisticsResponse> commands) {
+        this.commands = commands;
+    }
+
+    public List<ExecutionStatisticsResponse> getStatements() {
+        return statements;
+    }
+
+    public void setStatements(List<ExecutionStatisticsResponse> statements) {
+        this.statements = statements;
+    }
+}
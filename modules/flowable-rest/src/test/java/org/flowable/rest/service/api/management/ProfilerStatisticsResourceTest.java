@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.flowable.engine.test.profiler.ExecutionStatistics;
+import org.flowable.engine.test.profiler.FlowableProfiler;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.flowable.rest.service.api.RestUrls;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Test for the profiler statistics REST-operation.
+ */
+public class ProfilerStatisticsResourceTest extends BaseSpringRestTestCase {
+
+    protected static final String COMMAND_NAME = "org.flowable.rest.SomeCmd";
+    protected static final String STATEMENT_NAME = "selectSomething";
+
+    @Override
+    protected void tearDown() throws Exception {
+        // The profiler is a singleton, so don't leave statistics behind for other tests
+        FlowableProfiler.getInstance().setStatisticsEnabled(false);
+        FlowableProfiler.getInstance().getStatistics().reset();
+        super.tearDown();
+    }
+
+    /**
+     * Test getting the statistics when they are disabled. GET management/engine/profiler
+     */
+    public void testGetProfilerStatisticsDisabled() throws Exception {
+        JsonNode responseNode = getProfilerStatistics();
+        assertFalse(responseNode.get("statisticsEnabled").booleanValue());
+        assertTrue(responseNode.get("commands").isArray());
+        assertTrue(responseNode.get("statements").isArray());
+
+        // Entries of earlier tests may still be there, but nothing is recorded while the statistics are disabled
+        for (JsonNode commandNode : responseNode.get("commands")) {
+            assertEquals(0L, commandNode.get("count").longValue());
+        }
+        for (JsonNode statementNode : responseNode.get("statements")) {
+            assertEquals(0L, statementNode.get("count").longValue());
+        }
+    }
+
+    /**
+     * Test getting recorded statistics. GET management/engine/profiler
+     */
+    public void testGetProfilerStatistics() throws Exception {
+        FlowableProfiler profiler = FlowableProfiler.getInstance();
+        profiler.setStatisticsEnabled(true);
+
+        ExecutionStatistics commandStatistics = profiler.getStatistics().getCommandStatistics(COMMAND_NAME);
+        commandStatistics.recordExecution(1000L);
+        commandStatistics.recordExecution(3000L);
+        commandStatistics.addDatabaseRoundTrips(4L);
+        commandStatistics.addRowsFlushed(2L);
+
+        ExecutionStatistics statementStatistics = profiler.getStatistics().getStatementStatistics(STATEMENT_NAME);
+        statementStatistics.recordExecution(5000L);
+        statementStatistics.addDatabaseRoundTrips(1L);
+
+        JsonNode responseNode = getProfilerStatistics();
+        assertTrue(responseNode.get("statisticsEnabled").booleanValue());
+
+        // Latencies are in microseconds
+        JsonNode commandNode = findStatistics(responseNode.get("commands"), COMMAND_NAME);
+        assertEquals(2L, commandNode.get("count").longValue());
+        assertEquals(2.0, commandNode.get("mean").doubleValue(), 0.0);
+        assertEquals(1L, commandNode.get("p50").longValue());
+        assertEquals(3L, commandNode.get("p90").longValue());
+        assertEquals(3L, commandNode.get("p99").longValue());
+        assertEquals(3L, commandNode.get("max").longValue());
+        assertEquals(4L, commandNode.get("databaseRoundTrips").longValue());
+        assertEquals(2L, commandNode.get("rowsFlushed").longValue());
+
+        JsonNode statementNode = findStatistics(responseNode.get("statements"), STATEMENT_NAME);
+        assertEquals(1L, statementNode.get("count").longValue());
+        assertEquals(5L, statementNode.get("p50").longValue());
+        assertEquals(5L, statementNode.get("max").longValue());
+        assertEquals(1L, statementNode.get("databaseRoundTrips").longValue());
+        assertEquals(0L, statementNode.get("rowsFlushed").longValue());
+    }
+
+    protected JsonNode getProfilerStatistics() throws Exception {
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROFILER_STATISTICS)), HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertNotNull(responseNode);
+        return responseNode;
+    }
+
+    protected JsonNode findStatistics(JsonNode statisticsNodes, String name) {
+        for (JsonNode statisticsNode : statisticsNodes) {
+            if (name.equals(statisticsNode.get("name").textValue())) {
+                return statisticsNode;
+            }
+        }
+        fail("No statistics found for " + name);
+        return null;
+    }
+}
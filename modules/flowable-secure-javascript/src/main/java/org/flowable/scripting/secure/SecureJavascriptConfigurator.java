@@ -21,6 +21,7 @@ import org.flowable.engine.cfg.AbstractProcessEngineConfigurator;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.parse.BpmnParseHandler;
 import org.flowable.scripting.secure.behavior.SecureJavascriptTaskParseHandler;
+import org.flowable.scripting.secure.impl.SecureJavascriptUtil;
 import org.flowable.scripting.secure.impl.SecureScriptClassShutter;
 import org.flowable.scripting.secure.impl.SecureScriptContextFactory;
 import org.mozilla.javascript.ContextFactory;
@@ -89,6 +90,13 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
      */
     protected int scriptOptimizationLevel = -1;
 
+    /**
+     * The number of compiled scripts that are kept in memory. Each script is compiled once, and executed many times.
+     *
+     * By default 256.
+     */
+    protected int compiledScriptCacheSize = SecureJavascriptUtil.DEFAULT_COMPILED_SCRIPT_CACHE_SIZE;
+
     @Override
     public void beforeInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
 
@@ -112,6 +120,10 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
 
             secureScriptContextFactory.setOptimizationLevel(getScriptOptimizationLevel());
 
+            if (getCompiledScriptCacheSize() != SecureJavascriptUtil.DEFAULT_COMPILED_SCRIPT_CACHE_SIZE) {
+                SecureJavascriptUtil.setCompiledScriptCacheSize(getCompiledScriptCacheSize());
+            }
+
             if (isEnableClassWhiteListing() || getWhiteListedClasses() != null) {
                 secureScriptClassShutter = new SecureScriptClassShutter();
                 if (getWhiteListedClasses() != null && getWhiteListedClasses().size() > 0) {
@@ -211,6 +223,15 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
         return this;
     }
 
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public SecureJavascriptConfigurator setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public SecureScriptContextFactory getSecureScriptContextFactory() {
         return secureScriptContextFactory;
     }
@@ -12,26 +12,93 @@
  */
 package org.flowable.scripting.secure.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.flowable.engine.delegate.VariableScope;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeJavaTopPackage;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
 
 /**
+ * Scripts are compiled once into a Rhino {@link Script} and kept in a LRU cache keyed by the script source.
+ * 
+ * The standard objects are created once in a sealed scope that is shared by all script executions (see {@link SecureScriptScope}).
+ * Only the java package objects are created for each execution, as they cache the classes that were looked up (which would otherwise
+ * bypass changes to the white-listed classes).
+ * 
  * @author Joram Barrez
  */
 public class SecureJavascriptUtil {
 
+    public static final int DEFAULT_COMPILED_SCRIPT_CACHE_SIZE = 256;
+
+    protected static Map<String, Script> compiledScripts = createCompiledScriptCache(DEFAULT_COMPILED_SCRIPT_CACHE_SIZE);
+    protected static volatile ScriptableObject sharedScope;
+
     public static Object evaluateScript(VariableScope variableScope, String script) {
         Context context = Context.enter();
         try {
-            Scriptable scope = context.initStandardObjects();
-            SecureScriptScope secureScriptScope = new SecureScriptScope(variableScope);
-            scope.setPrototype(secureScriptScope);
+            Scriptable scope = new NativeObject();
+            scope.setPrototype(new SecureScriptScope(variableScope, getSharedScope(context)));
+            NativeJavaTopPackage.init(context, scope, false);
 
-            return context.evaluateString(scope, script, "<script>", 0, null);
+            return getCompiledScript(context, script).exec(context, scope);
         } finally {
             Context.exit();
         }
     }
 
+    protected static Script getCompiledScript(Context context, String script) {
+        Script compiledScript = compiledScripts.get(script);
+        if (compiledScript == null) {
+            // Compiled with the settings (optimization level, instruction observer) of the secure context
+            compiledScript = context.compileString(script, "<script>", 0, null);
+            compiledScripts.put(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected static ScriptableObject getSharedScope(Context context) {
+        ScriptableObject scope = sharedScope;
+        if (scope == null) {
+            synchronized (SecureJavascriptUtil.class) {
+                scope = sharedScope;
+                if (scope == null) {
+                    scope = context.initStandardObjects(null, true);
+
+                    // Force the lazily loaded standard objects to be created before sealing, so the scope can be used by multiple threads
+                    context.evaluateString(scope, "RegExp; getClass; java; Packages; JavaAdapter;", "<init>", 0, null);
+                    scope.sealObject();
+                    sharedScope = scope;
+                }
+            }
+        }
+        return scope;
+    }
+
+    protected static Map<String, Script> createCompiledScriptCache(final int limit) {
+        return Collections.synchronizedMap(new LinkedHashMap<String, Script>(Math.max(Math.min(limit, 64), 1), 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry<String, Script> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    public static void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        compiledScripts = createCompiledScriptCache(compiledScriptCacheSize);
+    }
+
+    public static void clearCompiledScriptCache() {
+        compiledScripts.clear();
+    }
+
 }
@@ -18,6 +18,8 @@ import org.flowable.engine.delegate.VariableScope;
 import org.mozilla.javascript.Scriptable;
 
 /**
+ * Resolves the standard objects of the shared scope (when set) and otherwise the execution, task and variables of the variable scope.
+ * 
  * @author Joram Barrez
  */
 public class SecureScriptScope implements Scriptable {
@@ -26,10 +28,16 @@ public class SecureScriptScope implements Scriptable {
     private static final String KEYWORD_TASK = "task";
 
     protected VariableScope variableScope;
+    protected Scriptable sharedScope;
 
     public SecureScriptScope(VariableScope variableScope) {
+        this(variableScope, null);
+    }
+
+    public SecureScriptScope(VariableScope variableScope, Scriptable sharedScope) {
         super();
         this.variableScope = variableScope;
+        this.sharedScope = sharedScope;
     }
 
     @Override
@@ -39,6 +47,10 @@ public class SecureScriptScope implements Scriptable {
 
     @Override
     public Object get(String s, Scriptable scriptable) {
+        if (sharedScope != null && sharedScope.has(s, sharedScope)) {
+            return sharedScope.get(s, sharedScope);
+        }
+
         if (KEYWORD_EXECUTION.equals(s) && variableScope instanceof DelegateExecution) {
             return variableScope;
         } else if (KEYWORD_TASK.equals(s) && variableScope instanceof DelegateTask) {
@@ -56,6 +68,9 @@ public class SecureScriptScope implements Scriptable {
 
     @Override
     public boolean has(String s, Scriptable scriptable) {
+        if (sharedScope != null && sharedScope.has(s, sharedScope)) {
+            return true;
+        }
         return variableScope.hasVariable(s);
     }
 
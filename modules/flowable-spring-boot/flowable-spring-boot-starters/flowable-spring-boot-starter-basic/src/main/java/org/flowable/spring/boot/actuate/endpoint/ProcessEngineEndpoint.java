@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentWeightedCache;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
@@ -87,6 +88,8 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+        } else if (deploymentCache instanceof ConcurrentWeightedCache) {
+            metrics.put("cachedProcessDefinitionCount", ((ConcurrentWeightedCache) deploymentCache).size());
         }
         return metrics;
     }